@@ -0,0 +1,269 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.step.item.BatchRetryTemplate;
+import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.ChunkProcessor;
+import org.springframework.batch.core.step.item.ChunkProvider;
+import org.springframework.batch.core.step.item.FaultTolerantChunkProcessor;
+import org.springframework.batch.core.step.item.FaultTolerantChunkProvider;
+import org.springframework.batch.core.step.item.ForceRollbackForWriteSkipException;
+import org.springframework.batch.core.step.item.SimpleChunkProcessor;
+import org.springframework.batch.core.step.item.SimpleChunkProvider;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
+import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures the per-item overhead of the chunk-oriented processing model, i.e. a
+ * {@link ChunkOrientedTasklet} driven in one transaction per chunk, the same way a
+ * {@link org.springframework.batch.core.step.tasklet.TaskletStep} does, against an
+ * in-memory reader and writer. Job repository updates are deliberately left out so that
+ * the result only reflects the cost of the read-process-write machinery.
+ * <p>
+ * Results are reported per item. Run with:
+ *
+ * <pre class="code">
+ * ./mvnw -pl spring-batch-benchmarks -am package -DskipTests
+ * java -jar spring-batch-benchmarks/target/benchmarks.jar ChunkOrientedTaskletBenchmark
+ * </pre>
+ *
+ * @since 5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkOrientedTaskletBenchmark {
+
+	private static final int ITEM_COUNT = 10_000;
+
+	/**
+	 * Flavour of chunk provider and processor to use.
+	 */
+	public enum ChunkMode {
+
+		/**
+		 * {@link SimpleChunkProvider} and {@link SimpleChunkProcessor}.
+		 */
+		SIMPLE,
+
+		/**
+		 * {@link FaultTolerantChunkProvider} and {@link FaultTolerantChunkProcessor} with
+		 * neither skip nor retry enabled.
+		 */
+		FAULT_TOLERANT,
+
+		/**
+		 * {@link FaultTolerantChunkProvider} and {@link FaultTolerantChunkProcessor} with
+		 * a skip limit and a retry limit.
+		 */
+		FAULT_TOLERANT_SKIP_RETRY
+
+	}
+
+	/**
+	 * Transaction manager used to demarcate each chunk.
+	 */
+	public enum TransactionManagerType {
+
+		/**
+		 * {@link ResourcelessTransactionManager}.
+		 */
+		RESOURCELESS,
+
+		/**
+		 * {@link JdbcTransactionManager} on an embedded HSQLDB database.
+		 */
+		JDBC
+
+	}
+
+	@Param({ "1", "10", "100", "1000" })
+	public int chunkSize;
+
+	@Param({ "0", "5" })
+	public int listenerCount;
+
+	@Param
+	public ChunkMode mode;
+
+	@Param
+	public TransactionManagerType transactionManager;
+
+	private final InMemoryItemReader<Integer> reader = new InMemoryItemReader<>(createItems());
+
+	private final CountingItemWriter<Integer> writer = new CountingItemWriter<>();
+
+	private final ItemProcessor<Integer, Integer> processor = item -> item + 1;
+
+	private EmbeddedDatabase database;
+
+	private TransactionTemplate transactionTemplate;
+
+	private ChunkOrientedTasklet<Integer> tasklet;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.transactionTemplate = new TransactionTemplate(createTransactionManager());
+		List<StepListener> listeners = new ArrayList<>();
+		for (int i = 0; i < this.listenerCount; i++) {
+			listeners.add(new NoOpItemListener<Integer, Integer>());
+		}
+		this.tasklet = new ChunkOrientedTasklet<>(createChunkProvider(listeners), createChunkProcessor(listeners));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (this.database != null) {
+			this.database.shutdown();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ITEM_COUNT)
+	public long chunkOrientedTasklet() {
+		this.reader.reset();
+		this.writer.reset();
+		StepExecution stepExecution = new StepExecution("step",
+				new JobExecution(new JobInstance(1L, "job"), new JobParameters()));
+		RepeatStatus status;
+		do {
+			StepContribution contribution = stepExecution.createStepContribution();
+			ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+			status = this.transactionTemplate.execute(transactionStatus -> {
+				try {
+					return this.tasklet.execute(contribution, chunkContext);
+				}
+				catch (RuntimeException e) {
+					throw e;
+				}
+				catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			stepExecution.apply(contribution);
+		}
+		while (status != null && status.isContinuable());
+		return this.writer.getCount();
+	}
+
+	private PlatformTransactionManager createTransactionManager() {
+		if (this.transactionManager == TransactionManagerType.JDBC) {
+			this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL)
+				.generateUniqueName(true)
+				.build();
+			return new JdbcTransactionManager(this.database);
+		}
+		return new ResourcelessTransactionManager();
+	}
+
+	private ChunkProvider<Integer> createChunkProvider(List<StepListener> listeners) {
+		RepeatTemplate repeatTemplate = new RepeatTemplate();
+		repeatTemplate.setCompletionPolicy(new SimpleCompletionPolicy(this.chunkSize));
+		if (this.mode == ChunkMode.SIMPLE) {
+			SimpleChunkProvider<Integer> chunkProvider = new SimpleChunkProvider<>(this.reader, repeatTemplate);
+			chunkProvider.setListeners(listeners);
+			return chunkProvider;
+		}
+		FaultTolerantChunkProvider<Integer> chunkProvider = new FaultTolerantChunkProvider<>(this.reader,
+				repeatTemplate);
+		chunkProvider.setSkipPolicy(createSkipPolicy());
+		chunkProvider.setListeners(listeners);
+		return chunkProvider;
+	}
+
+	private ChunkProcessor<Integer> createChunkProcessor(List<StepListener> listeners) {
+		if (this.mode == ChunkMode.SIMPLE) {
+			SimpleChunkProcessor<Integer, Integer> chunkProcessor = new SimpleChunkProcessor<>(this.processor,
+					this.writer);
+			chunkProcessor.setListeners(listeners);
+			return chunkProcessor;
+		}
+		BatchRetryTemplate retryTemplate = new BatchRetryTemplate();
+		int retryLimit = this.mode == ChunkMode.FAULT_TOLERANT_SKIP_RETRY ? 3 : 0;
+		retryTemplate.setRetryPolicy(new SimpleRetryPolicy(retryLimit,
+				Map.of(IllegalStateException.class, true, ForceRollbackForWriteSkipException.class, true)));
+		FaultTolerantChunkProcessor<Integer, Integer> chunkProcessor = new FaultTolerantChunkProcessor<>(this.processor,
+				this.writer, retryTemplate);
+		SkipPolicy skipPolicy = createSkipPolicy();
+		chunkProcessor.setProcessSkipPolicy(skipPolicy);
+		chunkProcessor.setWriteSkipPolicy(skipPolicy);
+		chunkProcessor.setListeners(listeners);
+		return chunkProcessor;
+	}
+
+	private SkipPolicy createSkipPolicy() {
+		if (this.mode == ChunkMode.FAULT_TOLERANT_SKIP_RETRY) {
+			return new LimitCheckingItemSkipPolicy(10, Map.of(IllegalStateException.class, true));
+		}
+		return new NeverSkipItemSkipPolicy();
+	}
+
+	private static Integer[] createItems() {
+		Integer[] items = new Integer[ITEM_COUNT];
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			items[i] = i;
+		}
+		return items;
+	}
+
+}
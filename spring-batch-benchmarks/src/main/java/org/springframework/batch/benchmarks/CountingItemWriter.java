@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * {@link ItemWriter} that only counts the items it receives, so that benchmarks measure
+ * the framework overhead rather than any I/O.
+ *
+ * @param <T> type of the items
+ * @since 5.1
+ */
+public class CountingItemWriter<T> implements ItemWriter<T> {
+
+	private long count;
+
+	@Override
+	public void write(Chunk<? extends T> chunk) {
+		this.count += chunk.size();
+	}
+
+	/**
+	 * @return the number of items written since the last {@link #reset()}
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Reset the item count.
+	 */
+	public void reset() {
+		this.count = 0;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+/**
+ * Measures the cost of tokenizing a delimited line with a {@link DelimitedLineTokenizer}
+ * and of reading some of its fields from the resulting {@link FieldSet}, either as
+ * Strings or parsed as numbers.
+ * <p>
+ * Results are reported per line. Run with:
+ *
+ * <pre class="code">
+ * ./mvnw -pl spring-batch-benchmarks -am package -DskipTests
+ * java -jar spring-batch-benchmarks/target/benchmarks.jar DelimitedLineTokenizerBenchmark
+ * </pre>
+ *
+ * @since 5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DelimitedLineTokenizerBenchmark {
+
+	private static final int COLUMN_COUNT = 30;
+
+	/**
+	 * Tokenization path of the {@link DelimitedLineTokenizer}.
+	 */
+	public enum Tokenization {
+
+		/**
+		 * A subclass of {@link DelimitedLineTokenizer}, which always splits the line into
+		 * Strings.
+		 */
+		GENERAL,
+
+		/**
+		 * A {@link DelimitedLineTokenizer} with a single character delimiter, which scans
+		 * the line once and extracts fields when they are read.
+		 */
+		SINGLE_SCAN
+
+	}
+
+	@Param
+	public Tokenization tokenization;
+
+	@Param({ "3", "30" })
+	public int readFieldCount;
+
+	private DelimitedLineTokenizer tokenizer;
+
+	private String line;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.tokenizer = switch (this.tokenization) {
+			case GENERAL -> new DelimitedLineTokenizer() {
+			};
+			case SINGLE_SCAN -> new DelimitedLineTokenizer();
+		};
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < COLUMN_COUNT; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(i % 3 == 0 ? "\"value " + i + "\"" : String.valueOf(i * 1_000_003));
+		}
+		this.line = builder.toString();
+	}
+
+	@Benchmark
+	public void tokenize(Blackhole blackhole) {
+		FieldSet fieldSet = this.tokenizer.tokenize(this.line);
+		for (int i = 0; i < this.readFieldCount; i++) {
+			blackhole.consume(fieldSet.readString(i));
+		}
+	}
+
+	@Benchmark
+	public void tokenizeAndParse(Blackhole blackhole) {
+		FieldSet fieldSet = this.tokenizer.tokenize(this.line);
+		for (int i = 0; i < this.readFieldCount; i++) {
+			if (i % 3 == 0) {
+				blackhole.consume(fieldSet.readString(i));
+			}
+			else {
+				blackhole.consume(fieldSet.readLong(i));
+			}
+		}
+	}
+
+}
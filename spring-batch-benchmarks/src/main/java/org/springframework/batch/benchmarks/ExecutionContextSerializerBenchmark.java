@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.BinaryExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+
+/**
+ * Compares the {@link ExecutionContextSerializer} implementations on the kind of contents
+ * that are saved at each commit: a small context holding reader and writer positions, and
+ * a large one holding a list of files, as typically found in a partition.
+ * <p>
+ * Run with:
+ *
+ * <pre class="code">
+ * ./mvnw -pl spring-batch-benchmarks -am package -DskipTests
+ * java -jar spring-batch-benchmarks/target/benchmarks.jar ExecutionContextSerializerBenchmark
+ * </pre>
+ *
+ * @since 5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionContextSerializerBenchmark {
+
+	/**
+	 * Serializer under test.
+	 */
+	public enum SerializerType {
+
+		/**
+		 * {@link DefaultExecutionContextSerializer}.
+		 */
+		DEFAULT,
+
+		/**
+		 * {@link Jackson2ExecutionContextStringSerializer}.
+		 */
+		JACKSON,
+
+		/**
+		 * {@link BinaryExecutionContextSerializer} without compression.
+		 */
+		BINARY,
+
+		/**
+		 * {@link BinaryExecutionContextSerializer} with compression.
+		 */
+		BINARY_COMPRESSED
+
+	}
+
+	/**
+	 * Shape of the serialized context.
+	 */
+	public enum ContextType {
+
+		/**
+		 * A few counters and a timestamp, as saved by item readers and writers.
+		 */
+		SMALL,
+
+		/**
+		 * A list of 500 file names next to the counters.
+		 */
+		LARGE
+
+	}
+
+	@Param
+	public SerializerType serializer;
+
+	@Param
+	public ContextType context;
+
+	private ExecutionContextSerializer executionContextSerializer;
+
+	private Map<String, Object> contextMap;
+
+	private byte[] serializedContext;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.executionContextSerializer = createSerializer();
+		this.contextMap = createContext();
+		this.serializedContext = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+		this.executionContextSerializer.serialize(this.contextMap, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Map<String, Object> deserialize() throws IOException {
+		return this.executionContextSerializer.deserialize(new ByteArrayInputStream(this.serializedContext));
+	}
+
+	private ExecutionContextSerializer createSerializer() {
+		return switch (this.serializer) {
+			case DEFAULT -> new DefaultExecutionContextSerializer();
+			case JACKSON -> new Jackson2ExecutionContextStringSerializer();
+			case BINARY -> new BinaryExecutionContextSerializer();
+			case BINARY_COMPRESSED -> {
+				BinaryExecutionContextSerializer binarySerializer = new BinaryExecutionContextSerializer();
+				binarySerializer.setCompress(true);
+				yield binarySerializer;
+			}
+		};
+	}
+
+	private Map<String, Object> createContext() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+		map.put("batch.stepType", "org.springframework.batch.core.step.tasklet.TaskletStep");
+		map.put("reader.read.count", 123456);
+		map.put("writer.current.count", 9876543210L);
+		map.put("writer.written", 123456L);
+		map.put("lastUpdated", new Date(1697529600000L));
+		if (this.context == ContextType.LARGE) {
+			List<String> files = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				files.add("/data/input/2023/10/17/transactions-" + i + ".csv");
+			}
+			map.put("files", files);
+		}
+		return map;
+	}
+
+}
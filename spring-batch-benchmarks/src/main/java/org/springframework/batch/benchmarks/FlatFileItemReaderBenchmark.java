@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.BufferedReaderFactory;
+import org.springframework.batch.item.file.DefaultBufferedReaderFactory;
+import org.springframework.batch.item.file.FileChannelBufferedReaderFactory;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Measures the cost of reading a delimited file with a {@link FlatFileItemReader}. The
+ * file is written to a temporary directory at the start of each trial and is small enough
+ * to stay in the page cache, so that the result reflects the cost of decoding and mapping
+ * lines rather than the disk.
+ * <p>
+ * Results are reported per line. Run with:
+ *
+ * <pre class="code">
+ * ./mvnw -pl spring-batch-benchmarks -am package -DskipTests
+ * java -jar spring-batch-benchmarks/target/benchmarks.jar FlatFileItemReaderBenchmark
+ * </pre>
+ *
+ * @since 5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatFileItemReaderBenchmark {
+
+	private static final int LINE_COUNT = 100_000;
+
+	/**
+	 * {@link BufferedReaderFactory} used to read the file.
+	 */
+	public enum ReaderFactoryType {
+
+		/**
+		 * {@link DefaultBufferedReaderFactory}.
+		 */
+		DEFAULT,
+
+		/**
+		 * {@link FileChannelBufferedReaderFactory}.
+		 */
+		FILE_CHANNEL
+
+	}
+
+	@Param
+	public ReaderFactoryType readerFactory;
+
+	private Path file;
+
+	private FlatFileItemReader<?> reader;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.file = Files.createTempFile("flat-file-benchmark", ".csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+			for (int i = 0; i < LINE_COUNT; i++) {
+				writer.write(i + ",customer-" + i + ",Springfield,42 Evergreen Terrace," + (i % 97) + ".99,"
+						+ (i % 2 == 0) + ",2023-10-17,EUR");
+				writer.newLine();
+			}
+		}
+		FlatFileItemReader<Object> flatFileItemReader = new FlatFileItemReader<>();
+		flatFileItemReader.setResource(new FileSystemResource(this.file));
+		flatFileItemReader.setLineMapper(createLineMapper());
+		flatFileItemReader.setBufferedReaderFactory(createBufferedReaderFactory());
+		flatFileItemReader.setSaveState(false);
+		this.reader = flatFileItemReader;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINE_COUNT)
+	public int read() throws Exception {
+		this.reader.open(new ExecutionContext());
+		int count = 0;
+		while (this.reader.read() != null) {
+			count++;
+		}
+		this.reader.close();
+		return count;
+	}
+
+	@SuppressWarnings("unchecked")
+	private LineMapper<Object> createLineMapper() {
+		return (LineMapper<Object>) (LineMapper<?>) new PassThroughLineMapper();
+	}
+
+	private BufferedReaderFactory createBufferedReaderFactory() {
+		return switch (this.readerFactory) {
+			case DEFAULT -> new DefaultBufferedReaderFactory();
+			case FILE_CHANNEL -> new FileChannelBufferedReaderFactory();
+		};
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import org.springframework.batch.item.ItemReader;
+import org.springframework.lang.Nullable;
+
+/**
+ * Resettable {@link ItemReader} over a pre-allocated array of items. Unlike
+ * {@link org.springframework.batch.item.support.ListItemReader}, reading does not copy or
+ * mutate the backing data, so the same reader can be replayed across benchmark
+ * invocations without adding allocation of its own to the measurement.
+ *
+ * @param <T> type of the items
+ * @since 5.1
+ */
+public class InMemoryItemReader<T> implements ItemReader<T> {
+
+	private final T[] items;
+
+	private int index;
+
+	public InMemoryItemReader(T[] items) {
+		this.items = items;
+	}
+
+	@Nullable
+	@Override
+	public T read() {
+		if (this.index < this.items.length) {
+			return this.items[this.index++];
+		}
+		return null;
+	}
+
+	/**
+	 * Rewind the reader to the first item.
+	 */
+	public void reset() {
+		this.index = 0;
+	}
+
+}
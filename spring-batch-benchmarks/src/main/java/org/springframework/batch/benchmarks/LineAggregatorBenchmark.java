@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.item.file.transform.AppendingLineAggregator;
+import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
+import org.springframework.batch.item.file.transform.FixedLengthLineAggregator;
+import org.springframework.batch.item.file.transform.FormatterLineAggregator;
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.batch.item.file.transform.MethodHandleFieldExtractor;
+import org.springframework.batch.item.file.transform.Range;
+
+/**
+ * Measures the cost of aggregating an item into a fixed-width line, as a
+ * {@link org.springframework.batch.item.file.FlatFileItemWriter} does for each item of a
+ * chunk.
+ * <p>
+ * Results are reported per item. Run with:
+ *
+ * <pre class="code">
+ * ./mvnw -pl spring-batch-benchmarks -am package -DskipTests
+ * java -jar spring-batch-benchmarks/target/benchmarks.jar LineAggregatorBenchmark
+ * </pre>
+ *
+ * @since 5.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineAggregatorBenchmark {
+
+	private static final String[] NAMES = { "id", "name", "quantity", "amount" };
+
+	/**
+	 * {@link LineAggregator} used to aggregate items.
+	 */
+	public enum AggregatorType {
+
+		/**
+		 * {@link FormatterLineAggregator} with a {@link BeanWrapperFieldExtractor}.
+		 */
+		FORMATTER,
+
+		/**
+		 * {@link FixedLengthLineAggregator} with a {@link MethodHandleFieldExtractor},
+		 * appending to a reused {@link StringBuilder}.
+		 */
+		FIXED_LENGTH
+
+	}
+
+	@Param
+	public AggregatorType aggregator;
+
+	private LineAggregator<Order> lineAggregator;
+
+	private final StringBuilder builder = new StringBuilder();
+
+	private final Order order = new Order(123456789L, "customer-42", 7, new BigDecimal("1234.50"));
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.lineAggregator = switch (this.aggregator) {
+			case FORMATTER -> {
+				BeanWrapperFieldExtractor<Order> fieldExtractor = new BeanWrapperFieldExtractor<>();
+				fieldExtractor.setNames(NAMES);
+				FormatterLineAggregator<Order> formatterLineAggregator = new FormatterLineAggregator<>();
+				formatterLineAggregator.setFieldExtractor(fieldExtractor);
+				formatterLineAggregator.setFormat("%12d%-20s%6d%12s");
+				yield formatterLineAggregator;
+			}
+			case FIXED_LENGTH -> {
+				MethodHandleFieldExtractor<Order> fieldExtractor = new MethodHandleFieldExtractor<>();
+				fieldExtractor.setNames(NAMES);
+				FixedLengthLineAggregator<Order> fixedLengthLineAggregator = new FixedLengthLineAggregator<>();
+				fixedLengthLineAggregator.setFieldExtractor(fieldExtractor);
+				fixedLengthLineAggregator.setColumns(new Range(1, 12), new Range(13, 32), new Range(33, 38),
+						new Range(39, 50));
+				yield fixedLengthLineAggregator;
+			}
+		};
+	}
+
+	@Benchmark
+	public int aggregate() {
+		this.builder.setLength(0);
+		if (this.lineAggregator instanceof AppendingLineAggregator<Order> appendingLineAggregator) {
+			appendingLineAggregator.aggregate(this.order, this.builder);
+		}
+		else {
+			this.builder.append(this.lineAggregator.aggregate(this.order));
+		}
+		return this.builder.length();
+	}
+
+	/**
+	 * Item written by the benchmark.
+	 */
+	public static class Order {
+
+		private final long id;
+
+		private final String name;
+
+		private final int quantity;
+
+		private final BigDecimal amount;
+
+		public Order(long id, String name, int quantity, BigDecimal amount) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.amount = amount;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+
+		public BigDecimal getAmount() {
+			return this.amount;
+		}
+
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits the values of an integral column of a
+ * database table, typically a numeric primary key, into consecutive ranges. Creates an
+ * {@link ExecutionContext} per range with the first and last value of the range (both
+ * inclusive), and labels them as <code>{partition0, partition1, ..., partitionN}</code>.
+ * The grid size is the number of ranges to create.
+ * <p>
+ * By default, the interval between the <code>MIN</code> and <code>MAX</code> values of
+ * the column is split evenly, which only gives partitions of the same size when the
+ * values are uniformly distributed. When a {@link #setHistogramSize(int) histogram size}
+ * is set, the number of rows in as many equal intervals of values is counted with a
+ * single <code>GROUP BY</code> query and the ranges are built so that each of them holds
+ * about the same number of rows, up to the width of an interval.
+ * <p>
+ * Each range can be read by a step scoped
+ * {@link org.springframework.batch.item.database.JdbcPagingItemReader} or
+ * {@link org.springframework.batch.item.database.JdbcCursorItemReader} binding the
+ * {@link #MIN_VALUE_KEY minValue} and {@link #MAX_VALUE_KEY maxValue} of its partition in
+ * a <code>BETWEEN</code> clause. No partition is created if there is no row to read.
+ *
+ * @since 5.1
+ */
+public class ColumnRangePartitioner implements Partitioner {
+
+	/**
+	 * The name of the key for the first value of a range.
+	 */
+	public static final String MIN_VALUE_KEY = "minValue";
+
+	/**
+	 * The name of the key for the last value of a range.
+	 */
+	public static final String MAX_VALUE_KEY = "maxValue";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private JdbcOperations jdbcTemplate;
+
+	private String table;
+
+	private String column;
+
+	private String whereClause;
+
+	private int histogramSize = 0;
+
+	/**
+	 * The data source for connecting to the database.
+	 * @param dataSource a {@link DataSource}
+	 */
+	public void setDataSource(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * The name of the SQL table the data are in.
+	 * @param table the name of the table
+	 */
+	public void setTable(String table) {
+		this.table = table;
+	}
+
+	/**
+	 * The name of the integral column to partition.
+	 * @param column the column name
+	 */
+	public void setColumn(String column) {
+		this.column = column;
+	}
+
+	/**
+	 * An optional condition restricting the rows to partition, without the
+	 * <code>WHERE</code> keyword. It should match the one of the partitioned readers.
+	 * @param whereClause the condition on the rows to partition
+	 */
+	public void setWhereClause(String whereClause) {
+		this.whereClause = whereClause;
+	}
+
+	/**
+	 * The number of intervals of values counted to balance the ranges. Defaults to 0,
+	 * meaning that the interval between the minimum and maximum values is split evenly. A
+	 * larger histogram gives better balanced ranges at the cost of a query scanning the
+	 * partitioned column.
+	 * @param histogramSize the number of intervals of the histogram
+	 */
+	public void setHistogramSize(int histogramSize) {
+		Assert.isTrue(histogramSize >= 0, "histogramSize must not be negative");
+		this.histogramSize = histogramSize;
+	}
+
+	/**
+	 * Split the values of the column into ranges and assign each range to an
+	 * {@link ExecutionContext}.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.notNull(jdbcTemplate, "A data source is required");
+		Assert.hasText(table, "A table is required");
+		Assert.hasText(column, "A column is required");
+		String from = " FROM " + table + (StringUtils.hasText(whereClause) ? " WHERE " + whereClause : "");
+		Map<String, Object> bounds = jdbcTemplate
+			.queryForMap("SELECT MIN(" + column + ") AS MIN_VALUE, MAX(" + column + ") AS MAX_VALUE" + from);
+		Number min = (Number) bounds.get("MIN_VALUE");
+		Number max = (Number) bounds.get("MAX_VALUE");
+		if (min == null || max == null) {
+			return new HashMap<>();
+		}
+
+		List<Long> boundaries = findBoundaries(min.longValue(), max.longValue(), Math.max(gridSize, 1), from);
+		Map<String, ExecutionContext> map = new HashMap<>(boundaries.size());
+		for (int i = 0; i < boundaries.size() - 1; i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putLong(MIN_VALUE_KEY, boundaries.get(i));
+			context.putLong(MAX_VALUE_KEY, boundaries.get(i + 1) - 1);
+			map.put(PARTITION_KEY + i, context);
+		}
+		return map;
+	}
+
+	/**
+	 * Find the first value of each range, followed by the value after the last one.
+	 */
+	private List<Long> findBoundaries(long min, long max, int gridSize, String from) {
+		List<Long> boundaries = new ArrayList<>(gridSize + 1);
+		boundaries.add(min);
+		if (histogramSize > 0) {
+			long width = Math.subtractExact(max, min) / histogramSize + 1;
+			String interval = "FLOOR((" + column + " - (" + min + ")) / " + width + ")";
+			TreeMap<Long, Long> histogram = new TreeMap<>();
+			jdbcTemplate.query("SELECT " + interval + ", COUNT(*)" + from + " GROUP BY " + interval,
+					(RowCallbackHandler) rs -> histogram.put(rs.getLong(1), rs.getLong(2)));
+			long total = histogram.values().stream().mapToLong(Long::longValue).sum();
+			long cumulated = 0;
+			int range = 1;
+			for (Map.Entry<Long, Long> entry : histogram.entrySet()) {
+				cumulated += entry.getValue();
+				long end = min + (entry.getKey() + 1) * width;
+				if (range < gridSize && cumulated * gridSize >= total * range && end <= max) {
+					boundaries.add(end);
+					while (range < gridSize && cumulated * gridSize >= total * range) {
+						range++;
+					}
+				}
+			}
+		}
+		else {
+			long size = Math.subtractExact(max, min) / gridSize + 1;
+			for (long start = min + size; start <= max && boundaries.size() < gridSize; start += size) {
+				boundaries.add(start);
+			}
+		}
+		boundaries.add(max + 1);
+		return boundaries;
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.core.partition.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single flat file into byte ranges
+ * of roughly equal size, each starting at the beginning of a line. Creates an
+ * {@link ExecutionContext} per range with the file name and the start and end byte
+ * positions of the range, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. The grid size is the number of
+ * ranges to create, fewer ranges are created if the file has fewer lines.
+ * <p>
+ * Each range can be read by a step scoped
+ * {@link org.springframework.batch.item.file.FlatFileItemReader} configured with the
+ * {@link org.springframework.batch.item.file.FlatFileItemReader#setRangeStart(long) range
+ * start} and
+ * {@link org.springframework.batch.item.file.FlatFileItemReader#setRangeEnd(long) range
+ * end} of its partition, and saves its progress in the execution context of its
+ * partition. Lines must be terminated by {@code \n} or {@code \r\n} and records must not
+ * span multiple lines.
+ *
+ * @since 5.1
+ */
+public class FlatFileRangePartitioner implements Partitioner {
+
+	/**
+	 * The name of the key for the byte position of the first line of a range.
+	 */
+	public static final String RANGE_START_KEY = "rangeStart";
+
+	/**
+	 * The name of the key for the byte position after the last line of a range.
+	 */
+	public static final String RANGE_END_KEY = "rangeEnd";
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private static final byte LF = '\n';
+
+	private Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	private int linesToSkip = 0;
+
+	/**
+	 * The file to split into ranges.
+	 * @param resource the resource to use
+	 */
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * The number of header lines at the start of the file. They are kept in the first
+	 * range, which is the only one skipping them when read, and are not counted when
+	 * splitting the file. Defaults to 0.
+	 * @param linesToSkip the number of lines to skip
+	 */
+	public void setLinesToSkip(int linesToSkip) {
+		this.linesToSkip = linesToSkip;
+	}
+
+	/**
+	 * Split the file into ranges and assign the file name and the range to an
+	 * {@link ExecutionContext}.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.notNull(resource, "A resource is required");
+		Assert.state(resource.exists(), "Resource does not exist: " + resource);
+		List<Long> boundaries;
+		String fileName;
+		try {
+			fileName = resource.getURL().toExternalForm();
+			boundaries = findBoundaries(Math.max(gridSize, 1));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be split: " + resource, e);
+		}
+		Map<String, ExecutionContext> map = new HashMap<>(boundaries.size());
+		for (int i = 0; i < boundaries.size() - 1; i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString(keyName, fileName);
+			context.putLong(RANGE_START_KEY, boundaries.get(i));
+			context.putLong(RANGE_END_KEY, boundaries.get(i + 1));
+			map.put(PARTITION_KEY + i, context);
+		}
+		return map;
+	}
+
+	private List<Long> findBoundaries(int gridSize) throws IOException {
+		long size = resource.contentLength();
+		long dataStart = 0;
+		for (int i = 0; i < linesToSkip && dataStart < size; i++) {
+			dataStart = findLineStart(dataStart + 1, size);
+		}
+		List<Long> boundaries = new ArrayList<>(gridSize + 1);
+		boundaries.add(0L);
+		for (int i = 1; i < gridSize; i++) {
+			long target = dataStart + (size - dataStart) * i / gridSize;
+			long boundary = findLineStart(Math.max(target, boundaries.get(boundaries.size() - 1) + 1), size);
+			if (boundary >= size) {
+				break;
+			}
+			boundaries.add(boundary);
+		}
+		boundaries.add(Math.max(size, boundaries.get(boundaries.size() - 1)));
+		return boundaries;
+	}
+
+	/**
+	 * Find the first line start at or after the given position, scanning forward from the
+	 * byte before it to the next line feed. This is the position itself if the byte
+	 * before it is a line feed, or the size of the resource if no line starts after it.
+	 */
+	private long findLineStart(long position, long size) throws IOException {
+		if (position >= size) {
+			return size;
+		}
+		byte[] buffer = new byte[8192];
+		long offset = position - 1;
+		if (resource.isFile()) {
+			try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+				ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+				int count;
+				while ((count = channel.read(byteBuffer.clear(), offset)) > 0) {
+					int index = indexOfLineFeed(buffer, count);
+					if (index >= 0) {
+						return offset + index + 1;
+					}
+					offset += count;
+				}
+			}
+		}
+		else {
+			try (InputStream inputStream = resource.getInputStream()) {
+				inputStream.skipNBytes(offset);
+				int count;
+				while ((count = inputStream.read(buffer)) > 0) {
+					int index = indexOfLineFeed(buffer, count);
+					if (index >= 0) {
+						return offset + index + 1;
+					}
+					offset += count;
+				}
+			}
+		}
+		return size;
+	}
+
+	private static int indexOfLineFeed(byte[] buffer, int count) {
+		for (int i = 0; i < count; i++) {
+			if (buffer[i] == LF) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link ExecutionContextSerializer} that writes a compact,
+ * type-tagged binary representation of the execution context, encoded in Base64.
+ * <p>
+ * Strings, primitive wrappers, {@link BigDecimal}, {@link BigInteger}, {@link Date},
+ * {@code java.time} dates and times, byte arrays and {@link ArrayList}, {@link HashSet},
+ * {@link LinkedHashSet}, {@link HashMap} and {@link LinkedHashMap} instances of these
+ * types are written with a one byte type tag followed by their value. Other
+ * {@link Serializable} values are written with Java serialization, as done by the
+ * {@link DefaultExecutionContextSerializer}.
+ * <p>
+ * The content starts with a format version, so that the content written by this version
+ * can still be read when new type tags are added. If {@link #setCompress(boolean)
+ * compression} is enabled, contents larger than the {@link #setCompressionThreshold(int)
+ * compression threshold} are deflated.
+ *
+ * @since 5.1
+ */
+public class BinaryExecutionContextSerializer implements ExecutionContextSerializer {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int FLAG_DEFLATED = 1;
+
+	private static final int DEFAULT_COMPRESSION_THRESHOLD = 256;
+
+	// type tags, to be kept stable across versions
+
+	private static final byte NULL = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte DOUBLE = 4;
+
+	private static final byte FLOAT = 5;
+
+	private static final byte BOOLEAN = 6;
+
+	private static final byte SHORT = 7;
+
+	private static final byte BYTE = 8;
+
+	private static final byte CHARACTER = 9;
+
+	private static final byte BIG_DECIMAL = 10;
+
+	private static final byte BIG_INTEGER = 11;
+
+	private static final byte DATE = 12;
+
+	private static final byte LOCAL_DATE = 13;
+
+	private static final byte LOCAL_TIME = 14;
+
+	private static final byte LOCAL_DATE_TIME = 15;
+
+	private static final byte INSTANT = 16;
+
+	private static final byte BYTE_ARRAY = 17;
+
+	private static final byte ARRAY_LIST = 18;
+
+	private static final byte HASH_SET = 19;
+
+	private static final byte LINKED_HASH_SET = 20;
+
+	private static final byte HASH_MAP = 21;
+
+	private static final byte LINKED_HASH_MAP = 22;
+
+	private static final byte SERIALIZED = 23;
+
+	private boolean compress = false;
+
+	private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
+	/**
+	 * Set whether contents larger than the compression threshold should be deflated.
+	 * Defaults to {@code false}.
+	 * @param compress whether to compress large contents
+	 */
+	public void setCompress(boolean compress) {
+		this.compress = compress;
+	}
+
+	/**
+	 * Set the size in bytes above which contents are deflated, if compression is enabled.
+	 * Defaults to 256.
+	 * @param compressionThreshold the compression threshold, must not be negative
+	 */
+	public void setCompressionThreshold(int compressionThreshold) {
+		Assert.isTrue(compressionThreshold >= 0, "The compression threshold must not be negative");
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	/**
+	 * Serializes an execution context to the provided {@link OutputStream}. The stream is
+	 * not closed prior to it's return.
+	 * @param context {@link Map} contents of the {@code ExecutionContext}.
+	 * @param out {@link OutputStream} where the serialized context information will be
+	 * written.
+	 */
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		Assert.notNull(context, "context is required");
+		Assert.notNull(out, "OutputStream is required");
+
+		var content = new ByteArrayOutputStream(256);
+		var dataOutput = new DataOutputStream(content);
+		writeSize(dataOutput, context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			Assert.notNull(entry.getValue(), "A null value was found");
+			writeString(dataOutput, entry.getKey());
+			writeValue(dataOutput, entry.getValue());
+		}
+		dataOutput.flush();
+
+		var byteArrayOutputStream = new ByteArrayOutputStream(content.size() + 2);
+		boolean deflate = this.compress && content.size() > this.compressionThreshold;
+		byteArrayOutputStream.write(FORMAT_VERSION);
+		byteArrayOutputStream.write(deflate ? FLAG_DEFLATED : 0);
+		if (deflate) {
+			try (var deflaterOutputStream = new DeflaterOutputStream(byteArrayOutputStream)) {
+				content.writeTo(deflaterOutputStream);
+			}
+		}
+		else {
+			content.writeTo(byteArrayOutputStream);
+		}
+		out.write(Base64.getEncoder().encode(byteArrayOutputStream.toByteArray()));
+	}
+
+	/**
+	 * Deserializes an execution context from the provided {@link InputStream}.
+	 * @param inputStream {@link InputStream} containing the information to be
+	 * deserialized.
+	 * @return the object serialized in the provided {@link InputStream}
+	 */
+	@Override
+	public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+		byte[] bytes = Base64.getDecoder().decode(inputStream.readAllBytes());
+		if (bytes.length < 2) {
+			throw new IllegalArgumentException("Failed to deserialize object: content is too short");
+		}
+		int version = bytes[0];
+		if (version > FORMAT_VERSION || version < 1) {
+			throw new IllegalArgumentException("Failed to deserialize object: unsupported format version " + version);
+		}
+		InputStream content = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+		if ((bytes[1] & FLAG_DEFLATED) != 0) {
+			content = new InflaterInputStream(content);
+		}
+		try (var dataInput = new DataInputStream(content)) {
+			int size = readSize(dataInput);
+			Map<String, Object> context = new HashMap<>(size * 4 / 3 + 1);
+			for (int i = 0; i < size; i++) {
+				String key = readString(dataInput);
+				context.put(key, readValue(dataInput));
+			}
+			return context;
+		}
+		catch (EOFException ex) {
+			throw new IllegalArgumentException("Failed to deserialize object: unexpected end of content", ex);
+		}
+	}
+
+	private void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		}
+		else if (value instanceof String string) {
+			out.writeByte(STRING);
+			writeString(out, string);
+		}
+		else if (value instanceof Integer integer) {
+			out.writeByte(INTEGER);
+			out.writeInt(integer);
+		}
+		else if (value instanceof Long longValue) {
+			out.writeByte(LONG);
+			out.writeLong(longValue);
+		}
+		else if (value instanceof Double doubleValue) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(doubleValue);
+		}
+		else if (value instanceof Float floatValue) {
+			out.writeByte(FLOAT);
+			out.writeFloat(floatValue);
+		}
+		else if (value instanceof Boolean booleanValue) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(booleanValue);
+		}
+		else if (value instanceof Short shortValue) {
+			out.writeByte(SHORT);
+			out.writeShort(shortValue);
+		}
+		else if (value instanceof Byte byteValue) {
+			out.writeByte(BYTE);
+			out.writeByte(byteValue);
+		}
+		else if (value instanceof Character character) {
+			out.writeByte(CHARACTER);
+			out.writeChar(character);
+		}
+		else if (value.getClass() == BigDecimal.class) {
+			BigDecimal bigDecimal = (BigDecimal) value;
+			out.writeByte(BIG_DECIMAL);
+			out.writeInt(bigDecimal.scale());
+			writeBytes(out, bigDecimal.unscaledValue().toByteArray());
+		}
+		else if (value.getClass() == BigInteger.class) {
+			out.writeByte(BIG_INTEGER);
+			writeBytes(out, ((BigInteger) value).toByteArray());
+		}
+		else if (value.getClass() == Date.class) {
+			out.writeByte(DATE);
+			out.writeLong(((Date) value).getTime());
+		}
+		else if (value instanceof LocalDate localDate) {
+			out.writeByte(LOCAL_DATE);
+			out.writeLong(localDate.toEpochDay());
+		}
+		else if (value instanceof LocalTime localTime) {
+			out.writeByte(LOCAL_TIME);
+			out.writeLong(localTime.toNanoOfDay());
+		}
+		else if (value instanceof LocalDateTime localDateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeLong(localDateTime.toLocalDate().toEpochDay());
+			out.writeLong(localDateTime.toLocalTime().toNanoOfDay());
+		}
+		else if (value instanceof Instant instant) {
+			out.writeByte(INSTANT);
+			out.writeLong(instant.getEpochSecond());
+			out.writeInt(instant.getNano());
+		}
+		else if (value instanceof byte[] bytes) {
+			out.writeByte(BYTE_ARRAY);
+			writeBytes(out, bytes);
+		}
+		else if (value.getClass() == ArrayList.class) {
+			out.writeByte(ARRAY_LIST);
+			writeCollection(out, (Collection<?>) value);
+		}
+		else if (value.getClass() == HashSet.class) {
+			out.writeByte(HASH_SET);
+			writeCollection(out, (Collection<?>) value);
+		}
+		else if (value.getClass() == LinkedHashSet.class) {
+			out.writeByte(LINKED_HASH_SET);
+			writeCollection(out, (Collection<?>) value);
+		}
+		else if (value.getClass() == HashMap.class) {
+			out.writeByte(HASH_MAP);
+			writeMap(out, (Map<?, ?>) value);
+		}
+		else if (value.getClass() == LinkedHashMap.class) {
+			out.writeByte(LINKED_HASH_MAP);
+			writeMap(out, (Map<?, ?>) value);
+		}
+		else if (value instanceof Serializable) {
+			out.writeByte(SERIALIZED);
+			var byteArrayOutputStream = new ByteArrayOutputStream(256);
+			try (var objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+				objectOutputStream.writeObject(value);
+			}
+			writeBytes(out, byteArrayOutputStream.toByteArray());
+		}
+		else {
+			throw new IllegalArgumentException("Value: [" + value + "] must be serializable. " + "Object of class: ["
+					+ value.getClass().getName() + "] must be an instance of " + Serializable.class);
+		}
+	}
+
+	private Object readValue(DataInputStream in) throws IOException {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case NULL -> null;
+			case STRING -> readString(in);
+			case INTEGER -> in.readInt();
+			case LONG -> in.readLong();
+			case DOUBLE -> in.readDouble();
+			case FLOAT -> in.readFloat();
+			case BOOLEAN -> in.readBoolean();
+			case SHORT -> in.readShort();
+			case BYTE -> in.readByte();
+			case CHARACTER -> in.readChar();
+			case BIG_DECIMAL -> {
+				int scale = in.readInt();
+				yield new BigDecimal(new BigInteger(readBytes(in)), scale);
+			}
+			case BIG_INTEGER -> new BigInteger(readBytes(in));
+			case DATE -> new Date(in.readLong());
+			case LOCAL_DATE -> LocalDate.ofEpochDay(in.readLong());
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay(in.readLong());
+			case LOCAL_DATE_TIME -> {
+				LocalDate date = LocalDate.ofEpochDay(in.readLong());
+				yield LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+			}
+			case INSTANT -> {
+				long seconds = in.readLong();
+				yield Instant.ofEpochSecond(seconds, in.readInt());
+			}
+			case BYTE_ARRAY -> readBytes(in);
+			case ARRAY_LIST -> readCollection(in, new ArrayList<>());
+			case HASH_SET -> readCollection(in, new HashSet<>());
+			case LINKED_HASH_SET -> readCollection(in, new LinkedHashSet<>());
+			case HASH_MAP -> readMap(in, new HashMap<>());
+			case LINKED_HASH_MAP -> readMap(in, new LinkedHashMap<>());
+			case SERIALIZED -> {
+				try (var objectInputStream = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+					yield objectInputStream.readObject();
+				}
+				catch (ClassNotFoundException ex) {
+					throw new IllegalStateException("Failed to deserialize object type", ex);
+				}
+			}
+			default -> throw new IllegalArgumentException("Failed to deserialize object: unknown type tag " + tag
+					+ " (format version " + FORMAT_VERSION + ")");
+		};
+	}
+
+	private void writeCollection(DataOutputStream out, Collection<?> collection) throws IOException {
+		writeSize(out, collection.size());
+		for (Object element : collection) {
+			writeValue(out, element);
+		}
+	}
+
+	private <C extends Collection<Object>> C readCollection(DataInputStream in, C collection) throws IOException {
+		int size = readSize(in);
+		for (int i = 0; i < size; i++) {
+			collection.add(readValue(in));
+		}
+		return collection;
+	}
+
+	private void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+		writeSize(out, map.size());
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			writeValue(out, entry.getKey());
+			writeValue(out, entry.getValue());
+		}
+	}
+
+	private Map<Object, Object> readMap(DataInputStream in, Map<Object, Object> map) throws IOException {
+		int size = readSize(in);
+		for (int i = 0; i < size; i++) {
+			Object key = readValue(in);
+			map.put(key, readValue(in));
+		}
+		return map;
+	}
+
+	private void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		return new String(readBytes(in), StandardCharsets.UTF_8);
+	}
+
+	private void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		writeSize(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readSize(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/*
+	 * Sizes are written as unsigned variable-length integers, so that the common small
+	 * sizes only take one byte.
+	 */
+	private void writeSize(DataOutputStream out, int size) throws IOException {
+		while ((size & ~0x7F) != 0) {
+			out.writeByte((size & 0x7F) | 0x80);
+			size >>>= 7;
+		}
+		out.writeByte(size);
+	}
+
+	private int readSize(DataInputStream in) throws IOException {
+		int size = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			size |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (size < 0) {
+					break;
+				}
+				return size;
+			}
+		}
+		throw new IllegalArgumentException("Failed to deserialize object: malformed size");
+	}
+
+}
@@ -31,8 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.repository.ExecutionContextSerializer;
@@ -114,7 +114,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
 
-	private final Lock lock = new ReentrantLock();
+	private boolean skipUnchangedExecutionContexts = false;
+
+	private final StripedLocks locks = new StripedLocks();
 
 	/**
 	 * Setter for {@link Serializer} implementation
@@ -179,6 +181,22 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		}
 	}
 
+	/**
+	 * Set whether the update of a step execution context should be skipped when none of
+	 * its keys changed since it was last saved (see
+	 * {@link ExecutionContext#getChangedKeys()}). This avoids serializing and writing
+	 * large contexts at each commit when they did not change. Values that are mutated in
+	 * place without being put in the context again are not detected as changes, so they
+	 * are only saved with the next change or when the step execution is no longer
+	 * running. Defaults to {@code false}.
+	 * @param skipUnchangedExecutionContexts whether to skip updates of unchanged step
+	 * execution contexts
+	 * @since 5.1
+	 */
+	public void setSkipUnchangedExecutionContexts(boolean skipUnchangedExecutionContexts) {
+		this.skipUnchangedExecutionContexts = skipUnchangedExecutionContexts;
+	}
+
 	@Override
 	public void updateExecutionContext(final JobExecution jobExecution) {
 		Long executionId = jobExecution.getId();
@@ -193,21 +211,28 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	@Override
 	public void updateExecutionContext(final StepExecution stepExecution) {
+		Long executionId = stepExecution.getId();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
+		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+
+		if (this.skipUnchangedExecutionContexts && !executionContext.hasChangedKeys()
+				&& stepExecution.getStatus() == BatchStatus.STARTED) {
+			return;
+		}
+
 		// Attempt to prevent concurrent modification errors by blocking here if
-		// someone is already trying to do it.
-		this.lock.lock();
+		// someone is already trying to update the same execution context.
+		Lock lock = this.locks.get(executionId);
+		lock.lock();
 		try {
-			Long executionId = stepExecution.getId();
-			ExecutionContext executionContext = stepExecution.getExecutionContext();
-			Assert.notNull(executionId, "ExecutionId must not be null.");
-			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
-
 			String serializedContext = serializeContext(executionContext);
 
 			persistSerializedContext(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT);
+			executionContext.clearChangedKeys();
 		}
 		finally {
-			this.lock.unlock();
+			lock.unlock();
 		}
 	}
 
@@ -234,6 +259,7 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		String serializedContext = serializeContext(executionContext);
 
 		persistSerializedContext(executionId, serializedContext, INSERT_STEP_EXECUTION_CONTEXT);
+		executionContext.clearChangedKeys();
 	}
 
 	@Override
@@ -248,6 +274,9 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			serializedContexts.put(executionId, serializeContext(executionContext));
 		}
 		persistSerializedContexts(serializedContexts, INSERT_STEP_EXECUTION_CONTEXT);
+		for (StepExecution stepExecution : stepExecutions) {
+			stepExecution.getExecutionContext().clearChangedKeys();
+		}
 	}
 
 	/**
@@ -27,7 +27,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -121,7 +120,7 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 	private DataFieldMaxValueIncrementer stepExecutionIncrementer;
 
-	private final Lock lock = new ReentrantLock();
+	private final StripedLocks locks = new StripedLocks();
 
 	/**
 	 * Public setter for the exit message length in database. Do not set this if you
@@ -259,8 +258,9 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		String exitDescription = truncateExitDescription(stepExecution.getExitStatus().getExitDescription());
 
 		// Attempt to prevent concurrent modification errors by blocking here if
-		// someone is already trying to do it.
-		this.lock.lock();
+		// someone is already trying to update the same step execution.
+		Lock lock = this.locks.get(stepExecution.getId());
+		lock.lock();
 		try {
 
 			Integer version = stepExecution.getVersion() + 1;
@@ -295,7 +295,7 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 		}
 		finally {
-			this.lock.unlock();
+			lock.unlock();
 		}
 	}
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * Fixed set of locks indexed by the id of a batch domain object. Updates of the same
+ * object are serialized, while updates of different objects (for example, the step
+ * executions of a partitioned step) only contend when their ids map to the same lock.
+ *
+ * @since 5.1
+ */
+final class StripedLocks {
+
+	static final int DEFAULT_STRIPES = 64;
+
+	private final Lock[] locks;
+
+	StripedLocks() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * @param stripes the number of locks, must be a power of two
+	 */
+	StripedLocks(int stripes) {
+		Assert.isTrue(stripes > 0 && Integer.bitCount(stripes) == 1, "The number of stripes must be a power of two");
+		this.locks = new Lock[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Return the lock guarding the object with the given id.
+	 * @param id the id of the object
+	 * @return the lock for that id
+	 */
+	Lock get(long id) {
+		int hash = Long.hashCode(id);
+		hash ^= (hash >>> 16);
+		return this.locks[hash & (this.locks.length - 1)];
+	}
+
+}
@@ -105,6 +105,8 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	private ConfigurableConversionService conversionService;
 
+	private boolean skipUnchangedExecutionContexts = false;
+
 	/**
 	 * @param type a value from the {@link java.sql.Types} class to indicate the type to
 	 * use for a CLOB
@@ -124,6 +126,18 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		this.serializer = serializer;
 	}
 
+	/**
+	 * Set whether the update of a step execution context should be skipped when none of
+	 * its keys changed since it was last saved. Defaults to {@code false}.
+	 * @param skipUnchangedExecutionContexts whether to skip updates of unchanged step
+	 * execution contexts
+	 * @since 5.1
+	 * @see JdbcExecutionContextDao#setSkipUnchangedExecutionContexts(boolean)
+	 */
+	public void setSkipUnchangedExecutionContexts(boolean skipUnchangedExecutionContexts) {
+		this.skipUnchangedExecutionContexts = skipUnchangedExecutionContexts;
+	}
+
 	/**
 	 * A special handler for large objects. The default is usually fine, except for some
 	 * (usually older) versions of Oracle. The default is determined from the data base
@@ -353,6 +367,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setSerializer(serializer);
 		dao.setCharset(charset);
+		dao.setSkipUnchangedExecutionContexts(this.skipUnchangedExecutionContexts);
 
 		if (lobHandler != null) {
 			dao.setLobHandler(lobHandler);
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * {@link JobRepository} decorator that coalesces the updates of running step executions.
+ * A chunk-oriented step updates its {@link StepExecution} and its
+ * {@link ExecutionContext} at every commit, and the default repository also synchronizes
+ * the status of the parent {@link JobExecution} at that time. With this decorator, the
+ * updates of a running step execution are only written to the delegate every
+ * {@link #setMaxPendingCommits(int) n commits}, once a
+ * {@link #setMaxPendingDuration(Duration) given time} has elapsed since the last write,
+ * or when the step ends, whichever comes first.
+ * </p>
+ *
+ * <p>
+ * By default, a commit that changes the step execution context (typically because an
+ * {@link org.springframework.batch.item.ItemStream} saved its restart state) is always
+ * written through, together with the step execution, so restart works exactly as with the
+ * delegate. Updates are only deferred for commits that do not change the context. This
+ * can be relaxed with {@link #setFlushOnExecutionContextChange(boolean)} for steps that
+ * can safely reprocess the items committed since the last write (e.g. idempotent
+ * writers).
+ * </p>
+ *
+ * <p>
+ * Deferring updates has the following consequences: counters of running step executions
+ * stored in the job repository lag behind by at most the configured number of commits or
+ * duration, a stop request is noticed by a running step only when its updates are
+ * written, and the counters accumulated since the last write are lost if the process
+ * dies. Context changes are detected by comparing the entries of the context with those
+ * that were last written, so values that are mutated in place must be put in the context
+ * again, as for {@link ExecutionContext#isDirty()}.
+ * </p>
+ *
+ * <p>
+ * All other operations are delegated as is. This class is thread-safe as long as the
+ * updates of a given step execution are not made concurrently, which is the case for all
+ * steps provided by the framework, including multi-threaded and partitioned steps.
+ * </p>
+ *
+ * @since 5.1
+ */
+public class WriteBehindJobRepository implements JobRepository {
+
+	private final JobRepository delegate;
+
+	private final Map<Long, PendingUpdates> pendingUpdates = new ConcurrentHashMap<>();
+
+	private int maxPendingCommits = 10;
+
+	private Duration maxPendingDuration = Duration.ofSeconds(1);
+
+	private boolean flushOnExecutionContextChange = true;
+
+	/**
+	 * Create a new {@link WriteBehindJobRepository}.
+	 * @param delegate the job repository to write the updates to
+	 */
+	public WriteBehindJobRepository(JobRepository delegate) {
+		Assert.notNull(delegate, "The delegate job repository must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the maximum number of commits of a step execution that are not written to the
+	 * delegate. Defaults to 10.
+	 * @param maxPendingCommits the maximum number of pending commits, must be positive
+	 */
+	public void setMaxPendingCommits(int maxPendingCommits) {
+		Assert.isTrue(maxPendingCommits > 0, "The maximum number of pending commits must be positive");
+		this.maxPendingCommits = maxPendingCommits;
+	}
+
+	/**
+	 * Set the maximum time during which the updates of a step execution are not written
+	 * to the delegate. The time is checked at each commit, so pending updates are written
+	 * at the first commit after that time has elapsed. Defaults to one second.
+	 * @param maxPendingDuration the maximum duration, must not be negative
+	 */
+	public void setMaxPendingDuration(Duration maxPendingDuration) {
+		Assert.notNull(maxPendingDuration, "The maximum pending duration must not be null");
+		Assert.isTrue(!maxPendingDuration.isNegative(), "The maximum pending duration must not be negative");
+		this.maxPendingDuration = maxPendingDuration;
+	}
+
+	/**
+	 * Set whether a commit that changes the step execution context should be written
+	 * through. Defaults to {@code true}, which keeps the restart state in the job
+	 * repository up to date at every commit. If set to {@code false}, context changes are
+	 * deferred like the other updates, and a restart after a failure might reprocess the
+	 * items committed since the last write.
+	 * @param flushOnExecutionContextChange whether to write context changes through
+	 */
+	public void setFlushOnExecutionContextChange(boolean flushOnExecutionContextChange) {
+		this.flushOnExecutionContextChange = flushOnExecutionContextChange;
+	}
+
+	@Override
+	public void update(StepExecution stepExecution) {
+		if (!isRunning(stepExecution)) {
+			PendingUpdates updates = this.pendingUpdates.remove(stepExecution.getId());
+			if (updates != null && updates.contextPending) {
+				this.delegate.updateExecutionContext(stepExecution);
+			}
+			this.delegate.update(stepExecution);
+			return;
+		}
+		PendingUpdates updates = this.pendingUpdates.get(stepExecution.getId());
+		if (updates == null) {
+			// first update of a running step execution
+			this.delegate.update(stepExecution);
+			this.pendingUpdates.put(stepExecution.getId(), new PendingUpdates(stepExecution.getExecutionContext()));
+			return;
+		}
+		updates.pendingCommits++;
+		if (updates.flushRequired || updates.pendingCommits >= this.maxPendingCommits
+				|| System.nanoTime() - updates.lastFlushTime >= this.maxPendingDuration.toNanos()) {
+			if (updates.contextPending) {
+				this.delegate.updateExecutionContext(stepExecution);
+			}
+			this.delegate.update(stepExecution);
+			updates.flushed(stepExecution.getExecutionContext());
+		}
+	}
+
+	@Override
+	public void updateExecutionContext(StepExecution stepExecution) {
+		PendingUpdates updates = stepExecution.getId() != null ? this.pendingUpdates.get(stepExecution.getId()) : null;
+		if (updates == null || !isRunning(stepExecution)) {
+			this.delegate.updateExecutionContext(stepExecution);
+			if (updates != null) {
+				updates.contextPending = false;
+			}
+			return;
+		}
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		if (updates.contextPending || !updates.lastFlushedContext.equals(executionContext)) {
+			if (this.flushOnExecutionContextChange) {
+				this.delegate.updateExecutionContext(stepExecution);
+				updates.contextPending = false;
+				// write the step execution that matches this context at the same time
+				updates.flushRequired = true;
+			}
+			else {
+				updates.contextPending = true;
+			}
+		}
+	}
+
+	private boolean isRunning(StepExecution stepExecution) {
+		return stepExecution.getId() != null && stepExecution.getStatus() == BatchStatus.STARTED
+				&& !stepExecution.isTerminateOnly();
+	}
+
+	@Override
+	public List<String> getJobNames() {
+		return this.delegate.getJobNames();
+	}
+
+	@Override
+	public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+		return this.delegate.findJobInstancesByName(jobName, start, count);
+	}
+
+	@Override
+	public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+		return this.delegate.findJobExecutions(jobInstance);
+	}
+
+	@Override
+	public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+		return this.delegate.isJobInstanceExists(jobName, jobParameters);
+	}
+
+	@Override
+	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.createJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public JobExecution createJobExecution(String jobName, JobParameters jobParameters)
+			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+		return this.delegate.createJobExecution(jobName, jobParameters);
+	}
+
+	@Override
+	public void update(JobExecution jobExecution) {
+		this.delegate.update(jobExecution);
+	}
+
+	@Override
+	public void add(StepExecution stepExecution) {
+		this.delegate.add(stepExecution);
+	}
+
+	@Override
+	public void addAll(Collection<StepExecution> stepExecutions) {
+		this.delegate.addAll(stepExecutions);
+	}
+
+	@Override
+	public void updateExecutionContext(JobExecution jobExecution) {
+		this.delegate.updateExecutionContext(jobExecution);
+	}
+
+	@Nullable
+	@Override
+	public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.getJobInstance(jobName, jobParameters);
+	}
+
+	@Nullable
+	@Override
+	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		return this.delegate.getLastStepExecution(jobInstance, stepName);
+	}
+
+	@Override
+	public long getStepExecutionCount(JobInstance jobInstance, String stepName) {
+		return this.delegate.getStepExecutionCount(jobInstance, stepName);
+	}
+
+	@Nullable
+	@Override
+	public JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+		return this.delegate.getLastJobExecution(jobName, jobParameters);
+	}
+
+	@Override
+	public void deleteStepExecution(StepExecution stepExecution) {
+		this.pendingUpdates.remove(stepExecution.getId());
+		this.delegate.deleteStepExecution(stepExecution);
+	}
+
+	@Override
+	public void deleteJobExecution(JobExecution jobExecution) {
+		this.delegate.deleteJobExecution(jobExecution);
+	}
+
+	@Override
+	public void deleteJobInstance(JobInstance jobInstance) {
+		this.delegate.deleteJobInstance(jobInstance);
+	}
+
+	/**
+	 * Updates of a running step execution that were not written to the delegate yet.
+	 */
+	private static class PendingUpdates {
+
+		private ExecutionContext lastFlushedContext;
+
+		private long lastFlushTime;
+
+		private int pendingCommits;
+
+		private boolean contextPending;
+
+		private boolean flushRequired;
+
+		PendingUpdates(ExecutionContext executionContext) {
+			flushed(executionContext);
+		}
+
+		void flushed(ExecutionContext executionContext) {
+			this.lastFlushedContext = new ExecutionContext(executionContext);
+			this.lastFlushTime = System.nanoTime();
+			this.pendingCommits = 0;
+			this.contextPending = false;
+			this.flushRequired = false;
+		}
+
+	}
+
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.resource;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.DefaultResultCompletionPolicy;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A {@link CompletionPolicy} that adapts the chunk size so that chunks take about a
+ * target duration to read, process, write and commit. Use it as the completion policy of
+ * a chunk oriented step and register it as a {@link ChunkListener} of the step (which the
+ * step builders do automatically), so that it can measure each chunk.
+ * <p>
+ * After each committed chunk, the time per item is measured and the chunk size is moved
+ * halfway towards the size that would have taken the target duration, changing by at most
+ * a factor of two at a time. A chunk that is rolled back halves the chunk size. If a
+ * maximum number of bytes per chunk is set, and the JVM can measure the memory allocated
+ * by a thread, the chunk size is also capped by the bytes allocated per item. The chunk
+ * size always stays within the configured bounds.
+ * <p>
+ * The current chunk size is published as the {@code spring.batch.chunk.size} gauge, and
+ * changes of the chunk size are counted by the {@code spring.batch.chunk.size.change}
+ * counter, tagged with the reason of the change ({@code latency}, {@code rollback} or
+ * {@code memory}).
+ *
+ * @since 5.1
+ * @see StepExecutionSimpleCompletionPolicy
+ */
+public class AdaptiveCompletionPolicy extends DefaultResultCompletionPolicy implements ChunkListener {
+
+	private static final String START_TIME_KEY = AdaptiveCompletionPolicy.class.getName() + ".START_TIME";
+
+	private static final String START_READ_COUNT_KEY = AdaptiveCompletionPolicy.class.getName() + ".START_READ_COUNT";
+
+	private static final String START_BYTES_KEY = AdaptiveCompletionPolicy.class.getName() + ".START_BYTES";
+
+	private static final String CHUNK_SIZE_METRIC = "chunk.size";
+
+	private static final String CHUNK_SIZE_CHANGE_METRIC = "chunk.size.change";
+
+	private final AtomicInteger chunkSize;
+
+	private final int minChunkSize;
+
+	private final int maxChunkSize;
+
+	private final Duration targetDuration;
+
+	private long maxBytesPerChunk = 0;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	@Nullable
+	private final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+	/**
+	 * Create a new {@link AdaptiveCompletionPolicy}.
+	 * @param initialChunkSize the chunk size of the first chunk
+	 * @param minChunkSize the lowest chunk size
+	 * @param maxChunkSize the highest chunk size
+	 * @param targetDuration the duration a chunk should take
+	 */
+	public AdaptiveCompletionPolicy(int initialChunkSize, int minChunkSize, int maxChunkSize, Duration targetDuration) {
+		Assert.isTrue(minChunkSize > 0, "The minimum chunk size must be greater than zero");
+		Assert.isTrue(maxChunkSize >= minChunkSize,
+				"The maximum chunk size must be greater than or equal to the minimum chunk size");
+		Assert.isTrue(initialChunkSize >= minChunkSize && initialChunkSize <= maxChunkSize,
+				"The initial chunk size must be between the minimum and maximum chunk sizes");
+		Assert.isTrue(!targetDuration.isNegative() && !targetDuration.isZero(), "The target duration must be positive");
+		this.chunkSize = new AtomicInteger(initialChunkSize);
+		this.minChunkSize = minChunkSize;
+		this.maxChunkSize = maxChunkSize;
+		this.targetDuration = targetDuration;
+	}
+
+	/**
+	 * Set the maximum number of bytes a chunk should allocate, measured on the thread
+	 * executing the chunk. Defaults to 0, meaning no limit.
+	 * @param maxBytesPerChunk the maximum number of bytes allocated per chunk
+	 */
+	public void setMaxBytesPerChunk(long maxBytesPerChunk) {
+		this.maxBytesPerChunk = maxBytesPerChunk;
+	}
+
+	/**
+	 * Set the meter registry to use for metrics. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * @return the size of the next chunk
+	 */
+	public int getChunkSize() {
+		return this.chunkSize.get();
+	}
+
+	@Override
+	public RepeatContext start(RepeatContext context) {
+		return new ChunkSizeContext(context, this.chunkSize.get());
+	}
+
+	/**
+	 * Terminate if the chunk size has been reached, or the result is null.
+	 */
+	@Override
+	public boolean isComplete(RepeatContext context, RepeatStatus result) {
+		return super.isComplete(context, result) || isComplete(context);
+	}
+
+	/**
+	 * Terminate if the chunk size has been reached.
+	 */
+	@Override
+	public boolean isComplete(RepeatContext context) {
+		ChunkSizeContext chunkSizeContext = (ChunkSizeContext) context;
+		return chunkSizeContext.getStartedCount() >= chunkSizeContext.size;
+	}
+
+	@Override
+	public void update(RepeatContext context) {
+		((ChunkSizeContext) context).increment();
+	}
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		StepExecution stepExecution = context.getStepContext().getStepExecution();
+		registerGauge(stepExecution);
+		context.setAttribute(START_READ_COUNT_KEY, stepExecution.getReadCount());
+		if (this.maxBytesPerChunk > 0 && this.threadMXBean != null) {
+			context.setAttribute(START_BYTES_KEY, this.threadMXBean.getCurrentThreadAllocatedBytes());
+		}
+		context.setAttribute(START_TIME_KEY, System.nanoTime());
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		Object startTime = context.getAttribute(START_TIME_KEY);
+		Object startReadCount = context.getAttribute(START_READ_COUNT_KEY);
+		if (startTime == null || startReadCount == null) {
+			return;
+		}
+		long nanos = System.nanoTime() - (long) startTime;
+		StepExecution stepExecution = context.getStepContext().getStepExecution();
+		long items = stepExecution.getReadCount() - (long) startReadCount;
+		if (items <= 0) {
+			return;
+		}
+		Object startBytes = context.getAttribute(START_BYTES_KEY);
+		long bytes = startBytes != null && this.threadMXBean != null
+				? this.threadMXBean.getCurrentThreadAllocatedBytes() - (long) startBytes : -1;
+		adjust(stepExecution, items, nanos, bytes);
+	}
+
+	/**
+	 * Halve the chunk size after a rollback. Holds the same lock as the adjustments made
+	 * after successful chunks, so that a concurrent adjustment cannot overwrite it.
+	 */
+	@Override
+	public synchronized void afterChunkError(ChunkContext context) {
+		int current = this.chunkSize.get();
+		int next = Math.max(this.minChunkSize, current / 2);
+		if (next != current) {
+			this.chunkSize.set(next);
+			countChange(context.getStepContext().getStepExecution(), "rollback");
+		}
+	}
+
+	private synchronized void adjust(StepExecution stepExecution, long items, long nanos, long bytes) {
+		int current = this.chunkSize.get();
+		if (items < current && nanos < this.targetDuration.toNanos()) {
+			// a partial chunk (e.g. the last one) says little about a bigger one
+			return;
+		}
+		double nanosPerItem = Math.max(1.0, (double) nanos / items);
+		double ideal = this.targetDuration.toNanos() / nanosPerItem;
+		long next = Math.round(current + (ideal - current) / 2);
+		next = Math.max(current / 2, Math.min((long) current * 2, next));
+		next = Math.max(this.minChunkSize, Math.min(this.maxChunkSize, next));
+		String reason = "latency";
+		if (bytes > 0) {
+			long bytesPerItem = Math.max(1, bytes / items);
+			long memoryLimit = Math.max(this.minChunkSize, this.maxBytesPerChunk / bytesPerItem);
+			if (next > memoryLimit) {
+				next = memoryLimit;
+				reason = "memory";
+			}
+		}
+		if (next != current) {
+			this.chunkSize.set((int) next);
+			countChange(stepExecution, reason);
+		}
+	}
+
+	private void registerGauge(StepExecution stepExecution) {
+		Gauge.builder(BatchMetrics.METRICS_PREFIX + CHUNK_SIZE_METRIC, this.chunkSize, AtomicInteger::get)
+			.description("Chunk size")
+			.tags(Arrays.asList(tags(stepExecution, CHUNK_SIZE_METRIC)))
+			.register(this.meterRegistry);
+	}
+
+	private void countChange(StepExecution stepExecution, String reason) {
+		Tag[] tags = tags(stepExecution, CHUNK_SIZE_CHANGE_METRIC);
+		BatchMetrics
+			.createCounter(this.meterRegistry, CHUNK_SIZE_CHANGE_METRIC, "Chunk size changes", tags[0], tags[1],
+					Tag.of(BatchMetrics.METRICS_PREFIX + CHUNK_SIZE_CHANGE_METRIC + ".reason", reason))
+			.increment();
+	}
+
+	private static Tag[] tags(StepExecution stepExecution, String metricName) {
+		String name = BatchMetrics.METRICS_PREFIX + metricName;
+		return new Tag[] { Tag.of(name + ".job.name", stepExecution.getJobExecution().getJobInstance().getJobName()),
+				Tag.of(name + ".step.name", stepExecution.getStepName()) };
+	}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean getThreadMXBean() {
+		try {
+			if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+					&& threadMXBean.isThreadAllocatedMemorySupported()
+					&& threadMXBean.isThreadAllocatedMemoryEnabled()) {
+				return threadMXBean;
+			}
+		}
+		catch (LinkageError ex) {
+			// the com.sun.management API is not available
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return ClassUtils.getShortName(AdaptiveCompletionPolicy.class) + ": chunkSize=" + this.chunkSize.get();
+	}
+
+	private static class ChunkSizeContext extends RepeatContextSupport {
+
+		private final int size;
+
+		ChunkSizeContext(RepeatContext parent, int size) {
+			super(parent);
+			this.size = size;
+		}
+
+	}
+
+}
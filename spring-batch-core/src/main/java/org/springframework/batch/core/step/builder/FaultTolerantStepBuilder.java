@@ -128,6 +128,8 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 
 	private boolean processorTransactional = true;
 
+	private boolean bisectingScan = false;
+
 	/**
 	 * Create a new builder initialized with any properties in the parent. The parent is
 	 * copied, so it can be re-used.
@@ -175,6 +177,7 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 	protected Tasklet createTasklet() {
 		Assert.state(getReader() != null, "ItemReader must be provided");
 		Assert.state(getWriter() != null, "ItemWriter must be provided");
+		Assert.state(!isPipelined(), "Pipelined chunk execution is not supported in a fault tolerant step");
 		addSpecialExceptions();
 		registerSkipListeners();
 		ChunkProvider<I> chunkProvider = createChunkProvider();
@@ -393,6 +396,20 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 		return this;
 	}
 
+	/**
+	 * Scan a chunk by bisection after a failed write, instead of writing its items one at
+	 * a time in separate transactions. The failed items are written in halves, and only
+	 * the halves that fail are split again, which needs far fewer transactions to locate
+	 * a few failed items in a large chunk.
+	 * @return this for fluent chaining
+	 * @see FaultTolerantChunkProcessor#setBisectingScan(boolean)
+	 * @since 5.1
+	 */
+	public FaultTolerantStepBuilder<I, O> bisectingScan() {
+		this.bisectingScan = true;
+		return this;
+	}
+
 	@Override
 	public SimpleStepBuilder<I, O> stream(ItemStream stream) {
 		if (stream instanceof ItemReader<?>) {
@@ -427,6 +444,7 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 		chunkProvider.setMaxSkipsOnRead(Math.max(getChunkSize(), FaultTolerantChunkProvider.DEFAULT_MAX_SKIPS_ON_READ));
 		chunkProvider.setSkipPolicy(readSkipPolicy);
 		chunkProvider.setRollbackClassifier(getRollbackClassifier());
+		chunkProvider.setItemTimerSamplingInterval(getItemTimerSamplingInterval());
 		ArrayList<StepListener> listeners = new ArrayList<>(getItemListeners());
 		listeners.addAll(skipListeners);
 		chunkProvider.setListeners(listeners);
@@ -443,6 +461,7 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 				getWriter(), batchRetryTemplate);
 		chunkProcessor.setBuffering(!isReaderTransactionalQueue());
 		chunkProcessor.setProcessorTransactional(processorTransactional);
+		chunkProcessor.setBisectingScan(bisectingScan);
 
 		SkipPolicy writeSkipPolicy = createSkipPolicy();
 		writeSkipPolicy = getFatalExceptionAwareProxy(writeSkipPolicy);
@@ -450,6 +469,8 @@ public class FaultTolerantStepBuilder<I, O> extends SimpleStepBuilder<I, O> {
 		chunkProcessor.setProcessSkipPolicy(writeSkipPolicy);
 		chunkProcessor.setRollbackClassifier(getRollbackClassifier());
 		chunkProcessor.setKeyGenerator(keyGenerator);
+		chunkProcessor.setItemTimerSamplingInterval(getItemTimerSamplingInterval());
+		configureProcessingConcurrency(chunkProcessor);
 		detectStreamInReader();
 
 		ArrayList<StepListener> listeners = new ArrayList<>(getItemListeners());
@@ -41,10 +41,13 @@ import org.springframework.batch.core.annotation.OnReadError;
 import org.springframework.batch.core.annotation.OnWriteError;
 import org.springframework.batch.core.listener.StepListenerFactoryBean;
 import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.ChunkProvider;
+import org.springframework.batch.core.step.item.PipelinedChunkProvider;
 import org.springframework.batch.core.step.item.SimpleChunkProcessor;
 import org.springframework.batch.core.step.item.SimpleChunkProvider;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemStream;
@@ -54,6 +57,8 @@ import org.springframework.batch.repeat.RepeatOperations;
 import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
 import org.springframework.batch.repeat.support.RepeatTemplate;
 import org.springframework.batch.support.ReflectionUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -89,6 +94,14 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 
 	private MeterRegistry meterRegistry = Metrics.globalRegistry;
 
+	private int itemTimerSamplingInterval = 1;
+
+	private TaskExecutor readAheadTaskExecutor;
+
+	private int processingConcurrency = 1;
+
+	private TaskExecutor processingTaskExecutor;
+
 	/**
 	 * Create a new builder initialized with any properties in the parent. The parent is
 	 * copied, so it can be re-used.
@@ -114,6 +127,10 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		this.itemListeners = parent.itemListeners;
 		this.readerTransactionalQueue = parent.readerTransactionalQueue;
 		this.meterRegistry = parent.meterRegistry;
+		this.itemTimerSamplingInterval = parent.itemTimerSamplingInterval;
+		this.readAheadTaskExecutor = parent.readAheadTaskExecutor;
+		this.processingConcurrency = parent.processingConcurrency;
+		this.processingTaskExecutor = parent.processingTaskExecutor;
 		this.transactionManager(parent.getTransactionManager());
 	}
 
@@ -131,6 +148,9 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 
 		registerStepListenerAsItemListener();
 		registerAsStreamsAndListeners(reader, processor, writer);
+		if (completionPolicy instanceof ChunkListener chunkListener) {
+			listener(chunkListener);
+		}
 		return super.build();
 	}
 
@@ -167,11 +187,33 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		chunkProvider.setMeterRegistry(this.meterRegistry);
 		chunkProcessor.setListeners(new ArrayList<>(itemListeners));
 		chunkProcessor.setMeterRegistry(this.meterRegistry);
-		ChunkOrientedTasklet<I> tasklet = new ChunkOrientedTasklet<>(chunkProvider, chunkProcessor);
+		chunkProvider.setItemTimerSamplingInterval(this.itemTimerSamplingInterval);
+		chunkProcessor.setItemTimerSamplingInterval(this.itemTimerSamplingInterval);
+		configureProcessingConcurrency(chunkProcessor);
+		ChunkProvider<I> provider = chunkProvider;
+		if (readAheadTaskExecutor != null) {
+			provider = createPipelinedChunkProvider(chunkProvider);
+		}
+		ChunkOrientedTasklet<I> tasklet = new ChunkOrientedTasklet<>(provider, chunkProcessor);
 		tasklet.setBuffering(!readerTransactionalQueue);
 		return tasklet;
 	}
 
+	private ChunkProvider<I> createPipelinedChunkProvider(ChunkProvider<I> chunkProvider) {
+		Assert.state(!readerTransactionalQueue,
+				"Pipelined chunk execution is not supported with a transactional reader");
+		Assert.state(!concurrent(), "Pipelined chunk execution is not supported in a multi-threaded step");
+		ItemStream readerStream = reader instanceof ItemStream itemStream ? itemStream : null;
+		if (readerStream != null) {
+			// the pipelined provider saves the state of the reader instead of the step
+			getStreams().remove(readerStream);
+		}
+		PipelinedChunkProvider<I> pipelinedChunkProvider = new PipelinedChunkProvider<>(chunkProvider, readerStream,
+				readAheadTaskExecutor);
+		stream(pipelinedChunkProvider);
+		return pipelinedChunkProvider;
+	}
+
 	/**
 	 * Sets the chunk size or commit interval for this step. This is the maximum number of
 	 * items that will be read before processing starts in a single transaction. Not
@@ -189,7 +231,8 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 	/**
 	 * Sets a completion policy for the chunk processing. Items are read until this policy
 	 * determines that a chunk is complete, giving more control than with just the
-	 * {@link #chunk(int) chunk size} (or commit interval).
+	 * {@link #chunk(int) chunk size} (or commit interval). A policy that is also a
+	 * {@link ChunkListener} is registered as a listener of the step.
 	 * @param completionPolicy a completion policy for the chunk
 	 * @return this for fluent chaining
 	 */
@@ -238,6 +281,86 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		return this;
 	}
 
+	/**
+	 * An item processor that processes or transforms the items of a whole chunk at once,
+	 * for example to look them up with a single query. Items are still processed one by
+	 * one when a fault tolerant step scans a chunk. Will be automatically registered as a
+	 * {@link #stream(ItemStream)} or listener if it implements the corresponding
+	 * interface.
+	 * @param processor a chunk item processor
+	 * @return this for fluent chaining
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> chunkProcessor(ChunkItemProcessor<I, O> processor) {
+		return processor(processor);
+	}
+
+	/**
+	 * Enable pipelined chunk execution, where the next chunk is read in the background
+	 * while the current one is processed, written and committed. At most one chunk is
+	 * read ahead, and the state of the reader saved with each commit only covers the
+	 * items of the committed chunks. Useful when the reader and the writer use different
+	 * systems, so that waiting on one does not leave the other idle. The reader and its
+	 * listeners are called from a thread of the given executor, outside the transaction
+	 * of the chunk. Not compatible with a multi-threaded step, a transactional reader or
+	 * a fault tolerant step.
+	 * @param taskExecutor the executor used to read chunks ahead
+	 * @return this for fluent chaining
+	 * @see PipelinedChunkProvider
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> pipelined(TaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "The task executor must not be null");
+		this.readAheadTaskExecutor = taskExecutor;
+		return this;
+	}
+
+	/**
+	 * Enable pipelined chunk execution with a {@link SimpleAsyncTaskExecutor}, which
+	 * reads each chunk ahead on a new thread.
+	 * @return this for fluent chaining
+	 * @see #pipelined(TaskExecutor)
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> pipelined() {
+		return pipelined(new SimpleAsyncTaskExecutor("read-ahead-"));
+	}
+
+	/**
+	 * Process the items of each chunk in parallel, with at most the given number of items
+	 * processed at the same time. Items are processed on virtual threads when they are
+	 * available (Java 21 and later), and on new platform threads otherwise. Outputs are
+	 * written in the order of the inputs, and filtered and skipped items are accounted
+	 * for each item as with sequential processing. The item processor and the process
+	 * listeners must be thread-safe and must not rely on the transaction of the chunk.
+	 * @param processingConcurrency the maximum number of items processed at the same
+	 * time, {@code 1} (the default) meaning sequential processing
+	 * @return this for fluent chaining
+	 * @see SimpleChunkProcessor#setProcessingConcurrency(int)
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> processingConcurrency(int processingConcurrency) {
+		Assert.isTrue(processingConcurrency > 0, "The processing concurrency must be greater than zero");
+		this.processingConcurrency = processingConcurrency;
+		return this;
+	}
+
+	/**
+	 * Process the items of each chunk in parallel on the given task executor, with at
+	 * most the given number of items processed at the same time.
+	 * @param processingConcurrency the maximum number of items processed at the same time
+	 * @param processingTaskExecutor the task executor used to process items
+	 * @return this for fluent chaining
+	 * @see #processingConcurrency(int)
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> processingConcurrency(int processingConcurrency,
+			TaskExecutor processingTaskExecutor) {
+		Assert.notNull(processingTaskExecutor, "The processing task executor must not be null");
+		this.processingTaskExecutor = processingTaskExecutor;
+		return processingConcurrency(processingConcurrency);
+	}
+
 	/**
 	 * Sets a flag to say that the reader is transactional (usually a queue), which is to
 	 * say that failed items might be rolled back and re-presented in a subsequent
@@ -250,6 +373,23 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		return this;
 	}
 
+	/**
+	 * Sets the sampling interval of the item-level timers ({@code item.read} and
+	 * {@code item.process}). A value of {@code 1} (the default) times every item, a value
+	 * of {@code n} times one item out of {@code n} on average and a value of {@code 0}
+	 * disables item-level timers. Chunk-level timers are always recorded. Useful for
+	 * steps where items are so cheap to read and process that timing them is a noticeable
+	 * overhead.
+	 * @param itemTimerSamplingInterval the sampling interval, must not be negative
+	 * @return this for fluent chaining
+	 * @since 5.1
+	 */
+	public SimpleStepBuilder<I, O> itemTimerSamplingInterval(int itemTimerSamplingInterval) {
+		Assert.isTrue(itemTimerSamplingInterval >= 0, "The item timer sampling interval must not be negative");
+		this.itemTimerSamplingInterval = itemTimerSamplingInterval;
+		return this;
+	}
+
 	/**
 	 * Registers objects using the annotation based listener configuration.
 	 * @param listener the object that has a method configured with listener annotation
@@ -352,10 +492,35 @@ public class SimpleStepBuilder<I, O> extends AbstractTaskletStepBuilder<SimpleSt
 		return chunkSize;
 	}
 
+	/**
+	 * Apply the {@link #processingConcurrency(int) processing concurrency} to the given
+	 * chunk processor.
+	 * @param chunkProcessor the chunk processor to configure
+	 * @since 5.1
+	 */
+	protected void configureProcessingConcurrency(SimpleChunkProcessor<I, O> chunkProcessor) {
+		chunkProcessor.setProcessingConcurrency(this.processingConcurrency);
+		if (this.processingTaskExecutor != null) {
+			chunkProcessor.setProcessingTaskExecutor(this.processingTaskExecutor);
+		}
+	}
+
+	/**
+	 * @return true if the step reads chunks ahead
+	 * @since 5.1
+	 */
+	protected boolean isPipelined() {
+		return readAheadTaskExecutor != null;
+	}
+
 	protected boolean isReaderTransactionalQueue() {
 		return readerTransactionalQueue;
 	}
 
+	protected int getItemTimerSamplingInterval() {
+		return itemTimerSamplingInterval;
+	}
+
 	protected Set<StepListener> getItemListeners() {
 		return itemListeners;
 	}
@@ -16,7 +16,9 @@
 
 package org.springframework.batch.core.step.item;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
@@ -39,6 +41,7 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.SkipWrapper;
 import org.springframework.classify.BinaryExceptionClassifier;
 import org.springframework.classify.Classifier;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.ExhaustedRetryException;
 import org.springframework.retry.RecoveryCallback;
 import org.springframework.retry.RetryCallback;
@@ -71,6 +74,8 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 	private boolean processorTransactional = true;
 
+	private boolean bisectingScan = false;
+
 	/**
 	 * The {@link KeyGenerator} to use to identify failed items across rollback. Not used
 	 * in the case of the {@link #setBuffering(boolean) buffering flag} being true (the
@@ -132,6 +137,21 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		this.processorTransactional = processorTransactional;
 	}
 
+	/**
+	 * Flag to say that a chunk should be scanned by bisection after a failed write
+	 * (defaults to false). By default the items of the chunk are then written one at a
+	 * time, each in its own transaction. With bisection, the failed items are written in
+	 * halves, and only the halves that fail are split again, so that locating {@code k}
+	 * failed items in a chunk of {@code n} items takes {@code O(k log n)} transactions
+	 * instead of {@code n}. Items are written one at a time only once a single item is
+	 * left to check, which is also when write skips are accounted.
+	 * @param bisectingScan the flag value to set
+	 * @since 5.1
+	 */
+	public void setBisectingScan(boolean bisectingScan) {
+		this.bisectingScan = bisectingScan;
+	}
+
 	public FaultTolerantChunkProcessor(ItemProcessor<? super I, ? extends O> itemProcessor,
 			ItemWriter<? super O> itemWriter, BatchRetryTemplate batchRetryTemplate) {
 		super(itemProcessor, itemWriter);
@@ -199,6 +219,25 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 	}
 
+	/**
+	 * Process the items up front, falling back to processing them one by one if the whole
+	 * chunk could not be processed, so that the failing items can be identified.
+	 */
+	@Nullable
+	@Override
+	ProcessedItems<O> preProcess(StepContribution contribution, Chunk<I> inputs) throws Exception {
+		try {
+			return super.preProcess(contribution, inputs);
+		}
+		catch (InterruptedException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			logger.debug("Processing items one by one after failed chunk processing", e);
+			return null;
+		}
+	}
+
 	@Override
 	protected Chunk<O> transform(final StepContribution contribution, Chunk<I> inputs) throws Exception {
 
@@ -207,16 +246,27 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		final UserData<O> data = (UserData<O>) inputs.getUserData();
 		final Chunk<O> cache = data.getOutputs();
 		final Iterator<O> cacheIterator = cache.isEmpty() ? null : new ArrayList<>(cache.getItems()).iterator();
+		// items processed as a whole chunk or in parallel are handled one by one below,
+		// as if they were processed at that point, so that retries and skips are
+		// accounted as usual
+		final ProcessedItems<O> processedItems = cache.isEmpty() && !data.scanning() ? preProcess(contribution, inputs)
+				: null;
+		final boolean[] consumed = processedItems != null ? new boolean[inputs.size()] : null;
+		final int scanLimit = bisectingScan && data.scanning() ? data.nextScanSegment(inputs.size()) : 1;
+		int index = 0;
 
 		// final int scanLimit = processorTransactional && data.scanning() ? 1 :
 		// 0;
 
-		for (final Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext();) {
+		for (final Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext(); index++) {
 
 			final I item = iterator.next();
+			final int itemIndex = index;
 
 			RetryCallback<O, Exception> retryCallback = context -> {
-				Timer.Sample sample = BatchMetrics.createTimerSample(meterRegistry);
+				// items processed up front were already timed
+				boolean processed = processedItems != null && !consumed[itemIndex];
+				Timer.Sample sample = processed ? null : createItemTimerSample();
 				String status = BatchMetrics.STATUS_SUCCESS;
 				O output = null;
 				try {
@@ -225,7 +275,13 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 						output = cached;
 					}
 					else {
-						output = doProcess(item);
+						if (processed) {
+							consumed[itemIndex] = true;
+							output = processedItems.get(itemIndex);
+						}
+						else {
+							output = doProcess(item);
+						}
 						if (output == null) {
 							data.incrementFilterCount();
 						}
@@ -260,7 +316,9 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 					}
 				}
 				finally {
-					stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+					if (sample != null) {
+						stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+					}
 				}
 				if (output == null) {
 					// No need to re-process filtered items
@@ -295,10 +353,10 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			}
 
 			/*
-			 * We only want to process the first item if there is a scan for a failed
-			 * item.
+			 * We only want to process the first item (or the first segment when
+			 * bisecting) if there is a scan for a failed item.
 			 */
-			if (data.scanning()) {
+			if (data.scanning() && (!bisectingScan || outputs.size() >= scanLimit)) {
 				while (cacheIterator != null && cacheIterator.hasNext()) {
 					outputs.add(cacheIterator.next());
 				}
@@ -568,6 +626,15 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 			}
 		}
 
+		if (bisectingScan) {
+			int size = data.nextScanSegment(outputs.size());
+			if (size > 1) {
+				scanSegment(contribution, inputs, outputs, chunkMonitor, size);
+				return;
+			}
+			data.scanned(1);
+		}
+
 		Chunk<O> items = Chunk.of(outputIterator.next());
 		inputIterator.next();
 		try {
@@ -609,6 +676,61 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 		}
 	}
 
+	/**
+	 * Write the first items of a chunk being scanned by bisection together. If they are
+	 * written successfully they are removed from the chunk, otherwise the segment is
+	 * split in halves to be written in the next transactions, and the current one is
+	 * rolled back.
+	 */
+	private void scanSegment(final StepContribution contribution, final Chunk<I> inputs, final Chunk<O> outputs,
+			ChunkMonitor chunkMonitor, int size) throws Exception {
+
+		@SuppressWarnings("unchecked")
+		final UserData<O> data = (UserData<O>) inputs.getUserData();
+
+		Chunk<O> items = new Chunk<>(outputs.getItems().subList(0, size));
+		try {
+			writeItems(items);
+			doAfterWrite(items);
+		}
+		catch (Exception e) {
+			try {
+				doOnWriteError(e, items);
+			}
+			finally {
+				data.splitScanSegment(size);
+			}
+			Throwable cause = e;
+			if (e instanceof StepListenerFailedException) {
+				cause = e.getCause();
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Splitting segment of " + size + " items after failed write", cause);
+			}
+			if (rollbackClassifier.classify(cause)) {
+				throw (Exception) cause;
+			}
+			throw new ForceRollbackForWriteSkipException(
+					"Force rollback on skippable exception so that skipped item can be located.", cause);
+		}
+		contribution.incrementWriteCount(size);
+		Chunk<I>.ChunkIterator inputIterator = inputs.iterator();
+		Chunk<O>.ChunkIterator outputIterator = outputs.iterator();
+		for (int i = 0; i < size; i++) {
+			inputIterator.next();
+			inputIterator.remove();
+			outputIterator.next();
+			outputIterator.remove();
+			chunkMonitor.incrementOffset();
+		}
+		data.scanned(size);
+		if (outputs.isEmpty()) {
+			data.scanning(false);
+			inputs.setBusy(false);
+			chunkMonitor.resetOffset();
+		}
+	}
+
 	private static class UserData<O> {
 
 		private Chunk<O> outputs;
@@ -617,12 +739,46 @@ public class FaultTolerantChunkProcessor<I, O> extends SimpleChunkProcessor<I, O
 
 		private boolean scanning;
 
+		/**
+		 * Sizes of the consecutive segments of items left to write when scanning by
+		 * bisection, the first one being written next.
+		 */
+		private final Deque<Integer> scanSegments = new ArrayDeque<>();
+
 		public boolean scanning() {
 			return scanning;
 		}
 
 		public void scanning(boolean scanning) {
 			this.scanning = scanning;
+			if (!scanning) {
+				scanSegments.clear();
+			}
+		}
+
+		public int nextScanSegment(int remaining) {
+			if (scanSegments.isEmpty()) {
+				// all the remaining items failed together, start with the first half
+				scanSegments.addFirst(remaining);
+				splitScanSegment(remaining);
+			}
+			return Math.min(scanSegments.peekFirst(), remaining);
+		}
+
+		public void splitScanSegment(int size) {
+			scanned(size);
+			int half = (size + 1) / 2;
+			if (size > half) {
+				scanSegments.addFirst(size - half);
+			}
+			scanSegments.addFirst(half);
+		}
+
+		public void scanned(int size) {
+			Integer segment = scanSegments.pollFirst();
+			if (segment != null && segment > size) {
+				scanSegments.addFirst(segment - size);
+			}
 		}
 
 		public void incrementFilterCount() {
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChunkProvider} decorator that reads the next chunk in the background while the
+ * current one is processed and written, so that reading overlaps with writing and
+ * committing. At most one chunk is read ahead.
+ * <p>
+ * This provider is also the {@link ItemStream} of the reader, which must not be
+ * registered with the step itself. The state of the reader is saved when a chunk has been
+ * read, before reading ahead, and this saved state is the one written to the execution
+ * context on {@link #update(ExecutionContext)}. The state committed with a chunk
+ * therefore covers the items read up to that chunk, as without pipelining. A chunk read
+ * ahead is discarded when the step ends, and read again on restart.
+ * <p>
+ * Items are read on a thread of the provided {@link Executor}, with the step context
+ * registered, so the reader and the read listeners must not rely on the transaction of
+ * the step or on thread-bound resources. The provider is not thread-safe and cannot be
+ * used in a multi-threaded step.
+ *
+ * @since 5.1
+ * @param <I> input item type
+ */
+public class PipelinedChunkProvider<I> implements ChunkProvider<I>, ItemStream {
+
+	private static final Log logger = LogFactory.getLog(PipelinedChunkProvider.class);
+
+	private final ChunkProvider<I> delegate;
+
+	@Nullable
+	private final ItemStream readerStream;
+
+	private final Executor executor;
+
+	@Nullable
+	private CompletableFuture<ReadAhead<I>> readAhead;
+
+	@Nullable
+	private ExecutionContext readerState;
+
+	/**
+	 * Create a new {@link PipelinedChunkProvider}.
+	 * @param delegate the provider reading the chunks
+	 * @param readerStream the stream of the reader used by the delegate, or {@code null}
+	 * if the reader is not an {@link ItemStream}
+	 * @param executor the executor used to read chunks ahead
+	 */
+	public PipelinedChunkProvider(ChunkProvider<I> delegate, @Nullable ItemStream readerStream, Executor executor) {
+		Assert.notNull(delegate, "The delegate chunk provider must not be null");
+		Assert.notNull(executor, "The executor must not be null");
+		this.delegate = delegate;
+		this.readerStream = readerStream;
+		this.executor = executor;
+	}
+
+	@Override
+	public Chunk<I> provide(StepContribution contribution) throws Exception {
+		Chunk<I> inputs;
+		if (this.readAhead != null) {
+			ReadAhead<I> result = awaitReadAhead();
+			inputs = result.inputs;
+			apply(result.contribution, contribution);
+		}
+		else {
+			inputs = this.delegate.provide(contribution);
+		}
+		this.readerState = null;
+		if (!inputs.isEnd()) {
+			if (this.readerStream != null) {
+				this.readerState = new ExecutionContext();
+				this.readerStream.update(this.readerState);
+			}
+			StepExecution stepExecution = contribution.getStepExecution();
+			this.readAhead = CompletableFuture.supplyAsync(() -> read(stepExecution), this.executor);
+		}
+		return inputs;
+	}
+
+	private ReadAhead<I> read(StepExecution stepExecution) {
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			StepContribution contribution = new StepContribution(stepExecution);
+			return new ReadAhead<>(this.delegate.provide(contribution), contribution);
+		}
+		catch (Exception e) {
+			throw new CompletionException(e);
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+	}
+
+	private ReadAhead<I> awaitReadAhead() throws Exception {
+		CompletableFuture<ReadAhead<I>> future = this.readAhead;
+		this.readAhead = null;
+		try {
+			return future.get();
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception exception) {
+				throw exception;
+			}
+			throw e;
+		}
+	}
+
+	private void apply(StepContribution source, StepContribution target) {
+		for (long i = 0; i < source.getReadCount(); i++) {
+			target.incrementReadCount();
+		}
+		target.incrementReadSkipCount(source.getReadSkipCount());
+		target.incrementFilterCount(source.getFilterCount());
+	}
+
+	@Override
+	public void postProcess(StepContribution contribution, Chunk<I> chunk) {
+		this.delegate.postProcess(contribution, chunk);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		this.readAhead = null;
+		this.readerState = null;
+		if (this.readerStream != null) {
+			this.readerStream.open(executionContext);
+		}
+	}
+
+	/**
+	 * Save the state of the reader as it was after reading the last provided chunk.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.readerState != null) {
+			for (Map.Entry<String, Object> entry : this.readerState.entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+		}
+		else if (this.readerStream != null && this.readAhead == null) {
+			this.readerStream.update(executionContext);
+		}
+	}
+
+	/**
+	 * Wait for the chunk being read ahead, if any, and close the reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		if (this.readAhead != null) {
+			try {
+				this.readAhead.join();
+			}
+			catch (CompletionException e) {
+				logger.debug("Discarding the failure of a chunk read ahead", e.getCause());
+			}
+			this.readAhead = null;
+		}
+		this.readerState = null;
+		if (this.readerStream != null) {
+			this.readerStream.close();
+		}
+	}
+
+	private record ReadAhead<I>(Chunk<I> inputs, StepContribution contribution) {
+	}
+
+}
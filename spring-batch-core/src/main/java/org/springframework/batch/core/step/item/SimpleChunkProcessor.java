@@ -16,11 +16,14 @@
 
 package org.springframework.batch.core.step.item;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 
 import org.springframework.batch.core.StepContribution;
@@ -28,10 +31,17 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepListener;
 import org.springframework.batch.core.listener.MulticasterBatchListener;
 import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.SkipWrapper;
+import org.springframework.batch.support.TaskExecutorUtils;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -51,6 +61,15 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 
 	protected MeterRegistry meterRegistry = Metrics.globalRegistry;
 
+	private int itemTimerSamplingInterval = 1;
+
+	private StepTimers timers = new StepTimers(this.meterRegistry);
+
+	private int processingConcurrency = 1;
+
+	@Nullable
+	private TaskExecutor processingTaskExecutor;
+
 	/**
 	 * Default constructor for ease of configuration.
 	 */
@@ -90,6 +109,47 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 	 */
 	public void setMeterRegistry(MeterRegistry meterRegistry) {
 		this.meterRegistry = meterRegistry;
+		this.timers = new StepTimers(meterRegistry);
+	}
+
+	/**
+	 * Set the sampling interval of the item processing timer. A value of {@code 1} (the
+	 * default) times every item, a value of {@code n} times one item out of {@code n} on
+	 * average and a value of {@code 0} disables the item processing timer. The chunk
+	 * writing timer is not affected.
+	 * @param itemTimerSamplingInterval the sampling interval, must not be negative
+	 * @since 5.1
+	 */
+	public void setItemTimerSamplingInterval(int itemTimerSamplingInterval) {
+		Assert.isTrue(itemTimerSamplingInterval >= 0, "The item timer sampling interval must not be negative");
+		this.itemTimerSamplingInterval = itemTimerSamplingInterval;
+	}
+
+	/**
+	 * Set the maximum number of items of a chunk processed at the same time. With a value
+	 * greater than {@code 1} (the default), the items of a chunk are processed in
+	 * parallel on the {@link #setProcessingTaskExecutor(TaskExecutor) processing task
+	 * executor}, with the step context registered, and the outputs are written in the
+	 * order of the inputs. The item processor and the process listeners must then be
+	 * thread-safe, and must not rely on the transaction of the chunk.
+	 * @param processingConcurrency the maximum number of items processed at the same time
+	 * @since 5.1
+	 */
+	public void setProcessingConcurrency(int processingConcurrency) {
+		Assert.isTrue(processingConcurrency > 0, "The processing concurrency must be greater than zero");
+		this.processingConcurrency = processingConcurrency;
+	}
+
+	/**
+	 * Set the task executor used to process items in parallel. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} using virtual threads when they are available, and
+	 * platform threads otherwise.
+	 * @param processingTaskExecutor the task executor used to process items
+	 * @since 5.1
+	 * @see #setProcessingConcurrency(int)
+	 */
+	public void setProcessingTaskExecutor(TaskExecutor processingTaskExecutor) {
+		this.processingTaskExecutor = processingTaskExecutor;
 	}
 
 	/**
@@ -313,10 +373,35 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 
 	protected Chunk<O> transform(StepContribution contribution, Chunk<I> inputs) throws Exception {
 		Chunk<O> outputs = new Chunk<>();
-		for (Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext();) {
+		ProcessedItems<O> processedItems;
+		try {
+			processedItems = preProcess(contribution, inputs);
+		}
+		catch (Exception e) {
+			inputs.clear();
+			throw e;
+		}
+		int index = 0;
+		for (Chunk<I>.ChunkIterator iterator = inputs.iterator(); iterator.hasNext(); index++) {
 			final I item = iterator.next();
 			O output;
-			Timer.Sample sample = BatchMetrics.createTimerSample(this.meterRegistry);
+			if (processedItems != null) {
+				try {
+					output = processedItems.get(index);
+				}
+				catch (Exception e) {
+					inputs.clear();
+					throw e;
+				}
+				if (output != null) {
+					outputs.add(output);
+				}
+				else {
+					iterator.remove();
+				}
+				continue;
+			}
+			Timer.Sample sample = createItemTimerSample();
 			String status = BatchMetrics.STATUS_SUCCESS;
 			try {
 				output = doProcess(item);
@@ -331,7 +416,9 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 				throw e;
 			}
 			finally {
-				stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+				if (sample != null) {
+					stopTimer(sample, contribution.getStepExecution(), "item.process", status, "Item processing");
+				}
 			}
 			if (output != null) {
 				outputs.add(output);
@@ -343,14 +430,215 @@ public class SimpleChunkProcessor<I, O> implements ChunkProcessor<I>, Initializi
 		return outputs;
 	}
 
+	/**
+	 * Process the given items up front if they are processed as a whole chunk or in
+	 * parallel. The outcomes are then applied item by item, in the order of the items.
+	 * @param contribution the current step contribution
+	 * @param inputs the items to process
+	 * @return the outputs and failures of the items, or {@code null} if the items should
+	 * be processed one by one
+	 * @throws Exception if the whole chunk could not be processed
+	 */
+	@Nullable
+	ProcessedItems<O> preProcess(StepContribution contribution, Chunk<I> inputs) throws Exception {
+		if (this.itemProcessor instanceof ChunkItemProcessor) {
+			return processChunk(contribution, inputs.getItems());
+		}
+		if (isProcessingInParallel(inputs)) {
+			return processInParallel(contribution, inputs.getItems());
+		}
+		return null;
+	}
+
+	/**
+	 * @param inputs the items to process
+	 * @return true if the items should be processed in parallel
+	 */
+	boolean isProcessingInParallel(Chunk<I> inputs) {
+		return this.processingConcurrency > 1 && this.itemProcessor != null
+				&& !(this.itemProcessor instanceof ChunkItemProcessor) && inputs.size() > 1;
+	}
+
+	/**
+	 * Process the given items with a single call to the {@link ChunkItemProcessor}. The
+	 * process listeners are called for each item, and the call is timed as a whole.
+	 * @param contribution the current step contribution
+	 * @param items the items to process
+	 * @return the outputs and failures of the items, in the order of the items
+	 * @throws Exception if the whole chunk could not be processed
+	 */
+	@SuppressWarnings("unchecked")
+	ProcessedItems<O> processChunk(StepContribution contribution, List<I> items) throws Exception {
+		ChunkItemProcessor<I, O> chunkItemProcessor = (ChunkItemProcessor<I, O>) this.itemProcessor;
+		Chunk<I> chunk = new Chunk<>(items);
+		for (I item : items) {
+			listener.beforeProcess(item);
+		}
+		Timer.Sample sample = BatchMetrics.createTimerSample(this.meterRegistry);
+		String status = BatchMetrics.STATUS_SUCCESS;
+		Chunk<O> outputs;
+		try {
+			outputs = chunkItemProcessor.processChunk(chunk);
+		}
+		catch (Exception e) {
+			status = BatchMetrics.STATUS_FAILURE;
+			for (I item : items) {
+				listener.onProcessError(item, e);
+			}
+			throw e;
+		}
+		finally {
+			stopTimer(sample, contribution.getStepExecution(), "chunk.process", status, "Chunk processing");
+		}
+		List<I> remaining = chunk.getItems();
+		Assert.state(outputs != null && outputs.size() == remaining.size(), () -> "Expected " + remaining.size()
+				+ " output items but got " + (outputs == null ? null : outputs.size()));
+		Map<I, Throwable> failures = new IdentityHashMap<>();
+		for (SkipWrapper<I> skip : chunk.getSkips()) {
+			failures.put(skip.getItem(), skip.getException());
+		}
+		List<O> outputItems = outputs.getItems();
+		ProcessedItems<O> processedItems = new ProcessedItems<>(items.size());
+		int next = 0;
+		for (int index = 0; index < items.size(); index++) {
+			I item = items.get(index);
+			if (next < remaining.size() && remaining.get(next) == item) {
+				O output = outputItems.get(next++);
+				processedItems.outputs[index] = output;
+				listener.afterProcess(item, output);
+			}
+			else if (failures.get(item) instanceof Exception exception) {
+				processedItems.failures[index] = exception;
+				listener.onProcessError(item, exception);
+			}
+			else if (failures.get(item) instanceof Error error) {
+				processedItems.failures[index] = error;
+			}
+			else {
+				listener.afterProcess(item, null);
+			}
+		}
+		return processedItems;
+	}
+
+	/**
+	 * Process the given items in parallel, with at most the configured concurrency, and
+	 * wait for all of them to be processed. Each item is timed and calls the process
+	 * listeners as with {@link #doProcess(Object)}.
+	 * @param contribution the current step contribution
+	 * @param items the items to process
+	 * @return the outputs and failures of the items, in the order of the items
+	 * @throws InterruptedException if interrupted while waiting for the items
+	 */
+	ProcessedItems<O> processInParallel(StepContribution contribution, List<I> items) throws InterruptedException {
+		ProcessedItems<O> processedItems = new ProcessedItems<>(items.size());
+		StepExecution stepExecution = contribution.getStepExecution();
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(this.processingConcurrency, items.size());
+		CountDownLatch latch = new CountDownLatch(workers);
+		Runnable worker = () -> {
+			StepSynchronizationManager.register(stepExecution);
+			try {
+				int index;
+				while ((index = next.getAndIncrement()) < items.size()) {
+					processItem(stepExecution, items.get(index), index, processedItems);
+				}
+			}
+			finally {
+				StepSynchronizationManager.close();
+				latch.countDown();
+			}
+		};
+		TaskExecutor taskExecutor = getProcessingTaskExecutor();
+		for (int i = 0; i < workers; i++) {
+			try {
+				taskExecutor.execute(worker);
+			}
+			catch (TaskRejectedException e) {
+				worker.run();
+			}
+		}
+		latch.await();
+		return processedItems;
+	}
+
+	private void processItem(StepExecution stepExecution, I item, int index, ProcessedItems<O> processedItems) {
+		Timer.Sample sample = createItemTimerSample();
+		String status = BatchMetrics.STATUS_SUCCESS;
+		try {
+			processedItems.outputs[index] = doProcess(item);
+		}
+		catch (Throwable e) {
+			status = BatchMetrics.STATUS_FAILURE;
+			processedItems.failures[index] = e;
+		}
+		finally {
+			if (sample != null) {
+				stopTimer(sample, stepExecution, "item.process", status, "Item processing");
+			}
+		}
+	}
+
+	private TaskExecutor getProcessingTaskExecutor() {
+		if (this.processingTaskExecutor == null) {
+			this.processingTaskExecutor = TaskExecutorUtils.createAsyncTaskExecutor("item-processor-");
+		}
+		return this.processingTaskExecutor;
+	}
+
+	/**
+	 * Start a timer sample for an item-level metric, honouring the
+	 * {@link #setItemTimerSamplingInterval(int) sampling interval}.
+	 * @return a new timer sample, or {@code null} if the current item should not be timed
+	 * @since 5.1
+	 */
+	@Nullable
+	protected Timer.Sample createItemTimerSample() {
+		if (StepTimers.isSampled(this.itemTimerSamplingInterval)) {
+			return BatchMetrics.createTimerSample(this.meterRegistry);
+		}
+		return null;
+	}
+
 	protected void stopTimer(Timer.Sample sample, StepExecution stepExecution, String metricName, String status,
 			String description) {
-		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + metricName;
-		sample.stop(BatchMetrics.createTimer(this.meterRegistry, metricName, description + " duration",
-				Tag.of(fullyQualifiedMetricName + ".job.name",
-						stepExecution.getJobExecution().getJobInstance().getJobName()),
-				Tag.of(fullyQualifiedMetricName + ".step.name", stepExecution.getStepName()),
-				Tag.of(fullyQualifiedMetricName + ".status", status)));
+		sample.stop(this.timers.getTimer(stepExecution, metricName, description + " duration", status));
+	}
+
+	/**
+	 * The outcome of processing the items of a chunk in parallel.
+	 *
+	 * @param <O> output item type
+	 */
+	static class ProcessedItems<O> {
+
+		private final Object[] outputs;
+
+		private final Throwable[] failures;
+
+		ProcessedItems(int size) {
+			this.outputs = new Object[size];
+			this.failures = new Throwable[size];
+		}
+
+		/**
+		 * @param index the index of the item
+		 * @return the output of the item, or {@code null} if it was filtered
+		 * @throws Exception the exception thrown while processing the item
+		 */
+		@Nullable
+		@SuppressWarnings("unchecked")
+		O get(int index) throws Exception {
+			Throwable failure = this.failures[index];
+			if (failure instanceof Exception exception) {
+				throw exception;
+			}
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			return (O) this.outputs[index];
+		}
+
 	}
 
 }
@@ -20,7 +20,6 @@ import java.util.List;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +33,7 @@ import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.repeat.RepeatOperations;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Simple implementation of the ChunkProvider interface that does basic chunk providing
@@ -56,6 +56,10 @@ public class SimpleChunkProvider<I> implements ChunkProvider<I> {
 
 	private MeterRegistry meterRegistry = Metrics.globalRegistry;
 
+	private int itemTimerSamplingInterval = 1;
+
+	private StepTimers timers = new StepTimers(this.meterRegistry);
+
 	public SimpleChunkProvider(ItemReader<? extends I> itemReader, RepeatOperations repeatOperations) {
 		this.itemReader = itemReader;
 		this.repeatOperations = repeatOperations;
@@ -79,6 +83,19 @@ public class SimpleChunkProvider<I> implements ChunkProvider<I> {
 	 */
 	public void setMeterRegistry(MeterRegistry meterRegistry) {
 		this.meterRegistry = meterRegistry;
+		this.timers = new StepTimers(meterRegistry);
+	}
+
+	/**
+	 * Set the sampling interval of the item reading timer. A value of {@code 1} (the
+	 * default) times every item, a value of {@code n} times one item out of {@code n} on
+	 * average and a value of {@code 0} disables the item reading timer.
+	 * @param itemTimerSamplingInterval the sampling interval, must not be negative
+	 * @since 5.1
+	 */
+	public void setItemTimerSamplingInterval(int itemTimerSamplingInterval) {
+		Assert.isTrue(itemTimerSamplingInterval >= 0, "The item timer sampling interval must not be negative");
+		this.itemTimerSamplingInterval = itemTimerSamplingInterval;
 	}
 
 	/**
@@ -126,7 +143,8 @@ public class SimpleChunkProvider<I> implements ChunkProvider<I> {
 		final Chunk<I> inputs = new Chunk<>();
 		repeatOperations.iterate(context -> {
 			I item;
-			Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+			Timer.Sample sample = StepTimers.isSampled(this.itemTimerSamplingInterval)
+					? BatchMetrics.createTimerSample(this.meterRegistry) : null;
 			String status = BatchMetrics.STATUS_SUCCESS;
 			try {
 				item = read(contribution, inputs);
@@ -138,7 +156,9 @@ public class SimpleChunkProvider<I> implements ChunkProvider<I> {
 				return RepeatStatus.FINISHED;
 			}
 			finally {
-				stopTimer(sample, contribution.getStepExecution(), status);
+				if (sample != null) {
+					stopTimer(sample, contribution.getStepExecution(), status);
+				}
 			}
 			if (item == null) {
 				inputs.setEnd();
@@ -154,12 +174,7 @@ public class SimpleChunkProvider<I> implements ChunkProvider<I> {
 	}
 
 	private void stopTimer(Timer.Sample sample, StepExecution stepExecution, String status) {
-		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + "item.read";
-		sample.stop(BatchMetrics.createTimer(this.meterRegistry, "item.read", "Item reading duration",
-				Tag.of(fullyQualifiedMetricName + ".job.name",
-						stepExecution.getJobExecution().getJobInstance().getJobName()),
-				Tag.of(fullyQualifiedMetricName + ".step.name", stepExecution.getStepName()),
-				Tag.of(fullyQualifiedMetricName + ".status", status)));
+		sample.stop(this.timers.getTimer(stepExecution, "item.read", "Item reading duration", status));
 	}
 
 	@Override
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.observability.BatchMetrics;
+
+/**
+ * Cache of the {@link Timer}s used by chunk providers and processors. Timers are tagged
+ * with the job name, the step name and the status, so they are looked up in the registry
+ * once per step, metric name and status instead of once per item or chunk.
+ *
+ * @since 5.1
+ */
+final class StepTimers {
+
+	private static final int SUCCESS = 0;
+
+	private static final int FAILURE = 1;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Map<String, Map<String, Timer[]>>> timers = new ConcurrentHashMap<>();
+
+	StepTimers(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Get the timer for the given step execution, metric and status, creating it if
+	 * necessary.
+	 * @param stepExecution the current step execution
+	 * @param metricName the name of the metric, without
+	 * {@link BatchMetrics#METRICS_PREFIX}
+	 * @param description the description of the timer
+	 * @param status the status tag of the timer
+	 * @return the timer
+	 */
+	Timer getTimer(StepExecution stepExecution, String metricName, String description, String status) {
+		String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+		String stepName = stepExecution.getStepName();
+		int index = BatchMetrics.STATUS_SUCCESS.equals(status) ? SUCCESS
+				: BatchMetrics.STATUS_FAILURE.equals(status) ? FAILURE : -1;
+		if (index < 0) {
+			return createTimer(jobName, stepName, metricName, description, status);
+		}
+		Timer[] timersByStatus = getTimersByStatus(jobName, stepName, metricName);
+		Timer timer = timersByStatus[index];
+		if (timer == null) {
+			// racing threads get the same meter from the registry
+			timer = createTimer(jobName, stepName, metricName, description, status);
+			timersByStatus[index] = timer;
+		}
+		return timer;
+	}
+
+	private Timer[] getTimersByStatus(String jobName, String stepName, String metricName) {
+		Map<String, Map<String, Timer[]>> timersByStep = this.timers.get(jobName);
+		if (timersByStep == null) {
+			timersByStep = this.timers.computeIfAbsent(jobName, name -> new ConcurrentHashMap<>());
+		}
+		Map<String, Timer[]> timersByMetric = timersByStep.get(stepName);
+		if (timersByMetric == null) {
+			timersByMetric = timersByStep.computeIfAbsent(stepName, name -> new ConcurrentHashMap<>());
+		}
+		Timer[] timersByStatus = timersByMetric.get(metricName);
+		if (timersByStatus == null) {
+			timersByStatus = timersByMetric.computeIfAbsent(metricName, name -> new Timer[2]);
+		}
+		return timersByStatus;
+	}
+
+	private Timer createTimer(String jobName, String stepName, String metricName, String description, String status) {
+		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + metricName;
+		return BatchMetrics.createTimer(this.meterRegistry, metricName, description,
+				Tag.of(fullyQualifiedMetricName + ".job.name", jobName),
+				Tag.of(fullyQualifiedMetricName + ".step.name", stepName),
+				Tag.of(fullyQualifiedMetricName + ".status", status));
+	}
+
+	/**
+	 * Decide whether the current item should be timed.
+	 * @param samplingInterval {@code 1} to time every item, {@code n} to time one item
+	 * out of {@code n} on average, {@code 0} to time no item at all
+	 * @return true if the current item should be timed
+	 */
+	static boolean isSampled(int samplingInterval) {
+		if (samplingInterval <= 1) {
+			return samplingInterval == 1;
+		}
+		return ThreadLocalRandom.current().nextInt(samplingInterval) == 0;
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnRangePartitionerTests {
+
+	private EmbeddedDatabase dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private final ColumnRangePartitioner partitioner = new ColumnRangePartitioner();
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE T_KEYS (ID BIGINT PRIMARY KEY, STATUS VARCHAR(10))");
+		partitioner.setDataSource(dataSource);
+		partitioner.setTable("T_KEYS");
+		partitioner.setColumn("ID");
+	}
+
+	@AfterEach
+	void tearDown() {
+		dataSource.shutdown();
+	}
+
+	@Test
+	void testEvenRanges() {
+		insert(1, 100);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(4, partitions.size());
+		assertRange(partitions, "partition0", 1, 25);
+		assertRange(partitions, "partition1", 26, 50);
+		assertRange(partitions, "partition2", 51, 75);
+		assertRange(partitions, "partition3", 76, 100);
+	}
+
+	@Test
+	void testFewerValuesThanGridSize() {
+		insert(1, 3);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(10);
+
+		assertEquals(3, partitions.size());
+		assertRange(partitions, "partition0", 1, 1);
+		assertRange(partitions, "partition2", 3, 3);
+	}
+
+	@Test
+	void testEmptyTable() {
+		assertTrue(partitioner.partition(4).isEmpty());
+	}
+
+	@Test
+	void testHistogramBalancesSkewedValues() {
+		insert(1, 90);
+		insert(1000, 1009);
+		partitioner.setHistogramSize(100);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		assertEquals(2, partitions.size());
+		assertRange(partitions, "partition0", 1, 55);
+		assertRange(partitions, "partition1", 56, 1009);
+	}
+
+	@Test
+	void testHistogramWithWhereClause() {
+		insert(1, 100);
+		jdbcTemplate.update("UPDATE T_KEYS SET STATUS = 'DONE' WHERE ID <= 50");
+		partitioner.setWhereClause("STATUS IS NULL");
+		partitioner.setHistogramSize(10);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(5);
+
+		assertEquals(5, partitions.size());
+		assertRange(partitions, "partition0", 51, 60);
+		assertRange(partitions, "partition4", 91, 100);
+	}
+
+	private void insert(long from, long to) {
+		for (long id = from; id <= to; id++) {
+			jdbcTemplate.update("INSERT INTO T_KEYS (ID) VALUES (?)", id);
+		}
+	}
+
+	private static void assertRange(Map<String, ExecutionContext> partitions, String name, long min, long max) {
+		ExecutionContext context = partitions.get(name);
+		assertEquals(min, context.getLong(ColumnRangePartitioner.MIN_VALUE_KEY));
+		assertEquals(max, context.getLong(ColumnRangePartitioner.MAX_VALUE_KEY));
+	}
+
+}
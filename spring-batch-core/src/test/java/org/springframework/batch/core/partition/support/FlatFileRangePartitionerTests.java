@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlatFileRangePartitionerTests {
+
+	private final FlatFileRangePartitioner partitioner = new FlatFileRangePartitioner();
+
+	@Test
+	void testMissingResource() {
+		partitioner.setResource(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(2));
+	}
+
+	@Test
+	void testRangesStartOnLines(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "line1\nline2\r\nline3\nline4\n");
+		partitioner.setResource(new FileSystemResource(file));
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		assertEquals(2, partitions.size());
+		assertRange(partitions.get("partition0"), 0, 13);
+		assertRange(partitions.get("partition1"), 13, 25);
+		String url = partitions.get("partition0").getString("fileName");
+		assertTrue(new UrlResource(url).exists());
+	}
+
+	@Test
+	void testFewerLinesThanGridSize(@TempDir Path tempDir) throws Exception {
+		partitioner.setResource(createFile(tempDir, "line1\nline2"));
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(10);
+
+		assertEquals(2, partitions.size());
+		assertRange(partitions.get("partition0"), 0, 6);
+		assertRange(partitions.get("partition1"), 6, 11);
+	}
+
+	@Test
+	void testEmptyFile(@TempDir Path tempDir) throws Exception {
+		partitioner.setResource(createFile(tempDir, ""));
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(1, partitions.size());
+		assertRange(partitions.get("partition0"), 0, 0);
+	}
+
+	@Test
+	void testLinesToSkip(@TempDir Path tempDir) throws Exception {
+		partitioner.setResource(createFile(tempDir, "a long header line that takes most of the file\nline1\nline2\n"));
+		partitioner.setLinesToSkip(1);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		assertEquals(2, partitions.size());
+		assertRange(partitions.get("partition0"), 0, 53);
+		assertRange(partitions.get("partition1"), 53, 59);
+	}
+
+	@Test
+	void testSetKeyName(@TempDir Path tempDir) throws Exception {
+		partitioner.setResource(createFile(tempDir, "line1\n"));
+		partitioner.setKeyName("foo");
+		Map<String, ExecutionContext> partitions = partitioner.partition(1);
+		assertTrue(partitions.get("partition0").containsKey("foo"));
+	}
+
+	@Test
+	void testReadAllRanges(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		List<String> lines = new ArrayList<>();
+		StringBuilder content = new StringBuilder("header\n");
+		for (int i = 0; i < 1000; i++) {
+			String line = "line-" + i + "-" + "x".repeat(i % 37);
+			lines.add(line);
+			content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+		}
+		Files.writeString(file, content);
+		Resource resource = new FileSystemResource(file);
+		partitioner.setResource(resource);
+		partitioner.setLinesToSkip(1);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(7);
+
+		assertEquals(7, partitions.size());
+		List<String> read = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			FlatFileItemReader<String> reader = new FlatFileItemReader<>();
+			reader.setResource(resource);
+			reader.setLineMapper(new PassThroughLineMapper());
+			reader.setLinesToSkip(1);
+			reader.setRangeStart(context.getLong(FlatFileRangePartitioner.RANGE_START_KEY));
+			reader.setRangeEnd(context.getLong(FlatFileRangePartitioner.RANGE_END_KEY));
+			reader.open(new ExecutionContext());
+			String line;
+			while ((line = reader.read()) != null) {
+				read.add(line);
+			}
+			reader.close();
+		}
+		assertEquals(lines, read);
+	}
+
+	private Resource createFile(Path tempDir, String content) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, content);
+		return new FileSystemResource(file);
+	}
+
+	private void assertRange(ExecutionContext context, long start, long end) {
+		assertEquals(start, context.getLong(FlatFileRangePartitioner.RANGE_START_KEY));
+		assertEquals(end, context.getLong(FlatFileRangePartitioner.RANGE_END_KEY));
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryExecutionContextSerializerTests extends AbstractExecutionContextSerializerTests {
+
+	private final BinaryExecutionContextSerializer serializer = new BinaryExecutionContextSerializer();
+
+	@Test
+	void testSerializeCommonTypes() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("int", 1);
+		m1.put("long", Long.MAX_VALUE);
+		m1.put("double", 1.5D);
+		m1.put("float", 2.5F);
+		m1.put("boolean", true);
+		m1.put("short", (short) 3);
+		m1.put("byte", (byte) 4);
+		m1.put("char", 'c');
+		m1.put("string", "héllo");
+		m1.put("bigDecimal", new BigDecimal("-12345.6789"));
+		m1.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+		m1.put("date", new Date(123456790123L));
+		m1.put("localDate", LocalDate.of(2023, 10, 17));
+		m1.put("localTime", LocalTime.of(10, 11, 12, 13));
+		m1.put("localDateTime", LocalDateTime.of(2023, 10, 17, 10, 11, 12, 13));
+		m1.put("instant", Instant.ofEpochSecond(123456789L, 42));
+		m1.put("list", new ArrayList<>(List.of("a", 1L, 2.0D)));
+		m1.put("set", new LinkedHashSet<>(List.of("x", "y")));
+		Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("key", new ArrayList<>(List.of(1, 2, 3)));
+		m1.put("map", nested);
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertEquals(m1, m2);
+		assertInstanceOf(ArrayList.class, m2.get("list"));
+		assertInstanceOf(LinkedHashSet.class, m2.get("set"));
+		assertInstanceOf(LinkedHashMap.class, m2.get("map"));
+	}
+
+	@Test
+	void testSerializeByteArray() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("bytes", new byte[] { 1, 2, 3 });
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) m2.get("bytes"));
+	}
+
+	@Test
+	void testSerializeWithCompression() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		List<String> files = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			files.add("/data/input/file-" + i + ".csv");
+		}
+		m1.put("files", files);
+
+		ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+		this.serializer.serialize(m1, uncompressed);
+		this.serializer.setCompress(true);
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		this.serializer.serialize(m1, compressed);
+
+		assertEquals(m1, m2);
+		assertTrue(compressed.size() < uncompressed.size() / 2);
+	}
+
+	@Test
+	void testSerializeNonSerializable() {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("object1", new Object());
+
+		assertThrows(IllegalArgumentException.class, () -> this.serializer.serialize(m1, new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void testDeserializeUnsupportedVersion() {
+		byte[] content = Base64.getEncoder().encode(new byte[] { 2, 0, 0 });
+
+		assertThrows(IllegalArgumentException.class,
+				() -> this.serializer.deserialize(new ByteArrayInputStream(content)));
+	}
+
+	@Test
+	void testDeserializeUnknownTypeTag() {
+		// version 1, no flags, one entry with key "a" and type tag 127
+		byte[] content = Base64.getEncoder().encode(new byte[] { 1, 0, 1, 1, 'a', 127 });
+
+		assertThrows(IllegalArgumentException.class,
+				() -> this.serializer.deserialize(new ByteArrayInputStream(content)));
+	}
+
+	@Override
+	protected ExecutionContextSerializer getSerializer() {
+		return this.serializer;
+	}
+
+}
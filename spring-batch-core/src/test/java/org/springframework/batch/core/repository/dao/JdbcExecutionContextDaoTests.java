@@ -17,12 +17,20 @@ package org.springframework.batch.core.repository.dao;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringJUnitConfig(locations = { "sql-dao-test.xml" })
 class JdbcExecutionContextDaoTests extends AbstractExecutionContextDaoTests {
@@ -36,6 +44,45 @@ class JdbcExecutionContextDaoTests extends AbstractExecutionContextDaoTests {
 		assertEquals("Serializer must not be null", exception.getMessage());
 	}
 
+	@Test
+	void testSkipUnchangedExecutionContexts() {
+		JdbcOperations jdbcTemplate = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcTemplate);
+		jdbcExecutionContextDao.setSkipUnchangedExecutionContexts(true);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 1L);
+		stepExecution.setStatus(BatchStatus.STARTED);
+
+		stepExecution.getExecutionContext().putString("key", "value");
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		stepExecution.getExecutionContext().putString("key", "value");
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+
+		stepExecution.getExecutionContext().putString("key", "other");
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+
+		// the context is always written when the step execution is no longer running
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	void testUnchangedExecutionContextsAreWrittenByDefault() {
+		JdbcOperations jdbcTemplate = mock();
+		JdbcExecutionContextDao jdbcExecutionContextDao = new JdbcExecutionContextDao();
+		jdbcExecutionContextDao.setJdbcTemplate(jdbcTemplate);
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L), 1L);
+		stepExecution.setStatus(BatchStatus.STARTED);
+
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
 	@Override
 	protected JobInstanceDao getJobInstanceDao() {
 		return applicationContext.getBean("jobInstanceDao", JobInstanceDao.class);
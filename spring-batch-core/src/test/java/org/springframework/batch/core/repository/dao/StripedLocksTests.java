@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedLocksTests {
+
+	@Test
+	void testSameIdReturnsSameLock() {
+		StripedLocks locks = new StripedLocks();
+		assertSame(locks.get(42L), locks.get(42L));
+	}
+
+	@Test
+	void testConsecutiveIdsUseDifferentLocks() {
+		StripedLocks locks = new StripedLocks(16);
+		Set<Lock> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (long id = 1; id <= 16; id++) {
+			distinct.add(locks.get(id));
+		}
+		assertEquals(16, distinct.size());
+	}
+
+	@Test
+	void testStripesMustBePowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new StripedLocks(12));
+		assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link WriteBehindJobRepository}.
+ *
+ */
+class WriteBehindJobRepositoryTests {
+
+	private final JobRepository delegate = mock();
+
+	private final WriteBehindJobRepository jobRepository = new WriteBehindJobRepository(this.delegate);
+
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		JobExecution jobExecution = new JobExecution(new JobInstance(1L, "job"), 1L, new JobParameters());
+		this.stepExecution = jobExecution.createStepExecution("step");
+		this.stepExecution.setId(1L);
+		this.jobRepository.setMaxPendingCommits(3);
+		this.jobRepository.setMaxPendingDuration(Duration.ofHours(1));
+	}
+
+	@Test
+	void testUpdatesAreCoalescedWhenContextDoesNotChange() {
+		start();
+
+		for (int i = 0; i < 6; i++) {
+			commit();
+		}
+
+		// start, then every third commit
+		verify(this.delegate, times(3)).update(this.stepExecution);
+		verify(this.delegate, never()).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testUpdatesAreWrittenThroughWhenContextChanges() {
+		start();
+
+		for (int i = 0; i < 4; i++) {
+			this.stepExecution.getExecutionContext().putInt("read.count", i);
+			commit();
+		}
+
+		verify(this.delegate, times(5)).update(this.stepExecution);
+		verify(this.delegate, times(4)).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testContextChangesAreDeferredWhenConfigured() {
+		this.jobRepository.setFlushOnExecutionContextChange(false);
+		start();
+
+		for (int i = 0; i < 4; i++) {
+			this.stepExecution.getExecutionContext().putInt("read.count", i);
+			commit();
+		}
+
+		// start, then the third commit
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate, times(1)).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreWrittenAtStepEnd() {
+		this.jobRepository.setFlushOnExecutionContextChange(false);
+		start();
+		this.stepExecution.getExecutionContext().putInt("read.count", 1);
+		commit();
+
+		this.stepExecution.upgradeStatus(BatchStatus.COMPLETED);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		this.jobRepository.update(this.stepExecution);
+
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate, times(1)).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testUpdatesAreWrittenWhenMaxPendingDurationIsReached() {
+		this.jobRepository.setMaxPendingDuration(Duration.ZERO);
+		start();
+
+		commit();
+		commit();
+
+		verify(this.delegate, times(3)).update(this.stepExecution);
+	}
+
+	@Test
+	void testUpdatesAreWrittenThroughWhenStepIsTerminating() {
+		start();
+
+		this.stepExecution.setTerminateOnly();
+		commit();
+
+		verify(this.delegate, times(2)).update(this.stepExecution);
+	}
+
+	private void start() {
+		this.stepExecution.setStatus(BatchStatus.STARTED);
+		this.jobRepository.update(this.stepExecution);
+	}
+
+	private void commit() {
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		this.stepExecution.incrementCommitCount();
+		this.jobRepository.update(this.stepExecution);
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.resource;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveCompletionPolicyTests {
+
+	private final StepExecution stepExecution = new JobExecution(new JobInstance(0L, "job"), new JobParameters())
+		.createStepExecution("step");
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void testCompletesAtChunkSize() {
+		AdaptiveCompletionPolicy policy = new AdaptiveCompletionPolicy(2, 1, 10, Duration.ofSeconds(1));
+		RepeatContext context = policy.start(null);
+		assertFalse(policy.isComplete(context));
+		policy.update(context);
+		assertFalse(policy.isComplete(context));
+		policy.update(context);
+		assertTrue(policy.isComplete(context));
+	}
+
+	@Test
+	void testFastChunksIncreaseChunkSize() {
+		AdaptiveCompletionPolicy policy = createPolicy(10, Duration.ofHours(1));
+
+		executeChunk(policy, 10);
+		assertEquals(20, policy.getChunkSize());
+		executeChunk(policy, 20);
+		assertEquals(40, policy.getChunkSize());
+		executeChunk(policy, 40);
+		assertEquals(50, policy.getChunkSize());
+
+		Counter counter = meterRegistry.find("spring.batch.chunk.size.change")
+			.tag("spring.batch.chunk.size.change.reason", "latency")
+			.counter();
+		assertNotNull(counter);
+		assertEquals(3, counter.count());
+		Gauge gauge = meterRegistry.find("spring.batch.chunk.size")
+			.tag("spring.batch.chunk.size.step.name", "step")
+			.gauge();
+		assertNotNull(gauge);
+		assertEquals(50, gauge.value());
+	}
+
+	@Test
+	void testSlowChunksDecreaseChunkSize() {
+		AdaptiveCompletionPolicy policy = createPolicy(40, Duration.ofNanos(1));
+
+		executeChunk(policy, 40);
+		assertEquals(20, policy.getChunkSize());
+		executeChunk(policy, 20);
+		assertEquals(10, policy.getChunkSize());
+		executeChunk(policy, 10);
+		assertEquals(5, policy.getChunkSize());
+	}
+
+	@Test
+	void testPartialFastChunkDoesNotChangeChunkSize() {
+		AdaptiveCompletionPolicy policy = createPolicy(10, Duration.ofHours(1));
+
+		executeChunk(policy, 3);
+
+		assertEquals(10, policy.getChunkSize());
+	}
+
+	@Test
+	void testRollbackHalvesChunkSize() {
+		AdaptiveCompletionPolicy policy = createPolicy(10, Duration.ofHours(1));
+		ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+		policy.beforeChunk(chunkContext);
+		policy.afterChunkError(chunkContext);
+		assertEquals(5, policy.getChunkSize());
+		policy.afterChunkError(chunkContext);
+		policy.afterChunkError(chunkContext);
+		assertEquals(5, policy.getChunkSize());
+
+		Counter counter = meterRegistry.find("spring.batch.chunk.size.change")
+			.tag("spring.batch.chunk.size.change.reason", "rollback")
+			.counter();
+		assertNotNull(counter);
+		assertEquals(1, counter.count());
+	}
+
+	@Test
+	void testInvalidBounds() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new AdaptiveCompletionPolicy(20, 5, 10, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompletionPolicy(5, 0, 10, Duration.ZERO));
+	}
+
+	private AdaptiveCompletionPolicy createPolicy(int initialChunkSize, Duration targetDuration) {
+		AdaptiveCompletionPolicy policy = new AdaptiveCompletionPolicy(initialChunkSize, 5, 50, targetDuration);
+		policy.setMeterRegistry(meterRegistry);
+		return policy;
+	}
+
+	private void executeChunk(AdaptiveCompletionPolicy policy, int items) {
+		ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+		policy.beforeChunk(chunkContext);
+		stepExecution.setReadCount(stepExecution.getReadCount() + items);
+		policy.afterChunk(chunkContext);
+	}
+
+}
@@ -15,7 +15,10 @@
  */
 package org.springframework.batch.core.step.builder;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.UnaryOperator;
 
@@ -45,6 +48,9 @@ import org.springframework.batch.core.configuration.xml.DummyItemWriter;
 import org.springframework.batch.core.job.SimpleJob;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.resource.AdaptiveCompletionPolicy;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemStreamSupport;
 import org.springframework.batch.item.support.ListItemReader;
@@ -60,6 +66,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Dave Syer
@@ -140,6 +147,127 @@ class StepBuilderTests {
 		assertEquals(1, AnnotationBasedChunkListener.afterChunkCount);
 	}
 
+	@Test
+	void testPipelinedStep() throws Exception {
+		List<String> items = List.of("1", "2", "3", "4", "5", "6", "7");
+		ListItemWriter<String> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<String, String>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.writer(itemWriter)
+			.pipelined()
+			.build();
+
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(items, itemWriter.getWrittenItems());
+		assertEquals(7, execution.getReadCount());
+		assertEquals(7, execution.getWriteCount());
+		assertEquals(3, execution.getCommitCount());
+	}
+
+	@Test
+	void testProcessingConcurrency() throws Exception {
+		List<String> items = List.of("1", "2", "3", "4", "5", "6", "7");
+		ListItemWriter<String> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<String, String>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.processor(item -> item.equals("4") ? null : item)
+			.writer(itemWriter)
+			.processingConcurrency(4)
+			.build();
+
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(List.of("1", "2", "3", "5", "6", "7"), itemWriter.getWrittenItems());
+		assertEquals(7, execution.getReadCount());
+		assertEquals(1, execution.getFilterCount());
+		assertEquals(6, execution.getWriteCount());
+	}
+
+	@Test
+	void testChunkProcessor() throws Exception {
+		List<String> items = List.of("1", "2", "3", "4", "5", "6", "7");
+		List<Integer> sizes = new ArrayList<>();
+		ListItemWriter<String> itemWriter = new ListItemWriter<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<String, String>chunk(3, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.chunkProcessor(chunk -> {
+				sizes.add(chunk.size());
+				return new Chunk<>(chunk.getItems());
+			})
+			.writer(itemWriter)
+			.build();
+
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(items, itemWriter.getWrittenItems());
+		assertEquals(List.of(3, 3, 1), sizes);
+	}
+
+	@Test
+	void testBisectingScan() throws Exception {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			items.add(String.valueOf(i));
+		}
+		List<String> writtenItems = new ArrayList<>();
+		List<Integer> writeSizes = new ArrayList<>();
+		TaskletStep step = new StepBuilder("step", jobRepository).<String, String>chunk(20, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.writer(chunk -> {
+				writeSizes.add(chunk.size());
+				if (chunk.getItems().contains("4") || chunk.getItems().contains("13")) {
+					throw new IllegalStateException("Planned failure");
+				}
+				writtenItems.addAll(chunk.getItems());
+			})
+			.faultTolerant()
+			.skip(IllegalStateException.class)
+			.skipLimit(2)
+			.bisectingScan()
+			.build();
+
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		List<String> expected = new ArrayList<>(items);
+		expected.removeAll(List.of("4", "13"));
+		assertEquals(expected, writtenItems);
+		assertEquals(18, execution.getWriteCount());
+		assertEquals(2, execution.getWriteSkipCount());
+		assertEquals(List.of(20, 10, 5, 3, 2, 1, 1, 5, 10, 5, 3, 2, 1, 1, 5), writeSizes);
+	}
+
+	@Test
+	void testAdaptiveCompletionPolicyIsRegisteredAsChunkListener() throws Exception {
+		List<String> items = Collections.nCopies(100, "item");
+		AdaptiveCompletionPolicy completionPolicy = new AdaptiveCompletionPolicy(2, 2, 50, Duration.ofHours(1));
+		TaskletStep step = new StepBuilder("step", jobRepository)
+			.<String, String>chunk(completionPolicy, transactionManager)
+			.reader(new ListItemReader<>(items))
+			.writer(new ListItemWriter<>())
+			.build();
+
+		step.execute(execution);
+
+		assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		assertEquals(100, execution.getWriteCount());
+		assertEquals(50, completionPolicy.getChunkSize());
+	}
+
+	@Test
+	void testPipelinedFaultTolerantStep() {
+		SimpleStepBuilder<Object, Object> builder = new StepBuilder("step", jobRepository).chunk(5, transactionManager)
+			.reader(new DummyItemReader())
+			.writer(new DummyItemWriter())
+			.pipelined()
+			.faultTolerant();
+		assertThrows(IllegalStateException.class, builder::build);
+	}
+
 	@Test
 	void testAnnotationBasedChunkListenerForFaultTolerantTaskletStep() throws Exception {
 		SimpleStepBuilder<Object, Object> builder = new StepBuilder("step", jobRepository).chunk(5, transactionManager)
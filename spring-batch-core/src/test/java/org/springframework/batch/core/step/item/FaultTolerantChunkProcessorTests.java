@@ -18,6 +18,7 @@ package org.springframework.batch.core.step.item;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ import org.springframework.batch.core.listener.ItemListenerSupport;
 import org.springframework.batch.core.step.skip.AlwaysSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.support.PassThroughItemProcessor;
 import org.springframework.classify.BinaryExceptionClassifier;
@@ -122,6 +124,98 @@ class FaultTolerantChunkProcessorTests {
 		assertEquals(1, contribution.getFilterCount());
 	}
 
+	@Test
+	void testFilterCountOnSkipWithChunkItemProcessor() throws Exception {
+		processor.setProcessSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setItemProcessor((ChunkItemProcessor<String, String>) chunk -> {
+			Chunk<String> outputs = new Chunk<>();
+			for (Chunk<String>.ChunkIterator iterator = chunk.iterator(); iterator.hasNext();) {
+				String item = iterator.next();
+				if (item.equals("1")) {
+					iterator.remove(new RuntimeException("Skippable"));
+				}
+				else if (item.equals("3")) {
+					iterator.remove();
+				}
+				else {
+					outputs.add(item);
+				}
+			}
+			return outputs;
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "1", "2", "4"));
+		Exception exception = assertThrows(Exception.class, () -> processor.process(contribution, inputs));
+		assertEquals("Skippable", exception.getMessage());
+		processor.process(contribution, inputs);
+		assertEquals(Arrays.asList("2", "4"), list);
+		assertEquals(1, contribution.getSkipCount());
+		assertEquals(1, contribution.getFilterCount());
+	}
+
+	@Test
+	void testChunkItemProcessorFailureFallsBackToItems() throws Exception {
+		List<Integer> sizes = new ArrayList<>();
+		processor.setItemProcessor((ChunkItemProcessor<String, String>) chunk -> {
+			sizes.add(chunk.size());
+			if (chunk.size() > 1) {
+				throw new RuntimeException("Chunk failure");
+			}
+			return new Chunk<>(chunk.getItems());
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("1", "2", "3"));
+		processor.process(contribution, inputs);
+		assertEquals(Arrays.asList("1", "2", "3"), list);
+		assertEquals(Arrays.asList(3, 1, 1, 1), sizes);
+	}
+
+	@Test
+	void testWriteSkipWithChunkItemProcessor() throws Exception {
+		List<Integer> sizes = new ArrayList<>();
+		processor.setWriteSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setItemProcessor((ChunkItemProcessor<String, String>) chunk -> {
+			sizes.add(chunk.size());
+			return new Chunk<>(chunk.getItems());
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "fail", "2"));
+		Exception exception = assertThrows(RuntimeException.class, () -> processor.process(contribution, inputs));
+		assertEquals("Planned failure!", exception.getMessage());
+		processor.process(contribution, inputs);
+		exception = assertThrows(RuntimeException.class, () -> processor.process(contribution, inputs));
+		assertEquals("Planned failure!", exception.getMessage());
+		processor.process(contribution, inputs);
+		assertEquals(Arrays.asList("3", "2"), list);
+		assertEquals(1, contribution.getSkipCount());
+		assertEquals(2, contribution.getWriteCount());
+		// the chunk is processed as a whole, then item by item while scanning
+		assertEquals(Arrays.asList(3, 1, 1, 1), sizes);
+	}
+
+	@Test
+	void testFilterCountOnSkipWithParallelProcessing() throws Exception {
+		processor.setProcessSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setProcessingConcurrency(3);
+		processor.setItemProcessor(new ItemProcessor<>() {
+			@Nullable
+			@Override
+			public String process(String item) throws Exception {
+				if (item.equals("1")) {
+					throw new RuntimeException("Skippable");
+				}
+				if (item.equals("3")) {
+					return null;
+				}
+				return item;
+			}
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("3", "1", "2", "4"));
+		Exception exception = assertThrows(Exception.class, () -> processor.process(contribution, inputs));
+		assertEquals("Skippable", exception.getMessage());
+		processor.process(contribution, inputs);
+		assertEquals(Arrays.asList("2", "4"), list);
+		assertEquals(1, contribution.getSkipCount());
+		assertEquals(1, contribution.getFilterCount());
+	}
+
 	@Test
 	// BATCH-2663
 	void testFilterCountOnSkipInWriteWithoutRetry() throws Exception {
@@ -219,6 +313,37 @@ class FaultTolerantChunkProcessorTests {
 		assertEquals(0, contribution.getFilterCount());
 	}
 
+	@Test
+	void testWriteSkipWithBisectingScan() throws Exception {
+		List<Integer> sizes = new ArrayList<>();
+		processor.setWriteSkipPolicy(new AlwaysSkipItemSkipPolicy());
+		processor.setBisectingScan(true);
+		processor.setItemWriter(chunk -> {
+			sizes.add(chunk.size());
+			if (chunk.getItems().contains("fail")) {
+				throw new RuntimeException("Planned failure!");
+			}
+			list.addAll(chunk.getItems());
+		});
+		Chunk<String> inputs = new Chunk<>(Arrays.asList("1", "2", "3", "4", "5", "fail", "7", "8"));
+		boolean done = false;
+		// one transaction per call, as in a chunk oriented tasklet
+		for (int i = 0; i < 10 && !done; i++) {
+			try {
+				processor.process(contribution, inputs);
+				done = !inputs.isBusy();
+			}
+			catch (RuntimeException e) {
+				assertEquals("Planned failure!", e.getMessage());
+			}
+		}
+		assertTrue(done);
+		assertEquals(Arrays.asList("1", "2", "3", "4", "5", "7", "8"), list);
+		assertEquals(Arrays.asList(8, 4, 4, 2, 1, 1, 2), sizes);
+		assertEquals(1, contribution.getWriteSkipCount());
+		assertEquals(7, contribution.getWriteCount());
+	}
+
 	@Test
 	void testWriteSkipOnExceptionWithTrivialChunk() throws Exception {
 		processor.setWriteSkipPolicy(new AlwaysSkipItemSkipPolicy());
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelinedChunkProviderTests {
+
+	private final StepExecution stepExecution = new StepExecution("foo",
+			new JobExecution(new JobInstance(123L, "job"), new JobParameters()));
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	private final ListReader reader = new ListReader(List.of("a", "b", "c", "d", "e"));
+
+	private final PipelinedChunkProvider<String> provider = new PipelinedChunkProvider<>(
+			new SimpleChunkProvider<>(reader, createRepeatTemplate(2)), reader, executor);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void testProvideChunks() throws Exception {
+		provider.open(new ExecutionContext());
+
+		StepContribution contribution = new StepContribution(stepExecution);
+		assertEquals(List.of("a", "b"), provider.provide(contribution).getItems());
+		assertEquals(2, contribution.getReadCount());
+
+		contribution = new StepContribution(stepExecution);
+		assertEquals(List.of("c", "d"), provider.provide(contribution).getItems());
+		assertEquals(2, contribution.getReadCount());
+
+		contribution = new StepContribution(stepExecution);
+		Chunk<String> chunk = provider.provide(contribution);
+		assertEquals(List.of("e"), chunk.getItems());
+		assertTrue(chunk.isEnd());
+		assertEquals(1, contribution.getReadCount());
+		provider.close();
+	}
+
+	@Test
+	void testUpdateSavesStateOfProvidedChunks() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		provider.open(executionContext);
+
+		provider.provide(new StepContribution(stepExecution));
+		// wait for the next chunk to be read ahead
+		executor.submit(() -> {
+		}).get();
+		assertEquals(4, reader.getReadCount());
+
+		provider.update(executionContext);
+		assertEquals(2, executionContext.getInt("reader.read.count"));
+		provider.close();
+
+		// restart
+		provider.open(executionContext);
+		assertEquals(List.of("c", "d"), provider.provide(new StepContribution(stepExecution)).getItems());
+		provider.close();
+	}
+
+	@Test
+	void testReadAheadHasStepContext() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		StepExecution[] stepExecutions = new StepExecution[1];
+		PipelinedChunkProvider<String> provider = new PipelinedChunkProvider<>(new ChunkProvider<>() {
+			@Override
+			public Chunk<String> provide(StepContribution contribution) {
+				stepExecutions[0] = StepSynchronizationManager.getContext().getStepExecution();
+				latch.countDown();
+				return new Chunk<>("a");
+			}
+
+			@Override
+			public void postProcess(StepContribution contribution, Chunk<String> chunk) {
+			}
+		}, null, executor);
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			provider.provide(new StepContribution(stepExecution));
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+		assertSame(stepExecution, stepExecutions[0]);
+		provider.close();
+	}
+
+	@Test
+	void testReadAheadFailureIsThrownWhenProvided() throws Exception {
+		IllegalStateException failure = new IllegalStateException("Planned");
+		PipelinedChunkProvider<String> provider = new PipelinedChunkProvider<>(new ChunkProvider<>() {
+			private int count;
+
+			@Override
+			public Chunk<String> provide(StepContribution contribution) {
+				if (count++ > 0) {
+					throw failure;
+				}
+				return new Chunk<>("a");
+			}
+
+			@Override
+			public void postProcess(StepContribution contribution, Chunk<String> chunk) {
+			}
+		}, null, executor);
+
+		assertEquals(List.of("a"), provider.provide(new StepContribution(stepExecution)).getItems());
+		assertSame(failure,
+				assertThrows(IllegalStateException.class, () -> provider.provide(new StepContribution(stepExecution))));
+	}
+
+	private static RepeatTemplate createRepeatTemplate(int chunkSize) {
+		RepeatTemplate repeatTemplate = new RepeatTemplate();
+		repeatTemplate.setCompletionPolicy(new SimpleCompletionPolicy(chunkSize));
+		return repeatTemplate;
+	}
+
+	private static class ListReader extends AbstractItemCountingItemStreamItemReader<String> {
+
+		private final List<String> items;
+
+		private volatile int readCount;
+
+		ListReader(List<String> items) {
+			this.items = items;
+			setName("reader");
+		}
+
+		@Override
+		protected String doRead() {
+			return readCount < items.size() ? items.get(readCount++) : null;
+		}
+
+		@Override
+		protected void doOpen() {
+			readCount = 0;
+		}
+
+		@Override
+		protected void doClose() {
+		}
+
+		@Override
+		protected void jumpToItem(int itemIndex) {
+			readCount = itemIndex;
+		}
+
+		int getReadCount() {
+			return readCount;
+		}
+
+	}
+
+}
@@ -16,11 +16,18 @@
 package org.springframework.batch.core.step.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecution;
@@ -28,7 +35,9 @@ import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.ItemProcessListener;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ChunkItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.lang.Nullable;
@@ -76,4 +85,173 @@ class SimpleChunkProcessorTests {
 		assertEquals(2, contribution.getWriteCount());
 	}
 
+	@Test
+	void testProcessInParallel() throws Exception {
+		processor.setProcessingConcurrency(4);
+		Chunk<String> chunk = new Chunk<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			if (i % 7 == 3) {
+				chunk.add("err");
+			}
+			else {
+				chunk.add("item" + i);
+				expected.add("item" + i);
+			}
+		}
+		processor.process(contribution, chunk);
+		assertEquals(expected, list);
+		assertEquals(7, contribution.getFilterCount());
+		assertEquals(43, contribution.getWriteCount());
+	}
+
+	@Test
+	void testProcessInParallelRespectsConcurrency() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(item -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			running.decrementAndGet();
+			return item.toUpperCase();
+		}, chunk -> list.addAll(chunk.getItems()));
+		processor.setProcessingConcurrency(3);
+
+		processor.process(contribution, Chunk.of("a", "b", "c", "d", "e", "f", "g", "h"));
+
+		assertEquals(Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H"), list);
+		assertTrue(maxRunning.get() <= 3);
+	}
+
+	@Test
+	void testProcessInParallelWithFailure() {
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(item -> {
+			if (item.startsWith("fail")) {
+				throw new IllegalStateException(item);
+			}
+			return item;
+		}, chunk -> list.addAll(chunk.getItems()));
+		processor.setProcessingConcurrency(4);
+		Chunk<String> chunk = Chunk.of("foo", "fail1", "bar", "fail2");
+
+		Exception exception = assertThrows(IllegalStateException.class, () -> processor.process(contribution, chunk));
+
+		assertEquals("fail1", exception.getMessage());
+		assertTrue(chunk.isEmpty());
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	void testProcessChunk() throws Exception {
+		List<String> events = new ArrayList<>();
+		AtomicInteger calls = new AtomicInteger();
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(
+				(ChunkItemProcessor<String, String>) chunk -> {
+					calls.incrementAndGet();
+					Chunk<String> outputs = new Chunk<>();
+					for (Chunk<String>.ChunkIterator iterator = chunk.iterator(); iterator.hasNext();) {
+						String item = iterator.next();
+						if (item.equals("err")) {
+							iterator.remove();
+						}
+						else {
+							outputs.add(item.toUpperCase());
+						}
+					}
+					return outputs;
+				}, chunk -> list.addAll(chunk.getItems()));
+		processor.registerListener(new ItemProcessListener<String, String>() {
+			@Override
+			public void beforeProcess(String item) {
+				events.add("before " + item);
+			}
+
+			@Override
+			public void afterProcess(String item, @Nullable String result) {
+				events.add("after " + item + " " + result);
+			}
+		});
+		Chunk<String> chunk = Chunk.of("foo", "err", "bar");
+
+		processor.process(contribution, chunk);
+
+		assertEquals(1, calls.get());
+		assertEquals(Arrays.asList("FOO", "BAR"), list);
+		assertEquals(Arrays.asList("foo", "bar"), chunk.getItems());
+		assertEquals(1, contribution.getFilterCount());
+		assertEquals(2, contribution.getWriteCount());
+		assertEquals(Arrays.asList("before foo", "before err", "before bar", "after foo FOO", "after err null",
+				"after bar BAR"), events);
+	}
+
+	@Test
+	void testProcessChunkWithItemFailure() {
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(
+				(ChunkItemProcessor<String, String>) chunk -> {
+					Chunk<String> outputs = new Chunk<>();
+					for (Chunk<String>.ChunkIterator iterator = chunk.iterator(); iterator.hasNext();) {
+						String item = iterator.next();
+						if (item.equals("fail")) {
+							iterator.remove(new IllegalStateException(item));
+						}
+						else {
+							outputs.add(item);
+						}
+					}
+					return outputs;
+				}, chunk -> list.addAll(chunk.getItems()));
+		Chunk<String> chunk = Chunk.of("foo", "fail", "bar");
+
+		Exception exception = assertThrows(IllegalStateException.class, () -> processor.process(contribution, chunk));
+
+		assertEquals("fail", exception.getMessage());
+		assertTrue(chunk.isEmpty());
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	void testProcessChunkWithMissingOutputs() {
+		SimpleChunkProcessor<String, String> processor = new SimpleChunkProcessor<>(
+				(ChunkItemProcessor<String, String>) chunk -> Chunk.of("foo"), chunk -> list.addAll(chunk.getItems()));
+		Chunk<String> chunk = Chunk.of("foo", "bar");
+
+		assertThrows(IllegalStateException.class, () -> processor.process(contribution, chunk));
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	void testProcessRecordsTimers() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		processor.setMeterRegistry(meterRegistry);
+
+		processor.process(contribution, Chunk.of("foo", "bar"));
+		processor.process(contribution, Chunk.of("baz"));
+
+		Timer processTimer = meterRegistry.find("spring.batch.item.process")
+			.tag("spring.batch.item.process.status", "SUCCESS")
+			.timer();
+		Timer writeTimer = meterRegistry.find("spring.batch.chunk.write")
+			.tag("spring.batch.chunk.write.status", "SUCCESS")
+			.timer();
+		assertNotNull(processTimer);
+		assertEquals(3, processTimer.count());
+		assertNotNull(writeTimer);
+		assertEquals(2, writeTimer.count());
+	}
+
+	@Test
+	void testProcessWithItemTimerDisabled() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		processor.setMeterRegistry(meterRegistry);
+		processor.setItemTimerSamplingInterval(0);
+
+		processor.process(contribution, Chunk.of("foo", "bar"));
+
+		assertEquals(Arrays.asList("foo", "bar"), list);
+		assertNull(meterRegistry.find("spring.batch.item.process").timer());
+		Timer writeTimer = meterRegistry.find("spring.batch.chunk.write").timer();
+		assertNotNull(writeTimer);
+		assertEquals(1, writeTimer.count());
+	}
+
 }
@@ -17,9 +17,12 @@ package org.springframework.batch.core.step.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Arrays;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
@@ -62,4 +65,35 @@ class SimpleChunkProviderTests {
 		assertEquals(1, chunk.getErrors().size());
 	}
 
+	@Test
+	void testProvideRecordsItemReadTimer() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		provider = new SimpleChunkProvider<>(new ListItemReader<>(Arrays.asList("foo", "bar")), new RepeatTemplate());
+		provider.setMeterRegistry(meterRegistry);
+
+		provider.provide(contribution);
+
+		Timer timer = meterRegistry.find("spring.batch.item.read")
+			.tag("spring.batch.item.read.job.name", "job")
+			.tag("spring.batch.item.read.step.name", "foo")
+			.tag("spring.batch.item.read.status", "SUCCESS")
+			.timer();
+		assertNotNull(timer);
+		// two items and the end of data
+		assertEquals(3, timer.count());
+	}
+
+	@Test
+	void testProvideWithItemTimerDisabled() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		provider = new SimpleChunkProvider<>(new ListItemReader<>(Arrays.asList("foo", "bar")), new RepeatTemplate());
+		provider.setMeterRegistry(meterRegistry);
+		provider.setItemTimerSamplingInterval(0);
+
+		Chunk<String> chunk = provider.provide(contribution);
+
+		assertEquals(2, chunk.getItems().size());
+		assertNull(meterRegistry.find("spring.batch.item.read").timer());
+	}
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.item;
+
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ItemProcessor} transforming the items of a whole chunk at once, for example to
+ * look up the data of all items with a single query or remote call instead of one per
+ * item.
+ * <p>
+ * Implementations iterate over the input chunk with its {@link Chunk#iterator() iterator}
+ * and call {@link Chunk.ChunkIterator#remove()} to filter an item or
+ * {@link Chunk.ChunkIterator#remove(Throwable)} to report the failure of an item. The
+ * returned chunk contains one output for each input item remaining in the input chunk, in
+ * the same order. Throwing an exception from {@link #processChunk(Chunk)} reports a
+ * failure of all items.
+ * <p>
+ * Processing a single item (for example when a fault-tolerant step scans a chunk item by
+ * item) delegates to {@link #processChunk(Chunk)} with a chunk of one item.
+ *
+ * @param <I> type of input item
+ * @param <O> type of output item
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface ChunkItemProcessor<I, O> extends ItemProcessor<I, O> {
+
+	/**
+	 * Process the items of the provided chunk.
+	 * @param chunk the items to process, from which filtered and failed items are
+	 * removed, never {@code null}
+	 * @return the outputs of the items remaining in the provided chunk, in the same order
+	 * @throws Exception if the whole chunk could not be processed
+	 */
+	Chunk<O> processChunk(@NonNull Chunk<I> chunk) throws Exception;
+
+	/**
+	 * Process a single item by delegating to {@link #processChunk(Chunk)} with a chunk of
+	 * one item.
+	 * @param item to be processed, never {@code null}
+	 * @return the output of the item, {@code null} if it was filtered
+	 * @throws Exception if the item was removed with an exception or the chunk could not
+	 * be processed
+	 */
+	@Nullable
+	@Override
+	default O process(@NonNull I item) throws Exception {
+		Chunk<I> chunk = Chunk.of(item);
+		Chunk<O> outputs = processChunk(chunk);
+		List<SkipWrapper<I>> skips = chunk.getSkips();
+		if (!skips.isEmpty()) {
+			Throwable failure = skips.get(0).getException();
+			if (failure instanceof Exception exception) {
+				throw exception;
+			}
+			if (failure instanceof Error error) {
+				throw error;
+			}
+		}
+		if (chunk.isEmpty()) {
+			return null;
+		}
+		if (outputs.size() != 1) {
+			throw new IllegalStateException("Expected one output item but got " + outputs.size());
+		}
+		return outputs.getItems().get(0);
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.item;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Map;
@@ -28,7 +30,8 @@ import org.springframework.lang.Nullable;
 /**
  * Object representing a context for an {@link ItemStream}. It is a thin wrapper for a map
  * that allows optionally for type safety on reads. It also allows for dirty checking by
- * setting a 'dirty' flag whenever any put is called.
+ * setting a 'dirty' flag whenever any put is called, and keeps track of the keys that
+ * were changed since the last call to {@link #clearChangedKeys()}.
  * <p>
  * Non-transient entries should be serializable, otherwise a custom serializer should be
  * used. Note that putting <code>null</code> value is equivalent to removing the entry for
@@ -44,6 +47,8 @@ public class ExecutionContext implements Serializable {
 
 	private final Map<String, Object> map;
 
+	private transient Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Default constructor. Initializes a new execution context with an empty internal
 	 * map.
@@ -72,6 +77,7 @@ public class ExecutionContext implements Serializable {
 			return;
 		}
 		this.map.putAll(executionContext.toMap());
+		this.changedKeys.addAll(executionContext.changedKeys);
 	}
 
 	/**
@@ -130,6 +136,9 @@ public class ExecutionContext implements Serializable {
 			Object result = this.map.remove(key);
 			this.dirty = result != null;
 		}
+		if (this.dirty) {
+			this.changedKeys.add(key);
+		}
 	}
 
 	/**
@@ -332,6 +341,36 @@ public class ExecutionContext implements Serializable {
 		this.dirty = false;
 	}
 
+	/**
+	 * Returns the keys that were added, changed or removed since this context was created
+	 * or since {@link #clearChangedKeys()} was last called. A key is considered changed
+	 * when a "put" or "remove" operation modifies its value. Changes made to a mutable
+	 * value without putting it again are not tracked.
+	 * @return an unmodifiable view of the changed keys
+	 * @since 5.1
+	 */
+	public Set<String> getChangedKeys() {
+		return Collections.unmodifiableSet(this.changedKeys);
+	}
+
+	/**
+	 * Indicates whether any key was added, changed or removed since this context was
+	 * created or since {@link #clearChangedKeys()} was last called.
+	 * @return true if {@link #getChangedKeys()} is not empty
+	 * @since 5.1
+	 */
+	public boolean hasChangedKeys() {
+		return !this.changedKeys.isEmpty();
+	}
+
+	/**
+	 * Clears the changed keys, typically once the context has been persisted.
+	 * @since 5.1
+	 */
+	public void clearChangedKeys() {
+		this.changedKeys.clear();
+	}
+
 	/**
 	 * Returns the entry set containing the contents of this context.
 	 * @return An unmodifiable set representing the contents of the context
@@ -369,7 +408,11 @@ public class ExecutionContext implements Serializable {
 	 */
 	@Nullable
 	public Object remove(String key) {
-		return this.map.remove(key);
+		Object result = this.map.remove(key);
+		if (result != null) {
+			this.changedKeys.add(key);
+		}
+		return result;
 	}
 
 	/**
@@ -382,6 +425,11 @@ public class ExecutionContext implements Serializable {
 		return this.map.containsValue(value);
 	}
 
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.changedKeys = ConcurrentHashMap.newKeySet();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
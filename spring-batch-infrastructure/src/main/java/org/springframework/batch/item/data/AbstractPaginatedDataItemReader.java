@@ -15,12 +15,20 @@
  */
 package org.springframework.batch.item.data;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.PagePrefetcher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -30,6 +38,11 @@ import java.util.concurrent.locks.ReentrantLock;
  * Spring Data's paginated facilities. It also handles the semantics required for
  * restartability based on those facilities.
  * <p>
+ * When a {@link #setPrefetchDepth(int) prefetch depth} is set, the next pages are read in
+ * the background while the current one is being consumed. Pages are still read one after
+ * the other and the restart state only reflects the items actually returned by
+ * {@link #read()}.
+ * <p>
  * This reader is <b>not</b> thread-safe.
  *
  * @author Michael Minella
@@ -48,6 +61,11 @@ public abstract class AbstractPaginatedDataItemReader<T> extends AbstractItemCou
 
 	private final Lock lock = new ReentrantLock();
 
+	private final Log logger = LogFactory.getLog(AbstractPaginatedDataItemReader.class);
+
+	private final PagePrefetcher<Iterator<T>> prefetcher = new PagePrefetcher<>(this::readPrefetchedPage,
+			items -> items == null || !items.hasNext(), Collections::emptyIterator);
+
 	/**
 	 * The number of items to be read with each page.
 	 * @param pageSize the number of items. pageSize must be greater than zero.
@@ -57,6 +75,28 @@ public abstract class AbstractPaginatedDataItemReader<T> extends AbstractItemCou
 		this.pageSize = pageSize;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0, meaning that each page is read on demand by the thread
+	 * calling {@link #read()}.
+	 * @param prefetchDepth the maximum number of pages read ahead of the current one
+	 * @since 5.1
+	 */
+	public void setPrefetchDepth(int prefetchDepth) {
+		this.prefetcher.setDepth(prefetchDepth);
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead when a
+	 * {@link #setPrefetchDepth(int) prefetch depth} is set. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} using virtual threads when they are available.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @since 5.1
+	 */
+	public void setPrefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetcher.setTaskExecutor(prefetchTaskExecutor);
+	}
+
 	@Nullable
 	@Override
 	protected T doRead() throws Exception {
@@ -65,9 +105,14 @@ public abstract class AbstractPaginatedDataItemReader<T> extends AbstractItemCou
 		try {
 			if (results == null || !results.hasNext()) {
 
-				results = doPageRead();
+				if (prefetcher.getDepth() > 0) {
+					results = prefetcher.take();
+				}
+				else {
+					results = doPageRead();
 
-				page++;
+					page++;
+				}
 
 				if (results == null || !results.hasNext()) {
 					return null;
@@ -86,6 +131,15 @@ public abstract class AbstractPaginatedDataItemReader<T> extends AbstractItemCou
 		}
 	}
 
+	private Iterator<T> readPrefetchedPage() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Prefetching page " + page);
+		}
+		Iterator<T> items = doPageRead();
+		page++;
+		return items;
+	}
+
 	/**
 	 * Method this {@link ItemStreamReader} delegates to for the actual work of reading a
 	 * page. Each time this method is called, the resulting {@link Iterator} should
@@ -101,6 +155,21 @@ public abstract class AbstractPaginatedDataItemReader<T> extends AbstractItemCou
 	protected void doOpen() throws Exception {
 	}
 
+	/**
+	 * Wait for the pages being read ahead, if any, before closing the reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		this.lock.lock();
+		try {
+			prefetcher.close();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		super.close();
+	}
+
 	@Override
 	protected void doClose() throws Exception {
 	}
@@ -18,6 +18,7 @@ package org.springframework.batch.item.data;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,10 +27,14 @@ import org.bson.codecs.DecoderContext;
 
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -68,6 +73,13 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are requested by offset, which gets slower as the offset grows. With
+ * {@link #setKeysetPagination(boolean) keyset pagination}, each page is instead requested
+ * after the sort keys of the last document of the previous page, and the sort keys of the
+ * last document read are saved in the {@link ExecutionContext} for restart.
+ * </p>
+ *
+ * <p>
  * The implementation is thread-safe between calls to {@link #open(ExecutionContext)}, but
  * remember to use <code>saveState=false</code> if used in a multi-threaded client (no
  * restart available).
@@ -101,6 +113,12 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 
 	protected List<Object> parameterValues = new ArrayList<>();
 
+	private static final String START_AFTER_VALUE = "start.after";
+
+	private boolean keysetPagination = false;
+
+	private volatile KeysetScrollPosition position;
+
 	public MongoItemReader() {
 		super();
 		setName(ClassUtils.getShortName(MongoItemReader.class));
@@ -186,12 +204,24 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 		this.hint = hint;
 	}
 
+	/**
+	 * Request each page after the sort keys of the last document of the previous page
+	 * instead of by offset (defaults to false). The cost of reading a page then does not
+	 * grow with the number of documents already read. The sort must be on fields that
+	 * uniquely identify a document (add {@code _id} otherwise), and the sort keys of the
+	 * last document read are saved in the {@link ExecutionContext} for restart.
+	 * @param keysetPagination true to use keyset pagination
+	 * @since 5.1
+	 * @see MongoOperations#scroll(Query, Class)
+	 */
+	public void setKeysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	protected Iterator<T> doPageRead() {
 		if (queryString != null) {
-			Pageable pageRequest = PageRequest.of(page, pageSize, sort);
-
 			String populatedQuery = replacePlaceholders(queryString, parameterValues);
 
 			Query mongoQuery;
@@ -203,12 +233,22 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 				mongoQuery = new BasicQuery(populatedQuery);
 			}
 
-			mongoQuery.with(pageRequest);
+			if (keysetPagination) {
+				mongoQuery.with(sort);
+			}
+			else {
+				Pageable pageRequest = PageRequest.of(page, pageSize, sort);
+				mongoQuery.with(pageRequest);
+			}
 
 			if (StringUtils.hasText(hint)) {
 				mongoQuery.withHint(hint);
 			}
 
+			if (keysetPagination) {
+				return doScroll(mongoQuery);
+			}
+
 			if (StringUtils.hasText(collection)) {
 				return (Iterator<T>) template.find(mongoQuery, type, collection).iterator();
 			}
@@ -217,6 +257,9 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 			}
 
 		}
+		else if (keysetPagination) {
+			return doScroll(query);
+		}
 		else {
 			Pageable pageRequest = PageRequest.of(page, pageSize);
 			query.with(pageRequest);
@@ -230,6 +273,71 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private Iterator<T> doScroll(Query mongoQuery) {
+		KeysetScrollPosition start = position != null ? position : ScrollPosition.keyset();
+		mongoQuery.with(start).limit(pageSize);
+
+		Window<T> next;
+		if (StringUtils.hasText(collection)) {
+			next = (Window<T>) template.scroll(mongoQuery, type, collection);
+		}
+		else {
+			next = (Window<T>) template.scroll(mongoQuery, type);
+		}
+
+		if (!next.isEmpty()) {
+			position = (KeysetScrollPosition) next.positionAt(next.size() - 1);
+		}
+		return new KeysetPage<>(start, next);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (keysetPagination && isSaveState()) {
+			Map<String, Object> keys = (Map<String, Object>) executionContext
+				.get(getExecutionContextKey(START_AFTER_VALUE));
+			if (keys != null) {
+				position = ScrollPosition.forward(keys);
+			}
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (keysetPagination && isSaveState()) {
+			KeysetScrollPosition lastRead = results instanceof KeysetPage<T> keysetPage ? keysetPage.lastRead() : null;
+			if (lastRead != null && !lastRead.isInitial()) {
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE),
+						new LinkedHashMap<>(lastRead.getKeys()));
+			}
+		}
+	}
+
+	@Override
+	protected void jumpToItem(int itemLastIndex) throws Exception {
+		if (!keysetPagination) {
+			super.jumpToItem(itemLastIndex);
+		}
+		else if (position == null) {
+			// no saved sort keys, skip the documents already read
+			for (int i = 0; i < itemLastIndex; i++) {
+				read();
+			}
+		}
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		results = null;
+		page = 0;
+		position = null;
+		super.doClose();
+	}
+
 	/**
 	 * Checks mandatory properties
 	 *
@@ -263,4 +371,43 @@ public class MongoItemReader<T> extends AbstractPaginatedDataItemReader<T> imple
 		return Sort.by(sortValues);
 	}
 
+	/**
+	 * Iterator over a {@link Window} of documents keeping track of the position of the
+	 * last document returned, so that the state saved for restart reflects the documents
+	 * actually read even when the next windows are already fetched.
+	 */
+	private static class KeysetPage<T> implements Iterator<T> {
+
+		private final KeysetScrollPosition start;
+
+		private final Window<T> window;
+
+		private final Iterator<T> iterator;
+
+		private volatile int read;
+
+		KeysetPage(KeysetScrollPosition start, Window<T> window) {
+			this.start = start;
+			this.window = window;
+			this.iterator = window.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.iterator.hasNext();
+		}
+
+		@Override
+		public T next() {
+			T item = this.iterator.next();
+			this.read++;
+			return item;
+		}
+
+		KeysetScrollPosition lastRead() {
+			return this.read == 0 ? this.start : (KeysetScrollPosition) this.window.positionAt(this.read - 1);
+		}
+
+	}
+
 }
@@ -17,6 +17,7 @@ package org.springframework.batch.item.data;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -26,14 +27,19 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.adapter.AbstractMethodInvokingDelegator.InvocationTargetThrowableWrapper;
 import org.springframework.batch.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -74,6 +80,12 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * With {@link #setKeysetPagination(boolean) keyset pagination}, pages are requested with
+ * a {@link ScrollPosition} instead of a {@link Pageable}, so that the cost of reading a
+ * page does not grow with the number of items already read.
+ * </p>
+ *
+ * <p>
  * NOTE: The {@code RepositoryItemReader} only reads Java Objects i.e. non primitives.
  * </p>
  *
@@ -104,6 +116,16 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 
 	private String methodName;
 
+	private static final String START_AFTER_VALUE = "start.after";
+
+	private boolean keysetPagination = false;
+
+	private volatile KeysetScrollPosition position;
+
+	private volatile KeysetScrollPosition pagePosition;
+
+	private volatile Window<T> window;
+
 	public RepositoryItemReader() {
 		setName(ClassUtils.getShortName(RepositoryItemReader.class));
 	}
@@ -149,6 +171,20 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		this.methodName = methodName;
 	}
 
+	/**
+	 * Request each page after the sort keys of the last item of the previous page instead
+	 * of by offset (defaults to false). The repository method must then take a
+	 * {@link ScrollPosition}, a {@link Sort} and a {@link Limit} as its <em>last</em>
+	 * arguments, in that order, and return a {@link Window} with keyset positions. The
+	 * sort must be on properties that uniquely identify an item, and the sort keys of the
+	 * last item read are saved in the {@link ExecutionContext} for restart.
+	 * @param keysetPagination true to use keyset pagination
+	 * @since 5.1
+	 */
+	public void setKeysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(repository != null, "A PagingAndSortingRepository is required");
@@ -202,6 +238,13 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 
 	@Override
 	protected void jumpToItem(int itemLastIndex) throws Exception {
+		if (keysetPagination) {
+			if (position == null) {
+				// no saved sort keys, skip the items already read
+				super.jumpToItem(itemLastIndex);
+			}
+			return;
+		}
 		this.lock.lock();
 		try {
 			page = itemLastIndex / pageSize;
@@ -221,8 +264,6 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 	 */
 	@SuppressWarnings("unchecked")
 	protected List<T> doPageRead() throws Exception {
-		Pageable pageRequest = PageRequest.of(page, pageSize, sort);
-
 		MethodInvoker invoker = createMethodInvoker(repository, methodName);
 
 		List<Object> parameters = new ArrayList<>();
@@ -231,6 +272,28 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			parameters.addAll(arguments);
 		}
 
+		if (keysetPagination) {
+			KeysetScrollPosition start = position != null ? position : ScrollPosition.keyset();
+			parameters.add(start);
+			parameters.add(sort);
+			parameters.add(Limit.of(pageSize));
+
+			invoker.setArguments(parameters.toArray());
+
+			Window<T> next = (Window<T>) doInvoke(invoker);
+			pagePosition = start;
+			window = next;
+			if (!next.isEmpty()) {
+				ScrollPosition last = next.positionAt(next.size() - 1);
+				Assert.state(last instanceof KeysetScrollPosition,
+						"The repository method must return a Window with keyset positions");
+				position = (KeysetScrollPosition) last;
+			}
+			return next.getContent();
+		}
+
+		Pageable pageRequest = PageRequest.of(page, pageSize, sort);
+
 		parameters.add(pageRequest);
 
 		invoker.setArguments(parameters.toArray());
@@ -240,6 +303,41 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		return curPage.getContent();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		if (keysetPagination && isSaveState()) {
+			Map<String, Object> keys = (Map<String, Object>) executionContext
+				.get(getExecutionContextKey(START_AFTER_VALUE));
+			if (keys != null) {
+				position = ScrollPosition.forward(keys);
+			}
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (keysetPagination && isSaveState()) {
+			this.lock.lock();
+			try {
+				KeysetScrollPosition lastRead = pagePosition;
+				int read = window == null ? 0 : Math.min(current, window.size());
+				if (read > 0) {
+					lastRead = (KeysetScrollPosition) window.positionAt(read - 1);
+				}
+				if (lastRead != null && !lastRead.isInitial()) {
+					executionContext.put(getExecutionContextKey(START_AFTER_VALUE),
+							new LinkedHashMap<>(lastRead.getKeys()));
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 	}
@@ -251,6 +349,9 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			current = 0;
 			page = 0;
 			results = null;
+			position = null;
+			pagePosition = null;
+			window = null;
 		}
 		finally {
 			this.lock.unlock();
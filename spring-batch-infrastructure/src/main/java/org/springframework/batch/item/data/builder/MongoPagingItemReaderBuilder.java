@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.batch.item.data.MongoPagingItemReader;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
@@ -38,6 +39,12 @@ import org.springframework.util.StringUtils;
  */
 public class MongoPagingItemReaderBuilder<T> extends MongoItemReaderBuilder<T> {
 
+	private boolean keysetPagination = false;
+
+	private int prefetchDepth;
+
+	private TaskExecutor prefetchTaskExecutor;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -215,6 +222,33 @@ public class MongoPagingItemReaderBuilder<T> extends MongoItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0 (no prefetching).
+	 * @param prefetchDepth the maximum number of pages read ahead
+	 * @return this instance for method chaining
+	 * @see MongoPagingItemReader#setPrefetchDepth(int)
+	 * @since 5.1
+	 */
+	public MongoPagingItemReaderBuilder<T> prefetchDepth(int prefetchDepth) {
+		this.prefetchDepth = prefetchDepth;
+
+		return this;
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @return this instance for method chaining
+	 * @see MongoPagingItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 * @since 5.1
+	 */
+	public MongoPagingItemReaderBuilder<T> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+
+		return this;
+	}
+
 	/**
 	 * Provide a Spring Data Mongo {@link Query}. This will take precedence over a JSON
 	 * configured query.
@@ -228,6 +262,19 @@ public class MongoPagingItemReaderBuilder<T> extends MongoItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Request each page after the sort keys of the last document of the previous page
+	 * instead of by offset. The sort must uniquely identify documents.
+	 * @param keysetPagination true to use keyset pagination, defaults to false
+	 * @return this instance for method chaining
+	 * @see MongoPagingItemReader#setKeysetPagination(boolean)
+	 */
+	public MongoPagingItemReaderBuilder<T> keysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+
+		return this;
+	}
+
 	@Override
 	public MongoPagingItemReader<T> build() {
 		Assert.notNull(this.template, "template is required.");
@@ -251,8 +298,13 @@ public class MongoPagingItemReaderBuilder<T> extends MongoItemReaderBuilder<T> {
 		reader.setCollection(this.collection);
 		reader.setParameterValues(this.parameterValues);
 		reader.setQuery(this.query);
+		reader.setKeysetPagination(this.keysetPagination);
 
 		reader.setPageSize(this.pageSize);
+		reader.setPrefetchDepth(this.prefetchDepth);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 		reader.setName(this.name);
 		reader.setSaveState(this.saveState);
 		reader.setCurrentItemCount(this.currentItemCount);
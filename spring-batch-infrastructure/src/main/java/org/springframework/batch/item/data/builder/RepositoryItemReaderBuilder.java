@@ -55,6 +55,8 @@ public class RepositoryItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private boolean keysetPagination = false;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -178,6 +180,23 @@ public class RepositoryItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Request each page after the sort keys of the last item of the previous page instead
+	 * of by offset. The repository method must then take a
+	 * {@link org.springframework.data.domain.ScrollPosition}, a {@link Sort} and a
+	 * {@link org.springframework.data.domain.Limit} as its <em>last</em> arguments and
+	 * return a {@link org.springframework.data.domain.Window}.
+	 * @param keysetPagination true to use keyset pagination, defaults to false
+	 * @return The current instance of the builder.
+	 * @see RepositoryItemReader#setKeysetPagination(boolean)
+	 * @since 5.1
+	 */
+	public RepositoryItemReaderBuilder<T> keysetPagination(boolean keysetPagination) {
+		this.keysetPagination = keysetPagination;
+
+		return this;
+	}
+
 	/**
 	 * Builds the {@link RepositoryItemReader}.
 	 * @return a {@link RepositoryItemReader}
@@ -201,6 +220,7 @@ public class RepositoryItemReaderBuilder<T> {
 		reader.setSaveState(this.saveState);
 		reader.setSort(this.sorts);
 		reader.setName(this.name);
+		reader.setKeysetPagination(this.keysetPagination);
 		return reader;
 	}
 
@@ -15,6 +15,7 @@
  */
 package org.springframework.batch.item.database;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -22,7 +23,11 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.PagePrefetcher;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -38,6 +43,13 @@ import org.springframework.util.ClassUtils;
  * position.
  * </p>
  *
+ * <p>
+ * When a {@link #setPrefetchDepth(int) prefetch depth} is set, the next pages are read in
+ * the background while the current one is being consumed. Pages are still read one after
+ * the other, and the state saved on {@link #update} only reflects the items actually
+ * returned by {@link #read()}.
+ * </p>
+ *
  * This reader is <b>not</b> thread-safe.
  *
  * @author Thomas Risberg
@@ -58,10 +70,20 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	private volatile int page = 0;
 
-	protected volatile List<T> results;
+	/**
+	 * The buffer holding the current page, filled by {@link #doReadPage()}. It can be
+	 * reused across pages and is only accessed while holding the lock of the reader.
+	 */
+	protected List<T> results;
 
 	private final Lock lock = new ReentrantLock();
 
+	private final PagePrefetcher<PrefetchedPage<T>> prefetcher = new PagePrefetcher<>(this::readPrefetchedPage,
+			prefetchedPage -> prefetchedPage.items().size() < this.pageSize,
+			() -> new PrefetchedPage<>(List.of(), getPageState()));
+
+	private List<T> currentPage;
+
 	public AbstractPagingItemReader() {
 		setName(ClassUtils.getShortName(AbstractPagingItemReader.class));
 	}
@@ -90,6 +112,28 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 		this.pageSize = pageSize;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0, meaning that each page is read on demand by the thread
+	 * calling {@link #read()}.
+	 * @param prefetchDepth the maximum number of pages read ahead of the current one
+	 * @since 5.1
+	 */
+	public void setPrefetchDepth(int prefetchDepth) {
+		this.prefetcher.setDepth(prefetchDepth);
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead when a
+	 * {@link #setPrefetchDepth(int) prefetch depth} is set. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} using virtual threads when they are available.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @since 5.1
+	 */
+	public void setPrefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetcher.setTaskExecutor(prefetchTaskExecutor);
+	}
+
 	/**
 	 * Check mandatory properties.
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
@@ -103,6 +147,10 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 	@Override
 	protected T doRead() throws Exception {
 
+		if (prefetcher.getDepth() > 0) {
+			return doReadPrefetched();
+		}
+
 		this.lock.lock();
 		try {
 
@@ -135,8 +183,77 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	}
 
+	@Nullable
+	private T doReadPrefetched() throws Exception {
+
+		this.lock.lock();
+		try {
+
+			if (currentPage == null || current >= pageSize) {
+
+				currentPage = takePrefetchedPage();
+				if (current >= pageSize) {
+					current = 0;
+				}
+
+			}
+
+			int next = current++;
+			if (next < currentPage.size()) {
+				return currentPage.get(next);
+			}
+			else {
+				return null;
+			}
+
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+	}
+
+	private List<T> takePrefetchedPage() throws Exception {
+		PrefetchedPage<T> prefetchedPage = prefetcher.take();
+		setCurrentPageState(prefetchedPage.state());
+		return prefetchedPage.items();
+	}
+
+	private PrefetchedPage<T> readPrefetchedPage() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Prefetching page " + getPage());
+		}
+		doReadPage();
+		page++;
+		List<T> items = results == null ? List.of() : new ArrayList<>(results);
+		return new PrefetchedPage<>(items, getPageState());
+	}
+
 	abstract protected void doReadPage();
 
+	/**
+	 * Capture the state specific to the page that was just read by {@link #doReadPage()},
+	 * when pages are prefetched. The state is handed back to
+	 * {@link #setCurrentPageState(Object)} once the page becomes the current one, so that
+	 * implementations keeping a position per page can save the state of the page being
+	 * consumed rather than the one of the last page read. Defaults to {@code null}.
+	 * @return the state of the page just read
+	 * @since 5.1
+	 */
+	@Nullable
+	protected Object getPageState() {
+		return null;
+	}
+
+	/**
+	 * Callback invoked when a prefetched page becomes the current page.
+	 * @param pageState the state captured by {@link #getPageState()} when the page was
+	 * read
+	 * @since 5.1
+	 */
+	protected void setCurrentPageState(@Nullable Object pageState) {
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 
@@ -145,6 +262,21 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	}
 
+	/**
+	 * Wait for the pages being read ahead, if any, before closing the reader.
+	 */
+	@Override
+	public void close() throws ItemStreamException {
+		this.lock.lock();
+		try {
+			prefetcher.close();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		super.close();
+	}
+
 	@Override
 	protected void doClose() throws Exception {
 
@@ -154,6 +286,7 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 			current = 0;
 			page = 0;
 			results = null;
+			currentPage = null;
 		}
 		finally {
 			this.lock.unlock();
@@ -179,4 +312,7 @@ public abstract class AbstractPagingItemReader<T> extends AbstractItemCountingIt
 
 	}
 
+	private record PrefetchedPage<T>(List<T> items, @Nullable Object state) {
+	}
+
 }
@@ -15,8 +15,8 @@
  */
 package org.springframework.batch.item.database;
 
+import java.util.ArrayList;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
@@ -147,7 +147,7 @@ public class HibernatePagingItemReader<T> extends AbstractPagingItemReader<T> im
 	protected void doReadPage() {
 
 		if (results == null) {
-			results = new CopyOnWriteArrayList<>();
+			results = new ArrayList<>(getPageSize());
 		}
 		else {
 			results.clear();
@@ -0,0 +1,505 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ItemWriter} inserting the items of a chunk into a table with as few round trips
+ * to the database as possible. The values of each item are extracted with a
+ * {@link FieldExtractor}, in the order of the {@link #setColumns(String...) columns}.
+ * <p>
+ * The way rows are sent depends on the {@link DatabaseType} of the data source:
+ * <ul>
+ * <li>with PostgreSQL, the rows are streamed in CSV format with
+ * <code>COPY ... FROM STDIN</code>;</li>
+ * <li>with MySQL, the rows are streamed with <code>LOAD DATA LOCAL INFILE</code>, which
+ * needs the <code>allowLoadLocalInfile</code> property of the connection and the
+ * <code>local_infile</code> variable of the server to be enabled;</li>
+ * <li>with Oracle and Sybase, a single row <code>INSERT</code> is executed as a JDBC
+ * batch;</li>
+ * <li>with other databases, multi-row <code>INSERT ... VALUES (...), (...)</code>
+ * statements are executed, each one holding up to the {@link #setMaxRowsPerStatement(int)
+ * maximum number of rows} and the {@link #setMaxBytesPerStatement(int) maximum number of
+ * bytes} of values.</li>
+ * </ul>
+ * The vendor bulk load is only used when the PostgreSQL or MySQL driver is on the class
+ * path, and can be {@link #setVendorBulkLoad(boolean) disabled}. Otherwise, multi-row
+ * <code>INSERT</code> statements are used with PostgreSQL and MySQL too. Values streamed
+ * to PostgreSQL and MySQL are sent as text, using their {@link Object#toString()}
+ * representation except for byte arrays.
+ * <p>
+ * It is expected that {@link #write(Chunk)} is called inside a transaction. The writer is
+ * thread-safe after its properties are set.
+ *
+ * @since 5.1
+ * @param <T> the type of the items to write
+ */
+public class JdbcBulkInsertItemWriter<T> implements ItemWriter<T>, InitializingBean {
+
+	private static final int MAX_PARAMETERS = 32767;
+
+	private static final int SQLSERVER_MAX_PARAMETERS = 2000;
+
+	private static final int SQLSERVER_MAX_ROWS = 1000;
+
+	private static final int SQLITE_MAX_PARAMETERS = 999;
+
+	private static final int STREAM_BUFFER_SIZE = 8192;
+
+	private static final boolean postgresPresent;
+
+	private static final boolean mysqlPresent;
+
+	static {
+		ClassLoader classLoader = JdbcBulkInsertItemWriter.class.getClassLoader();
+		postgresPresent = ClassUtils.isPresent("org.postgresql.PGConnection", classLoader);
+		mysqlPresent = ClassUtils.isPresent(MySqlDelegate.STATEMENT_CLASS_NAME, classLoader);
+	}
+
+	private DataSource dataSource;
+
+	private JdbcOperations jdbcTemplate;
+
+	private DatabaseType databaseType;
+
+	private String table;
+
+	private String[] columns;
+
+	private FieldExtractor<T> fieldExtractor;
+
+	private int maxRowsPerStatement = 1000;
+
+	private int maxBytesPerStatement = 1024 * 1024;
+
+	private boolean vendorBulkLoad = true;
+
+	private boolean assertUpdates = true;
+
+	/**
+	 * The data source to insert the items into.
+	 * @param dataSource a {@link DataSource}
+	 */
+	public void setDataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * The type of the database, detected from the metadata of the data source if not set.
+	 * @param databaseType the type of the database
+	 */
+	public void setDatabaseType(DatabaseType databaseType) {
+		this.databaseType = databaseType;
+	}
+
+	/**
+	 * The name of the table to insert the items into.
+	 * @param table the name of the table
+	 */
+	public void setTable(String table) {
+		this.table = table;
+	}
+
+	/**
+	 * The names of the columns to insert, in the order of the values extracted from the
+	 * items.
+	 * @param columns the names of the columns
+	 */
+	public void setColumns(String... columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * The {@link FieldExtractor} returning the values of the columns for an item.
+	 * @param fieldExtractor the extractor of the column values
+	 */
+	public void setFieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+	}
+
+	/**
+	 * The maximum number of rows of a multi-row <code>INSERT</code> statement. Defaults
+	 * to 1000. The number of rows is also limited so that a statement has no more
+	 * parameters than the database supports.
+	 * @param maxRowsPerStatement the maximum number of rows per statement
+	 */
+	public void setMaxRowsPerStatement(int maxRowsPerStatement) {
+		Assert.isTrue(maxRowsPerStatement > 0, "maxRowsPerStatement must be greater than zero");
+		this.maxRowsPerStatement = maxRowsPerStatement;
+	}
+
+	/**
+	 * The maximum number of bytes of the values of a multi-row <code>INSERT</code>
+	 * statement, estimated from the length of strings and byte arrays. Defaults to 1 MB.
+	 * A statement always holds at least one row.
+	 * @param maxBytesPerStatement the maximum number of bytes per statement
+	 */
+	public void setMaxBytesPerStatement(int maxBytesPerStatement) {
+		Assert.isTrue(maxBytesPerStatement > 0, "maxBytesPerStatement must be greater than zero");
+		this.maxBytesPerStatement = maxBytesPerStatement;
+	}
+
+	/**
+	 * Whether to use the bulk load API of the database when there is one (PostgreSQL and
+	 * MySQL). Defaults to true.
+	 * @param vendorBulkLoad false to always use <code>INSERT</code> statements
+	 */
+	public void setVendorBulkLoad(boolean vendorBulkLoad) {
+		this.vendorBulkLoad = vendorBulkLoad;
+	}
+
+	/**
+	 * If set to true, confirms that every item results in one inserted row. Defaults to
+	 * true.
+	 * @param assertUpdates the flag to set
+	 */
+	public void setAssertUpdates(boolean assertUpdates) {
+		this.assertUpdates = assertUpdates;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(dataSource != null, "A DataSource is required");
+		Assert.state(table != null, "A table is required");
+		Assert.state(columns != null && columns.length > 0, "Columns are required");
+		Assert.state(fieldExtractor != null, "A FieldExtractor is required");
+		if (databaseType == null) {
+			databaseType = DatabaseType.fromMetaData(dataSource);
+		}
+	}
+
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<Object[]> rows = new ArrayList<>(chunk.size());
+		for (T item : chunk) {
+			Object[] values = fieldExtractor.extract(item);
+			Assert.state(values.length == columns.length, () -> "Expected " + columns.length
+					+ " values but the field extractor returned " + values.length + " for item: " + item);
+			rows.add(values);
+		}
+
+		long count = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+			if (vendorBulkLoad && postgresPresent && databaseType == DatabaseType.POSTGRES) {
+				return copy(connection, rows);
+			}
+			if (vendorBulkLoad && mysqlPresent && databaseType == DatabaseType.MYSQL) {
+				return loadData(connection, rows);
+			}
+			if (databaseType == DatabaseType.ORACLE || databaseType == DatabaseType.SYBASE) {
+				return insertBatch(connection, rows);
+			}
+			return insertRows(connection, rows);
+		});
+		if (assertUpdates && count != rows.size()) {
+			throw new JdbcUpdateAffectedIncorrectNumberOfRowsException("insert into " + table, rows.size(),
+					(int) count);
+		}
+	}
+
+	private long copy(Connection connection, List<Object[]> rows) throws SQLException {
+		String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+		try {
+			return PostgresDelegate.copyIn(connection, sql,
+					new RowsInputStream(rows.iterator(), JdbcBulkInsertItemWriter::writeCsvRow));
+		}
+		catch (IOException e) {
+			throw new SQLException("Could not stream the rows to insert", e);
+		}
+	}
+
+	private long loadData(Connection connection, List<Object[]> rows) throws SQLException {
+		String sql = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + table
+				+ " CHARACTER SET binary FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\'"
+				+ " LINES TERMINATED BY '\\n' (" + String.join(", ", columns) + ")";
+		try (Statement statement = connection.createStatement()) {
+			MySqlDelegate.setLocalInfileInputStream(statement,
+					new RowsInputStream(rows.iterator(), JdbcBulkInsertItemWriter::writeLoadDataRow));
+			return statement.executeUpdate(sql);
+		}
+	}
+
+	private long insertBatch(Connection connection, List<Object[]> rows) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(insertSql(1))) {
+			for (Object[] row : rows) {
+				for (int i = 0; i < row.length; i++) {
+					StatementCreatorUtils.setParameterValue(statement, i + 1, SqlTypeValue.TYPE_UNKNOWN, row[i]);
+				}
+				statement.addBatch();
+			}
+			long count = 0;
+			for (int updateCount : statement.executeBatch()) {
+				count += updateCount == Statement.SUCCESS_NO_INFO ? 1 : updateCount;
+			}
+			return count;
+		}
+	}
+
+	private long insertRows(Connection connection, List<Object[]> rows) throws SQLException {
+		int maxRows = Math.max(1, Math.min(maxRowsPerStatement, getMaxParameters() / columns.length));
+		if (databaseType == DatabaseType.SQLSERVER) {
+			maxRows = Math.min(maxRows, SQLSERVER_MAX_ROWS);
+		}
+		long count = 0;
+		int from = 0;
+		while (from < rows.size()) {
+			int to = from + 1;
+			long bytes = estimateSize(rows.get(from));
+			while (to < rows.size() && to - from < maxRows) {
+				bytes += estimateSize(rows.get(to));
+				if (bytes > maxBytesPerStatement) {
+					break;
+				}
+				to++;
+			}
+			try (PreparedStatement statement = connection.prepareStatement(insertSql(to - from))) {
+				int index = 1;
+				for (Object[] row : rows.subList(from, to)) {
+					for (Object value : row) {
+						StatementCreatorUtils.setParameterValue(statement, index++, SqlTypeValue.TYPE_UNKNOWN, value);
+					}
+				}
+				count += statement.executeUpdate();
+			}
+			from = to;
+		}
+		return count;
+	}
+
+	private int getMaxParameters() {
+		return switch (databaseType) {
+			case SQLSERVER -> SQLSERVER_MAX_PARAMETERS;
+			case SQLITE -> SQLITE_MAX_PARAMETERS;
+			default -> MAX_PARAMETERS;
+		};
+	}
+
+	private String insertSql(int rowCount) {
+		String values = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+		StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+			.append(" (")
+			.append(String.join(", ", columns))
+			.append(") VALUES ")
+			.append(values);
+		for (int i = 1; i < rowCount; i++) {
+			sql.append(", ").append(values);
+		}
+		return sql.toString();
+	}
+
+	private static long estimateSize(Object[] row) {
+		long size = 0;
+		for (Object value : row) {
+			if (value instanceof CharSequence text) {
+				size += text.length();
+			}
+			else if (value instanceof byte[] bytes) {
+				size += bytes.length;
+			}
+			else {
+				size += 8;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Write a row in the CSV format of PostgreSQL, where an unquoted empty value is null.
+	 */
+	private static void writeCsvRow(Object[] row, ByteArrayOutputStream out) {
+		for (int i = 0; i < row.length; i++) {
+			if (i > 0) {
+				out.write(',');
+			}
+			Object value = row[i];
+			if (value != null) {
+				String text = value instanceof byte[] bytes ? "\\x" + HexFormat.of().formatHex(bytes)
+						: value.toString();
+				out.writeBytes(("\"" + text.replace("\"", "\"\"") + "\"").getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		out.write('\n');
+	}
+
+	/**
+	 * Write a row in the format of the MySQL <code>LOAD DATA</code> statement, where
+	 * <code>\N</code> is null and backslashes escape special characters.
+	 */
+	private static void writeLoadDataRow(Object[] row, ByteArrayOutputStream out) {
+		for (int i = 0; i < row.length; i++) {
+			if (i > 0) {
+				out.write(',');
+			}
+			Object value = row[i];
+			if (value == null) {
+				out.write('\\');
+				out.write('N');
+				continue;
+			}
+			byte[] bytes;
+			if (value instanceof byte[] binary) {
+				bytes = binary;
+			}
+			else if (value instanceof Boolean flag) {
+				bytes = flag ? new byte[] { '1' } : new byte[] { '0' };
+			}
+			else {
+				bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+			}
+			out.write('"');
+			for (byte b : bytes) {
+				if (b == '"' || b == '\\') {
+					out.write('\\');
+				}
+				else if (b == 0) {
+					out.write('\\');
+					b = '0';
+				}
+				out.write(b);
+			}
+			out.write('"');
+		}
+		out.write('\n');
+	}
+
+	/**
+	 * Inner class to avoid a hard dependency on the PostgreSQL driver.
+	 */
+	private static class PostgresDelegate {
+
+		static long copyIn(Connection connection, String sql, InputStream rows) throws SQLException, IOException {
+			return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, rows);
+		}
+
+	}
+
+	/**
+	 * Inner class calling the MySQL driver reflectively, since it is not a dependency of
+	 * this module.
+	 */
+	private static class MySqlDelegate {
+
+		static final String STATEMENT_CLASS_NAME = "com.mysql.cj.jdbc.JdbcStatement";
+
+		private static final Class<?> statementClass = ClassUtils.resolveClassName(STATEMENT_CLASS_NAME,
+				MySqlDelegate.class.getClassLoader());
+
+		private static final Method setLocalInfileInputStream = ReflectionUtils.findMethod(statementClass,
+				"setLocalInfileInputStream", InputStream.class);
+
+		static void setLocalInfileInputStream(Statement statement, InputStream rows) throws SQLException {
+			ReflectionUtils.invokeMethod(setLocalInfileInputStream, statement.unwrap(statementClass), rows);
+		}
+
+	}
+
+	/**
+	 * {@link InputStream} encoding the rows a few at a time as they are read.
+	 */
+	private static class RowsInputStream extends InputStream {
+
+		private final Iterator<Object[]> rows;
+
+		private final BiConsumer<Object[], ByteArrayOutputStream> encoder;
+
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		private byte[] current = new byte[0];
+
+		private int position;
+
+		RowsInputStream(Iterator<Object[]> rows, BiConsumer<Object[], ByteArrayOutputStream> encoder) {
+			this.rows = rows;
+			this.encoder = encoder;
+		}
+
+		@Override
+		public int read() {
+			if (!fill()) {
+				return -1;
+			}
+			return this.current[this.position++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int count = Math.min(length, this.current.length - this.position);
+			System.arraycopy(this.current, this.position, bytes, offset, count);
+			this.position += count;
+			return count;
+		}
+
+		private boolean fill() {
+			while (this.position == this.current.length) {
+				if (!this.rows.hasNext()) {
+					return false;
+				}
+				this.buffer.reset();
+				while (this.rows.hasNext() && this.buffer.size() < STREAM_BUFFER_SIZE) {
+					this.encoder.accept(this.rows.next(), this.buffer);
+				}
+				this.current = this.buffer.toByteArray();
+				this.position = 0;
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -19,13 +19,11 @@ package org.springframework.batch.item.database;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.sql.DataSource;
 
@@ -33,6 +31,7 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.util.Assert;
@@ -97,6 +96,8 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 
 	private Map<String, Object> previousStartAfterValues;
 
+	private volatile PageBounds currentPageBounds;
+
 	private int fetchSize = VALUE_NOT_SET;
 
 	public JdbcPagingItemReader() {
@@ -171,15 +172,13 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 	@Override
 	protected void doReadPage() {
 		if (results == null) {
-			results = new CopyOnWriteArrayList<>();
+			results = new ArrayList<>(getPageSize());
 		}
 		else {
 			results.clear();
 		}
 
-		PagingRowMapper rowCallback = new PagingRowMapper();
-
-		List<T> query;
+		PagingRowCallbackHandler rowCallback = new PagingRowCallbackHandler(results);
 
 		if (getPage() == 0) {
 			if (logger.isDebugEnabled()) {
@@ -187,16 +186,15 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 			}
 			if (parameterValues != null && parameterValues.size() > 0) {
 				if (this.queryProvider.isUsingNamedParameters()) {
-					query = namedParameterJdbcTemplate.query(firstPageSql, getParameterMap(parameterValues, null),
-							rowCallback);
+					namedParameterJdbcTemplate.query(firstPageSql, getParameterMap(parameterValues, null), rowCallback);
 				}
 				else {
-					query = getJdbcTemplate().query(firstPageSql, rowCallback,
+					getJdbcTemplate().query(firstPageSql, rowCallback,
 							getParameterList(parameterValues, null).toArray());
 				}
 			}
 			else {
-				query = getJdbcTemplate().query(firstPageSql, rowCallback);
+				getJdbcTemplate().query(firstPageSql, rowCallback);
 			}
 
 		}
@@ -206,36 +204,57 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 				logger.debug("SQL used for reading remaining pages: [" + remainingPagesSql + "]");
 			}
 			if (this.queryProvider.isUsingNamedParameters()) {
-				query = namedParameterJdbcTemplate.query(remainingPagesSql,
-						getParameterMap(parameterValues, startAfterValues), rowCallback);
+				namedParameterJdbcTemplate.query(remainingPagesSql, getParameterMap(parameterValues, startAfterValues),
+						rowCallback);
 			}
 			else {
-				query = getJdbcTemplate().query(remainingPagesSql, rowCallback,
+				getJdbcTemplate().query(remainingPagesSql, rowCallback,
 						getParameterList(parameterValues, startAfterValues).toArray());
 			}
 		}
-		else {
-			query = Collections.emptyList();
-		}
 
-		results.addAll(query);
+		rowCallback.updateStartAfterValues();
 	}
 
 	@Override
 	public void update(ExecutionContext executionContext) throws ItemStreamException {
 		super.update(executionContext);
 		if (isSaveState()) {
-			if (isAtEndOfPage() && startAfterValues != null) {
+			Map<String, Object> pageStart = previousStartAfterValues;
+			Map<String, Object> pageEnd = startAfterValues;
+			PageBounds bounds = currentPageBounds;
+			if (bounds != null) {
+				// pages are read ahead, use the sort keys of the page being consumed
+				pageStart = bounds.start();
+				pageEnd = bounds.end();
+			}
+			if (isAtEndOfPage() && pageEnd != null) {
 				// restart on next page
-				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), pageEnd);
 			}
-			else if (previousStartAfterValues != null) {
+			else if (pageStart != null) {
 				// restart on current page
-				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), pageStart);
 			}
 		}
 	}
 
+	@Override
+	protected Object getPageState() {
+		return new PageBounds(previousStartAfterValues, startAfterValues);
+	}
+
+	@Override
+	protected void setCurrentPageState(Object pageState) {
+		currentPageBounds = (PageBounds) pageState;
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		currentPageBounds = null;
+		super.doClose();
+	}
+
 	private boolean isAtEndOfPage() {
 		return getCurrentItemCount() % getPageSize() == 0;
 	}
@@ -295,20 +314,49 @@ public class JdbcPagingItemReader<T> extends AbstractPagingItemReader<T> impleme
 		return parameterList;
 	}
 
-	private class PagingRowMapper implements RowMapper<T> {
+	/**
+	 * Maps the rows of a page straight into the page buffer, keeping the sort key values
+	 * of the last row only.
+	 */
+	private class PagingRowCallbackHandler implements RowCallbackHandler {
+
+		private final List<T> page;
+
+		private final String[] sortKeys;
+
+		private final Object[] sortKeyValues;
+
+		private int rowNum = 0;
+
+		PagingRowCallbackHandler(List<T> page) {
+			this.page = page;
+			this.sortKeys = queryProvider.getSortKeys().keySet().toArray(new String[0]);
+			this.sortKeyValues = new Object[this.sortKeys.length];
+		}
 
 		@Override
-		public T mapRow(ResultSet rs, int rowNum) throws SQLException {
-			startAfterValues = new LinkedHashMap<>();
-			for (Map.Entry<String, Order> sortKey : queryProvider.getSortKeys().entrySet()) {
-				startAfterValues.put(sortKey.getKey(), rs.getObject(sortKey.getKey()));
+		public void processRow(ResultSet rs) throws SQLException {
+			for (int i = 0; i < this.sortKeys.length; i++) {
+				this.sortKeyValues[i] = rs.getObject(this.sortKeys[i]);
 			}
+			this.page.add(rowMapper.mapRow(rs, this.rowNum++));
+		}
 
-			return rowMapper.mapRow(rs, rowNum);
+		void updateStartAfterValues() {
+			if (this.rowNum > 0) {
+				Map<String, Object> values = new LinkedHashMap<>();
+				for (int i = 0; i < this.sortKeys.length; i++) {
+					values.put(this.sortKeys[i], this.sortKeyValues[i]);
+				}
+				startAfterValues = values;
+			}
 		}
 
 	}
 
+	private record PageBounds(Map<String, Object> start, Map<String, Object> end) {
+	}
+
 	private JdbcTemplate getJdbcTemplate() {
 		return (JdbcTemplate) namedParameterJdbcTemplate.getJdbcOperations();
 	}
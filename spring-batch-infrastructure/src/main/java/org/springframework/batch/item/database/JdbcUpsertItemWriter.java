@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ItemWriter} inserting the items of a chunk into a table, or updating the rows
+ * having the same key, with a single batch of statements. This makes a reload of the same
+ * items idempotent without reading the table first or relying on failed inserts.
+ * <p>
+ * The upsert statement is generated from the table, the key columns and the value columns
+ * according to the {@link DatabaseType} of the data source:
+ * <ul>
+ * <li><code>MERGE</code> for Oracle, SQL Server, DB2, H2 and HSQLDB;</li>
+ * <li><code>INSERT ... ON CONFLICT ... DO UPDATE</code> for PostgreSQL and SQLite;</li>
+ * <li><code>INSERT ... ON DUPLICATE KEY UPDATE</code> for MySQL and MariaDB.</li>
+ * </ul>
+ * The key columns must be the primary key or a unique key of the table for PostgreSQL,
+ * SQLite, MySQL and MariaDB. The values of each item are extracted with a
+ * {@link FieldExtractor}, in the order of the key columns followed by the value columns.
+ * When there are no value columns, existing rows are left unchanged.
+ * <p>
+ * It is expected that {@link #write(Chunk)} is called inside a transaction. The writer is
+ * thread-safe after its properties are set.
+ *
+ * @since 5.1
+ * @param <T> the type of the items to write
+ */
+public class JdbcUpsertItemWriter<T> implements ItemWriter<T>, InitializingBean {
+
+	private DataSource dataSource;
+
+	private JdbcOperations jdbcTemplate;
+
+	private DatabaseType databaseType;
+
+	private String table;
+
+	private String[] keyColumns;
+
+	private String[] valueColumns = new String[0];
+
+	private FieldExtractor<T> fieldExtractor;
+
+	private String sql;
+
+	/**
+	 * The data source to write the items to.
+	 * @param dataSource a {@link DataSource}
+	 */
+	public void setDataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * The type of the database, detected from the metadata of the data source if not set.
+	 * @param databaseType the type of the database
+	 */
+	public void setDatabaseType(DatabaseType databaseType) {
+		this.databaseType = databaseType;
+	}
+
+	/**
+	 * The name of the table to write the items to.
+	 * @param table the name of the table
+	 */
+	public void setTable(String table) {
+		this.table = table;
+	}
+
+	/**
+	 * The names of the columns identifying a row.
+	 * @param keyColumns the names of the key columns
+	 */
+	public void setKeyColumns(String... keyColumns) {
+		this.keyColumns = keyColumns;
+	}
+
+	/**
+	 * The names of the columns inserted with the key columns and updated when a row with
+	 * the same key exists.
+	 * @param valueColumns the names of the value columns
+	 */
+	public void setValueColumns(String... valueColumns) {
+		this.valueColumns = valueColumns;
+	}
+
+	/**
+	 * The {@link FieldExtractor} returning the values of the key columns followed by the
+	 * values of the value columns for an item.
+	 * @param fieldExtractor the extractor of the column values
+	 */
+	public void setFieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(dataSource != null, "A DataSource is required");
+		Assert.state(table != null, "A table is required");
+		Assert.state(keyColumns != null && keyColumns.length > 0, "Key columns are required");
+		Assert.state(valueColumns != null, "Value columns must not be null");
+		Assert.state(fieldExtractor != null, "A FieldExtractor is required");
+		if (databaseType == null) {
+			databaseType = DatabaseType.fromMetaData(dataSource);
+		}
+		sql = generateSql();
+	}
+
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		int columnCount = keyColumns.length + valueColumns.length;
+		List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+		for (T item : chunk) {
+			Object[] values = fieldExtractor.extract(item);
+			Assert.state(values.length == columnCount, () -> "Expected " + columnCount
+					+ " values but the field extractor returned " + values.length + " for item: " + item);
+			batchArgs.add(values);
+		}
+		jdbcTemplate.batchUpdate(sql, batchArgs);
+	}
+
+	private String generateSql() {
+		String[] columns = Stream.concat(Arrays.stream(keyColumns), Arrays.stream(valueColumns)).toArray(String[]::new);
+		String columnList = String.join(", ", columns);
+		String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+		return switch (databaseType) {
+			case POSTGRES, SQLITE ->
+				"INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders + ") ON CONFLICT ("
+						+ String.join(", ", keyColumns) + ") DO " + (valueColumns.length == 0 ? "NOTHING"
+								: "UPDATE SET " + join(valueColumns, column -> column + " = EXCLUDED." + column));
+			case MYSQL, MARIADB -> "INSERT INTO " + table + " (" + columnList + ") VALUES (" + placeholders
+					+ ") ON DUPLICATE KEY UPDATE " + (valueColumns.length == 0 ? keyColumns[0] + " = " + keyColumns[0]
+							: join(valueColumns, column -> column + " = VALUES(" + column + ")"));
+			case ORACLE -> merge("(SELECT " + join(columns, column -> "? AS " + column) + " FROM DUAL) S", columns);
+			case SQLSERVER, DB2, DB2VSE, DB2ZOS, DB2AS400, H2, HSQL ->
+				merge("(VALUES (" + placeholders + ")) AS S (" + columnList + ")", columns)
+						+ (databaseType == DatabaseType.SQLSERVER ? ";" : "");
+			default -> throw new IllegalStateException("Upserts are not supported for " + databaseType);
+		};
+	}
+
+	private String merge(String source, String[] columns) {
+		String merge = "MERGE INTO " + table + " T USING " + source + " ON ("
+				+ join(keyColumns, column -> "T." + column + " = S." + column) + ")";
+		if (valueColumns.length > 0) {
+			merge += " WHEN MATCHED THEN UPDATE SET " + join(valueColumns, column -> "T." + column + " = S." + column);
+		}
+		return merge + " WHEN NOT MATCHED THEN INSERT (" + String.join(", ", columns) + ") VALUES ("
+				+ join(columns, column -> "S." + column) + ")";
+	}
+
+	private static String join(String[] columns, Function<String, String> mapper) {
+		return Arrays.stream(columns).map(mapper).collect(Collectors.joining(", "));
+	}
+
+}
@@ -16,10 +16,10 @@
 
 package org.springframework.batch.item.database;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -203,7 +203,7 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		}
 
 		if (results == null) {
-			results = new CopyOnWriteArrayList<>();
+			results = new ArrayList<>(getPageSize());
 		}
 		else {
 			results.clear();
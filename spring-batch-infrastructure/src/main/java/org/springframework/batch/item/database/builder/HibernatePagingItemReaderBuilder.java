@@ -21,6 +21,7 @@ import org.hibernate.SessionFactory;
 
 import org.springframework.batch.item.database.HibernatePagingItemReader;
 import org.springframework.batch.item.database.orm.HibernateQueryProvider;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -68,6 +69,10 @@ public class HibernatePagingItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private int prefetchDepth;
+
+	private TaskExecutor prefetchTaskExecutor;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -132,6 +137,33 @@ public class HibernatePagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0 (no prefetching).
+	 * @param prefetchDepth the maximum number of pages read ahead
+	 * @return this instance for method chaining
+	 * @see HibernatePagingItemReader#setPrefetchDepth(int)
+	 * @since 5.1
+	 */
+	public HibernatePagingItemReaderBuilder<T> prefetchDepth(int prefetchDepth) {
+		this.prefetchDepth = prefetchDepth;
+
+		return this;
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @return this instance for method chaining
+	 * @see HibernatePagingItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 * @since 5.1
+	 */
+	public HibernatePagingItemReaderBuilder<T> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+
+		return this;
+	}
+
 	/**
 	 * A map of parameter values to be set on the query. The key of the map is the name of
 	 * the parameter to be set with the value being the value to be set.
@@ -252,6 +284,10 @@ public class HibernatePagingItemReaderBuilder<T> {
 		reader.setQueryProvider(this.queryProvider);
 		reader.setQueryString(this.queryString);
 		reader.setPageSize(this.pageSize);
+		reader.setPrefetchDepth(this.prefetchDepth);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 		reader.setUseStatelessSession(this.statelessSession);
 
 		return reader;
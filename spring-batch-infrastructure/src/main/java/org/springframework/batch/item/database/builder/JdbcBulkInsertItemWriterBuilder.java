@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database.builder;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.item.database.JdbcBulkInsertItemWriter;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.Assert;
+
+/**
+ * A builder implementation for the {@link JdbcBulkInsertItemWriter}.
+ *
+ * @since 5.1
+ * @param <T> the type of the items to write
+ * @see JdbcBulkInsertItemWriter
+ */
+public class JdbcBulkInsertItemWriterBuilder<T> {
+
+	private DataSource dataSource;
+
+	private DatabaseType databaseType;
+
+	private String table;
+
+	private String[] columns;
+
+	private FieldExtractor<T> fieldExtractor;
+
+	private int maxRowsPerStatement = 1000;
+
+	private int maxBytesPerStatement = 1024 * 1024;
+
+	private boolean vendorBulkLoad = true;
+
+	private boolean assertUpdates = true;
+
+	/**
+	 * Configure the {@link DataSource} to be used. Required.
+	 * @param dataSource the DataSource
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setDataSource(DataSource)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> dataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+
+		return this;
+	}
+
+	/**
+	 * The type of the database. Detected from the metadata of the data source if not set.
+	 * @param databaseType the type of the database
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setDatabaseType(DatabaseType)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> databaseType(DatabaseType databaseType) {
+		this.databaseType = databaseType;
+
+		return this;
+	}
+
+	/**
+	 * The name of the table to insert the items into. Required.
+	 * @param table the name of the table
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setTable(String)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> table(String table) {
+		this.table = table;
+
+		return this;
+	}
+
+	/**
+	 * The names of the columns to insert, in the order of the values extracted from the
+	 * items. Required.
+	 * @param columns the names of the columns
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setColumns(String...)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> columns(String... columns) {
+		this.columns = columns;
+
+		return this;
+	}
+
+	/**
+	 * The {@link FieldExtractor} returning the values of the columns for an item.
+	 * Required.
+	 * @param fieldExtractor the extractor of the column values
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setFieldExtractor(FieldExtractor)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> fieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of rows of a multi-row <code>INSERT</code> statement. Defaults
+	 * to 1000.
+	 * @param maxRowsPerStatement the maximum number of rows per statement
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setMaxRowsPerStatement(int)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> maxRowsPerStatement(int maxRowsPerStatement) {
+		this.maxRowsPerStatement = maxRowsPerStatement;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of bytes of the values of a multi-row <code>INSERT</code>
+	 * statement. Defaults to 1 MB.
+	 * @param maxBytesPerStatement the maximum number of bytes per statement
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setMaxBytesPerStatement(int)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> maxBytesPerStatement(int maxBytesPerStatement) {
+		this.maxBytesPerStatement = maxBytesPerStatement;
+
+		return this;
+	}
+
+	/**
+	 * Whether to use the bulk load API of the database when there is one. Defaults to
+	 * true.
+	 * @param vendorBulkLoad false to always use <code>INSERT</code> statements
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setVendorBulkLoad(boolean)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> vendorBulkLoad(boolean vendorBulkLoad) {
+		this.vendorBulkLoad = vendorBulkLoad;
+
+		return this;
+	}
+
+	/**
+	 * If set to true, confirms that every item results in one inserted row. Defaults to
+	 * true.
+	 * @param assertUpdates boolean indicator
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcBulkInsertItemWriter#setAssertUpdates(boolean)
+	 */
+	public JdbcBulkInsertItemWriterBuilder<T> assertUpdates(boolean assertUpdates) {
+		this.assertUpdates = assertUpdates;
+
+		return this;
+	}
+
+	/**
+	 * Validates configuration and builds the {@link JdbcBulkInsertItemWriter}.
+	 * @return a {@link JdbcBulkInsertItemWriter}
+	 */
+	public JdbcBulkInsertItemWriter<T> build() {
+		Assert.notNull(this.dataSource, "A DataSource is required");
+		Assert.hasText(this.table, "A table is required");
+		Assert.notEmpty(this.columns, "Columns are required");
+		Assert.notNull(this.fieldExtractor, "A FieldExtractor is required");
+
+		JdbcBulkInsertItemWriter<T> writer = new JdbcBulkInsertItemWriter<>();
+		writer.setDataSource(this.dataSource);
+		writer.setTable(this.table);
+		writer.setColumns(this.columns);
+		writer.setFieldExtractor(this.fieldExtractor);
+		writer.setMaxRowsPerStatement(this.maxRowsPerStatement);
+		writer.setMaxBytesPerStatement(this.maxBytesPerStatement);
+		writer.setVendorBulkLoad(this.vendorBulkLoad);
+		writer.setAssertUpdates(this.assertUpdates);
+		try {
+			writer.setDatabaseType(
+					this.databaseType != null ? this.databaseType : DatabaseType.fromMetaData(this.dataSource));
+		}
+		catch (MetaDataAccessException e) {
+			throw new IllegalArgumentException("Unable to determine the database type", e);
+		}
+
+		return writer;
+	}
+
+}
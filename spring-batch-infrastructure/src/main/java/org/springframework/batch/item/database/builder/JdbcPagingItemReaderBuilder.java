@@ -35,6 +35,7 @@ import org.springframework.batch.item.database.support.SqlServerPagingQueryProvi
 import org.springframework.batch.item.database.support.SqlitePagingQueryProvider;
 import org.springframework.batch.item.database.support.SybasePagingQueryProvider;
 import org.springframework.batch.support.DatabaseType;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.MetaDataAccessException;
@@ -87,6 +88,10 @@ public class JdbcPagingItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private int prefetchDepth;
+
+	private TaskExecutor prefetchTaskExecutor;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -211,6 +216,33 @@ public class JdbcPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0 (no prefetching).
+	 * @param prefetchDepth the maximum number of pages read ahead
+	 * @return this instance for method chaining
+	 * @see JdbcPagingItemReader#setPrefetchDepth(int)
+	 * @since 5.1
+	 */
+	public JdbcPagingItemReaderBuilder<T> prefetchDepth(int prefetchDepth) {
+		this.prefetchDepth = prefetchDepth;
+
+		return this;
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @return this instance for method chaining
+	 * @see JdbcPagingItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 * @since 5.1
+	 */
+	public JdbcPagingItemReaderBuilder<T> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+
+		return this;
+	}
+
 	/**
 	 * The SQL <code>GROUP BY</code> clause for a db
 	 * specific @{@link PagingQueryProvider}. This is only used if a
@@ -326,6 +358,10 @@ public class JdbcPagingItemReaderBuilder<T> {
 
 		reader.setRowMapper(this.rowMapper);
 		reader.setPageSize(this.pageSize);
+		reader.setPrefetchDepth(this.prefetchDepth);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 
 		return reader;
 	}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database.builder;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.item.database.JdbcUpsertItemWriter;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.util.Assert;
+
+/**
+ * A builder implementation for the {@link JdbcUpsertItemWriter}.
+ *
+ * @since 5.1
+ * @param <T> the type of the items to write
+ * @see JdbcUpsertItemWriter
+ */
+public class JdbcUpsertItemWriterBuilder<T> {
+
+	private DataSource dataSource;
+
+	private DatabaseType databaseType;
+
+	private String table;
+
+	private String[] keyColumns;
+
+	private String[] valueColumns = new String[0];
+
+	private FieldExtractor<T> fieldExtractor;
+
+	/**
+	 * Configure the {@link DataSource} to be used. Required.
+	 * @param dataSource the DataSource
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setDataSource(DataSource)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> dataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+
+		return this;
+	}
+
+	/**
+	 * The type of the database. Detected from the metadata of the data source if not set.
+	 * @param databaseType the type of the database
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setDatabaseType(DatabaseType)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> databaseType(DatabaseType databaseType) {
+		this.databaseType = databaseType;
+
+		return this;
+	}
+
+	/**
+	 * The name of the table to write the items to. Required.
+	 * @param table the name of the table
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setTable(String)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> table(String table) {
+		this.table = table;
+
+		return this;
+	}
+
+	/**
+	 * The names of the columns identifying a row. Required.
+	 * @param keyColumns the names of the key columns
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setKeyColumns(String...)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> keyColumns(String... keyColumns) {
+		this.keyColumns = keyColumns;
+
+		return this;
+	}
+
+	/**
+	 * The names of the columns updated when a row with the same key exists.
+	 * @param valueColumns the names of the value columns
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setValueColumns(String...)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> valueColumns(String... valueColumns) {
+		this.valueColumns = valueColumns;
+
+		return this;
+	}
+
+	/**
+	 * The {@link FieldExtractor} returning the values of the key columns followed by the
+	 * values of the value columns for an item. Required.
+	 * @param fieldExtractor the extractor of the column values
+	 * @return The current instance of the builder for chaining.
+	 * @see JdbcUpsertItemWriter#setFieldExtractor(FieldExtractor)
+	 */
+	public JdbcUpsertItemWriterBuilder<T> fieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+
+		return this;
+	}
+
+	/**
+	 * Validates configuration and builds the {@link JdbcUpsertItemWriter}.
+	 * @return a {@link JdbcUpsertItemWriter}
+	 */
+	public JdbcUpsertItemWriter<T> build() {
+		Assert.notNull(this.dataSource, "A DataSource is required");
+		Assert.hasText(this.table, "A table is required");
+		Assert.notEmpty(this.keyColumns, "Key columns are required");
+		Assert.notNull(this.fieldExtractor, "A FieldExtractor is required");
+
+		JdbcUpsertItemWriter<T> writer = new JdbcUpsertItemWriter<>();
+		writer.setDataSource(this.dataSource);
+		writer.setDatabaseType(this.databaseType);
+		writer.setTable(this.table);
+		writer.setKeyColumns(this.keyColumns);
+		writer.setValueColumns(this.valueColumns);
+		writer.setFieldExtractor(this.fieldExtractor);
+		try {
+			writer.afterPropertiesSet();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Unable to initialize the JdbcUpsertItemWriter", e);
+		}
+
+		return writer;
+	}
+
+}
@@ -20,6 +20,7 @@ import jakarta.persistence.EntityManagerFactory;
 
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.orm.JpaQueryProvider;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -52,6 +53,10 @@ public class JpaPagingItemReaderBuilder<T> {
 
 	private int currentItemCount;
 
+	private int prefetchDepth;
+
+	private TaskExecutor prefetchTaskExecutor;
+
 	/**
 	 * Configure if the state of the
 	 * {@link org.springframework.batch.item.ItemStreamSupport} should be persisted within
@@ -116,6 +121,33 @@ public class JpaPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * The number of pages to read ahead in the background while the current page is being
+	 * consumed. Defaults to 0 (no prefetching).
+	 * @param prefetchDepth the maximum number of pages read ahead
+	 * @return this instance for method chaining
+	 * @see JpaPagingItemReader#setPrefetchDepth(int)
+	 * @since 5.1
+	 */
+	public JpaPagingItemReaderBuilder<T> prefetchDepth(int prefetchDepth) {
+		this.prefetchDepth = prefetchDepth;
+
+		return this;
+	}
+
+	/**
+	 * The {@link TaskExecutor} used to read pages ahead.
+	 * @param prefetchTaskExecutor the task executor reading the next pages
+	 * @return this instance for method chaining
+	 * @see JpaPagingItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 * @since 5.1
+	 */
+	public JpaPagingItemReaderBuilder<T> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+
+		return this;
+	}
+
 	/**
 	 * A map of parameter values to be set on the query. The key of the map is the name of
 	 * the parameter to be set with the value being the value to be set.
@@ -203,6 +235,10 @@ public class JpaPagingItemReaderBuilder<T> {
 
 		reader.setQueryString(this.queryString);
 		reader.setPageSize(this.pageSize);
+		reader.setPrefetchDepth(this.prefetchDepth);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 		reader.setParameterValues(this.parameterValues);
 		reader.setEntityManagerFactory(this.entityManagerFactory);
 		reader.setQueryProvider(this.queryProvider);
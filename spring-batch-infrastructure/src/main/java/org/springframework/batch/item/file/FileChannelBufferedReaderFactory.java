@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link BufferedReaderFactory} for large plain text files. Files are read through a
+ * {@link FileChannel} in large blocks, and lines are split on the bytes of the file and
+ * decoded straight into a {@link String}, without going through a {@link java.io.Reader}
+ * and its intermediate character buffer. Lines are terminated by {@code \n}, {@code \r}
+ * or {@code \r\n}, like with the {@link DefaultBufferedReaderFactory}.
+ * <p>
+ * Lines can only be split on bytes for UTF-8 and for single-byte encodings compatible
+ * with ASCII (such as ISO-8859-1 or windows-1252). Other encodings fall back to a
+ * standard {@link BufferedReader} with a buffer of the same size. The readers created by
+ * this factory also let a {@link FlatFileItemReader} restart from a byte position (see
+ * {@link FlatFileItemReader#setRestartFromBytePosition(boolean)}).
+ *
+ * @since 5.1
+ */
+public class FileChannelBufferedReaderFactory implements BufferedReaderFactory {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * Set the number of bytes read from the file at a time. Defaults to 1 MiB.
+	 * @param bufferSize the buffer size in bytes, must be greater than zero
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public BufferedReader create(Resource resource, String encoding) throws IOException {
+		Charset charset = Charset.forName(encoding);
+		if (PositionTrackingBufferedReader.supports(charset)) {
+			return PositionTrackingBufferedReader.create(resource, charset, this.bufferSize);
+		}
+		return new BufferedReader(new InputStreamReader(resource.getInputStream(), charset), this.bufferSize);
+	}
+
+}
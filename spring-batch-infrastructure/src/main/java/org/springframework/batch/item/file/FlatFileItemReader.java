@@ -18,12 +18,15 @@ package org.springframework.batch.item.file;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ReaderNotOpenException;
 import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.batch.item.file.separator.SimpleRecordSeparatorPolicy;
@@ -44,6 +47,17 @@ import org.springframework.util.StringUtils;
  * line and its line number.
  *
  * <p>
+ * On restart, the reader reads again all the lines up to the last saved item, unless
+ * {@link #setRestartFromBytePosition(boolean)} is enabled.
+ * </p>
+ *
+ * <p>
+ * The reader can also be restricted to a byte range of the resource with
+ * {@link #setRangeStart(long)} and {@link #setRangeEnd(long)}, so that several partitions
+ * can each read their own part of a single file.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -59,6 +73,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	public static final String[] DEFAULT_COMMENT_PREFIXES = new String[] { "#" };
 
+	private static final String READ_POSITION = "read.position";
+
+	private static final String LINE_COUNT = "line.count";
+
 	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
 
 	private Resource resource;
@@ -83,6 +101,16 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean restartFromBytePosition = false;
+
+	private long restartPosition = -1;
+
+	private int restartLineCount;
+
+	private long rangeStart = 0;
+
+	private long rangeEnd = -1;
+
 	public FlatFileItemReader() {
 		setName(ClassUtils.getShortName(FlatFileItemReader.class));
 	}
@@ -143,6 +171,52 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		this.bufferedReaderFactory = bufferedReaderFactory;
 	}
 
+	/**
+	 * Set whether the byte position of the next line should be saved in the execution
+	 * context, so that a restart can skip directly to that position instead of reading
+	 * all the lines up to the last saved item. If the resource is a file, skipping moves
+	 * the file position without reading the skipped bytes. Multi-line records and
+	 * comments are supported since the position is saved between records.
+	 * <p>
+	 * The byte position is only used with the default {@link BufferedReaderFactory} or a
+	 * {@link FileChannelBufferedReaderFactory}, and with UTF-8 or single-byte encodings
+	 * compatible with ASCII. In other cases, the reader falls back to reading the lines
+	 * up to the last saved item. The file must not be modified between the failed
+	 * execution and the restart. Defaults to {@code false}.
+	 * @param restartFromBytePosition whether to restart from the saved byte position
+	 * @since 5.1
+	 */
+	public void setRestartFromBytePosition(boolean restartFromBytePosition) {
+		this.restartFromBytePosition = restartFromBytePosition;
+	}
+
+	/**
+	 * Set the byte position at which the reader starts reading, which must be the start
+	 * of a line. When greater than zero, the lines to skip are not skipped, since they
+	 * belong to the part of the resource that starts at position zero. Setting a range
+	 * enables the byte position based restart described in
+	 * {@link #setRestartFromBytePosition(boolean)}, so that each part can be restarted
+	 * independently. Defaults to 0.
+	 * @param rangeStart the byte position of the first line to read
+	 * @since 5.1
+	 */
+	public void setRangeStart(long rangeStart) {
+		this.rangeStart = rangeStart;
+	}
+
+	/**
+	 * Set the byte position at which the reader stops reading. A record is read if its
+	 * first line starts before this position, so a multi-line record can end after it.
+	 * Line numbers reported by the reader are relative to the start of the range.
+	 * Defaults to -1, meaning the end of the resource.
+	 * @param rangeEnd the byte position after the last line to read
+	 * @since 5.1
+	 * @see #setRangeStart(long)
+	 */
+	public void setRangeEnd(long rangeEnd) {
+		this.rangeEnd = rangeEnd;
+	}
+
 	/**
 	 * Setter for comment prefixes. Can be used to ignore header lines as well by using
 	 * e.g. the first couple of column names as a prefix. Defaults to
@@ -213,12 +287,18 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		String line = null;
 
 		try {
+			if (isAtRangeEnd()) {
+				return null;
+			}
 			line = this.reader.readLine();
 			if (line == null) {
 				return null;
 			}
 			lineCount++;
 			while (isComment(line)) {
+				if (isAtRangeEnd()) {
+					return null;
+				}
 				line = reader.readLine();
 				if (line == null) {
 					return null;
@@ -238,6 +318,11 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		return line;
 	}
 
+	private boolean isAtRangeEnd() {
+		return rangeEnd >= 0 && reader instanceof PositionTrackingBufferedReader positionTrackingReader
+				&& positionTrackingReader.getPosition() >= rangeEnd;
+	}
+
 	protected boolean isComment(String line) {
 		for (String prefix : comments) {
 			if (line.startsWith(prefix)) {
@@ -278,7 +363,18 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 			return;
 		}
 
-		reader = bufferedReaderFactory.create(resource, encoding);
+		reader = createReader();
+		if (isRange()) {
+			if (!(reader instanceof PositionTrackingBufferedReader positionTrackingReader)) {
+				throw new IllegalStateException("A byte range cannot be read with encoding " + encoding + " and "
+						+ bufferedReaderFactory.getClass().getName());
+			}
+			if (rangeStart > 0) {
+				positionTrackingReader.skipBytes(rangeStart);
+				noInput = false;
+				return;
+			}
+		}
 		for (int i = 0; i < linesToSkip; i++) {
 			String line = readLine();
 			if (skippedLinesCallback != null) {
@@ -288,13 +384,66 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 		noInput = false;
 	}
 
+	private BufferedReader createReader() throws IOException {
+		if (isBytePositionUsed() && bufferedReaderFactory.getClass() == DefaultBufferedReaderFactory.class) {
+			Charset charset = Charset.forName(encoding);
+			if (PositionTrackingBufferedReader.supports(charset)) {
+				return PositionTrackingBufferedReader.create(resource, charset);
+			}
+		}
+		BufferedReader bufferedReader = bufferedReaderFactory.create(resource, encoding);
+		if (restartFromBytePosition && !isRange() && !(bufferedReader instanceof PositionTrackingBufferedReader)) {
+			logger.warn("The byte position cannot be used with encoding " + encoding + " and "
+					+ bufferedReaderFactory.getClass().getName() + ", restarts will read the lines up to the last"
+					+ " saved item");
+		}
+		return bufferedReader;
+	}
+
+	private boolean isRange() {
+		return rangeStart > 0 || rangeEnd >= 0;
+	}
+
+	private boolean isBytePositionUsed() {
+		return restartFromBytePosition || isRange();
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(lineMapper != null, "LineMapper is required");
+		Assert.state(rangeStart >= 0, "Range start must not be negative");
+		Assert.state(rangeEnd < 0 || rangeEnd >= rangeStart, "Range end must not be lower than range start");
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		restartPosition = -1;
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(READ_POSITION))) {
+			restartPosition = executionContext.getLong(getExecutionContextKey(READ_POSITION));
+			restartLineCount = executionContext.getInt(getExecutionContextKey(LINE_COUNT));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && isBytePositionUsed()
+				&& reader instanceof PositionTrackingBufferedReader positionTrackingReader) {
+			executionContext.putLong(getExecutionContextKey(READ_POSITION), positionTrackingReader.getPosition());
+			executionContext.putInt(getExecutionContextKey(LINE_COUNT), lineCount);
+		}
 	}
 
 	@Override
 	protected void jumpToItem(int itemIndex) throws Exception {
+		if (restartPosition >= 0 && isBytePositionUsed()
+				&& reader instanceof PositionTrackingBufferedReader positionTrackingReader
+				&& restartPosition >= positionTrackingReader.getPosition()) {
+			positionTrackingReader.skipBytes(restartPosition - positionTrackingReader.getPosition());
+			lineCount = restartLineCount;
+			return;
+		}
 		for (int i = 0; i < itemIndex; i++) {
 			readLine();
 		}
@@ -17,6 +17,7 @@
 package org.springframework.batch.item.file;
 
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.file.transform.AppendingLineAggregator;
 import org.springframework.batch.item.file.transform.LineAggregator;
 import org.springframework.batch.item.support.AbstractFileItemWriter;
 import org.springframework.core.io.Resource;
@@ -72,6 +73,13 @@ public class FlatFileItemWriter<T> extends AbstractFileItemWriter<T> {
 	@Override
 	public String doWrite(Chunk<? extends T> items) {
 		StringBuilder lines = new StringBuilder();
+		if (this.lineAggregator instanceof AppendingLineAggregator<T> appendingLineAggregator) {
+			for (T item : items) {
+				appendingLineAggregator.aggregate(item, lines);
+				lines.append(this.lineSeparator);
+			}
+			return lines.toString();
+		}
 		for (T item : items) {
 			lines.append(this.lineAggregator.aggregate(item)).append(this.lineSeparator);
 		}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link BufferedReader} extension that splits lines on the bytes of the input rather
+ * than on decoded characters, so that it knows the byte position of the next line and can
+ * skip to a byte position without decoding what is skipped. Lines are terminated by
+ * {@code \n}, {@code \r} or {@code \r\n}, like with a standard {@link BufferedReader}.
+ * <p>
+ * Characters read with the {@code read} methods are decoded one line at a time, the line
+ * terminator included, so that a line partially read is counted as read in the byte
+ * position. Marking is not supported. Only charsets in which line terminators are single
+ * bytes that cannot be part of another character are supported (see
+ * {@link #supports(Charset)}).
+ *
+ * @since 5.1
+ */
+class PositionTrackingBufferedReader extends BufferedReader {
+
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private final InputStream in;
+
+	@Nullable
+	private final FileChannel channel;
+
+	private final Charset charset;
+
+	private final byte[] buffer;
+
+	private int bufferPosition;
+
+	private int bufferLimit;
+
+	private byte[] lineBuffer = new byte[128];
+
+	private long position;
+
+	private String lineTerminator = "";
+
+	@Nullable
+	private String pendingLine;
+
+	private int pendingLinePosition;
+
+	/**
+	 * Create a reader for the given resource with the default buffer size.
+	 * @param resource the resource to read
+	 * @param charset the charset of the resource
+	 * @return a new reader positioned at the start of the resource
+	 * @throws IOException if the resource cannot be opened
+	 */
+	static PositionTrackingBufferedReader create(Resource resource, Charset charset) throws IOException {
+		return create(resource, charset, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a reader for the given resource, reading the given number of bytes at a
+	 * time. If the resource is a file, it is read through a {@link FileChannel} and
+	 * skipping bytes moves the position of the channel instead of reading the skipped
+	 * bytes.
+	 * @param resource the resource to read
+	 * @param charset the charset of the resource
+	 * @param bufferSize the number of bytes to read at a time
+	 * @return a new reader positioned at the start of the resource
+	 * @throws IOException if the resource cannot be opened
+	 */
+	static PositionTrackingBufferedReader create(Resource resource, Charset charset, int bufferSize)
+			throws IOException {
+		if (resource.isFile()) {
+			FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+			return new PositionTrackingBufferedReader(Channels.newInputStream(channel), channel, charset, bufferSize);
+		}
+		return new PositionTrackingBufferedReader(resource.getInputStream(), null, charset, bufferSize);
+	}
+
+	/**
+	 * Indicate whether lines of the given charset can be split on bytes, which is the
+	 * case of UTF-8 and of single-byte charsets that are compatible with ASCII.
+	 * @param charset the charset to check
+	 * @return true if this reader supports the charset
+	 */
+	static boolean supports(Charset charset) {
+		if (charset.equals(StandardCharsets.UTF_8)) {
+			return true;
+		}
+		return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f
+				&& Arrays.equals("\r\n".getBytes(charset), new byte[] { CR, LF });
+	}
+
+	private PositionTrackingBufferedReader(InputStream in, @Nullable FileChannel channel, Charset charset,
+			int bufferSize) {
+		super(Reader.nullReader(), 1);
+		this.in = in;
+		this.channel = channel;
+		this.charset = charset;
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * @return the byte position of the next line, a line partially read with the
+	 * {@code read} methods being counted as read
+	 */
+	long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Skip the given number of bytes, which should end on a line boundary.
+	 * @param bytes the number of bytes to skip
+	 * @throws IOException if the input is shorter than the bytes to skip
+	 */
+	void skipBytes(long bytes) throws IOException {
+		this.pendingLine = null;
+		long buffered = Math.min(bytes, this.bufferLimit - this.bufferPosition);
+		this.bufferPosition += (int) buffered;
+		long remaining = bytes - buffered;
+		if (remaining > 0) {
+			if (this.channel != null) {
+				long target = this.channel.position() + remaining;
+				if (target > this.channel.size()) {
+					throw new EOFException("Cannot skip to byte " + (this.position + bytes) + " of a shorter input");
+				}
+				this.channel.position(target);
+			}
+			else {
+				this.in.skipNBytes(remaining);
+			}
+		}
+		this.position += bytes;
+	}
+
+	@Nullable
+	@Override
+	public String readLine() throws IOException {
+		if (hasPendingChars()) {
+			String line = this.pendingLine;
+			int end = this.pendingLinePosition;
+			while (end < line.length() && line.charAt(end) != LF && line.charAt(end) != CR) {
+				end++;
+			}
+			this.pendingLine = null;
+			return line.substring(this.pendingLinePosition, end);
+		}
+		return nextLine();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fillPendingLine()) {
+			return -1;
+		}
+		return this.pendingLine.charAt(this.pendingLinePosition++);
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, cbuf.length);
+		if (len == 0) {
+			return 0;
+		}
+		if (!fillPendingLine()) {
+			return -1;
+		}
+		int count = Math.min(len, this.pendingLine.length() - this.pendingLinePosition);
+		this.pendingLine.getChars(this.pendingLinePosition, this.pendingLinePosition + count, cbuf, off);
+		this.pendingLinePosition += count;
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n < 0L) {
+			throw new IllegalArgumentException("skip value is negative");
+		}
+		long skipped = 0;
+		while (skipped < n && fillPendingLine()) {
+			int count = (int) Math.min(n - skipped, this.pendingLine.length() - this.pendingLinePosition);
+			this.pendingLinePosition += count;
+			skipped += count;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean ready() throws IOException {
+		return hasPendingChars() || this.bufferPosition < this.bufferLimit || this.in.available() > 0;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	@Override
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.pendingLine = null;
+		this.in.close();
+	}
+
+	private boolean hasPendingChars() {
+		return this.pendingLine != null && this.pendingLinePosition < this.pendingLine.length();
+	}
+
+	private boolean fillPendingLine() throws IOException {
+		if (hasPendingChars()) {
+			return true;
+		}
+		String line = nextLine();
+		if (line == null) {
+			this.pendingLine = null;
+			return false;
+		}
+		this.pendingLine = this.lineTerminator.isEmpty() ? line : line + this.lineTerminator;
+		this.pendingLinePosition = 0;
+		return true;
+	}
+
+	@Nullable
+	private String nextLine() throws IOException {
+		int lineLength = 0;
+		boolean read = false;
+		while (true) {
+			if (this.bufferPosition >= this.bufferLimit && !fill()) {
+				this.lineTerminator = "";
+				return read ? new String(this.lineBuffer, 0, lineLength, this.charset) : null;
+			}
+			read = true;
+			int start = this.bufferPosition;
+			int end = start;
+			while (end < this.bufferLimit && this.buffer[end] != LF && this.buffer[end] != CR) {
+				end++;
+			}
+			this.position += end - start;
+			if (end == this.bufferLimit) {
+				lineLength = appendToLine(lineLength, start, end);
+				this.bufferPosition = end;
+				continue;
+			}
+			String line;
+			if (lineLength == 0) {
+				line = new String(this.buffer, start, end - start, this.charset);
+			}
+			else {
+				lineLength = appendToLine(lineLength, start, end);
+				line = new String(this.lineBuffer, 0, lineLength, this.charset);
+			}
+			byte terminator = this.buffer[end];
+			this.bufferPosition = end + 1;
+			this.position++;
+			this.lineTerminator = terminator == LF ? "\n" : "\r";
+			if (terminator == CR && (this.bufferPosition < this.bufferLimit || fill())
+					&& this.buffer[this.bufferPosition] == LF) {
+				this.bufferPosition++;
+				this.position++;
+				this.lineTerminator = "\r\n";
+			}
+			return line;
+		}
+	}
+
+	private int appendToLine(int lineLength, int start, int end) {
+		int length = end - start;
+		if (lineLength + length > this.lineBuffer.length) {
+			this.lineBuffer = Arrays.copyOf(this.lineBuffer, Math.max(this.lineBuffer.length * 2, lineLength + length));
+		}
+		System.arraycopy(this.buffer, start, this.lineBuffer, lineLength, length);
+		return lineLength + length;
+	}
+
+	private boolean fill() throws IOException {
+		int count = this.in.read(this.buffer, 0, this.buffer.length);
+		if (count <= 0) {
+			this.bufferPosition = 0;
+			this.bufferLimit = 0;
+			return false;
+		}
+		this.bufferPosition = 0;
+		this.bufferLimit = count;
+		return true;
+	}
+
+}
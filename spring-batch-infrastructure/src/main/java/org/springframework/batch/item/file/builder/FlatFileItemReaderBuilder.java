@@ -37,6 +37,7 @@ import org.springframework.batch.item.file.LineMapper;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.mapping.MethodHandleFieldSetMapper;
 import org.springframework.batch.item.file.mapping.RecordFieldSetMapper;
 import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.batch.item.file.separator.SimpleRecordSeparatorPolicy;
@@ -48,6 +49,7 @@ import org.springframework.batch.item.file.transform.LineTokenizer;
 import org.springframework.batch.item.file.transform.Range;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -73,6 +75,12 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean restartFromBytePosition = false;
+
+	private long rangeStart = 0;
+
+	private long rangeEnd = -1;
+
 	private Resource resource;
 
 	private List<String> comments = new ArrayList<>(Arrays.asList(FlatFileItemReader.DEFAULT_COMMENT_PREFIXES));
@@ -103,6 +111,8 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private boolean beanMapperStrict = true;
 
+	private boolean methodHandleMapping = false;
+
 	private BigInteger tokenizerValidator = new BigInteger("0");
 
 	private boolean saveState = true;
@@ -200,6 +210,35 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Configure whether the reader should save the byte position of the next line and
+	 * skip directly to it on restart.
+	 * @param restartFromBytePosition whether to restart from the saved byte position
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setRestartFromBytePosition(boolean)
+	 * @since 5.1
+	 */
+	public FlatFileItemReaderBuilder<T> restartFromBytePosition(boolean restartFromBytePosition) {
+		this.restartFromBytePosition = restartFromBytePosition;
+		return this;
+	}
+
+	/**
+	 * Configure the byte range of the resource that the reader should read.
+	 * @param start the byte position of the first line to read
+	 * @param end the byte position after the last line to read, or -1 to read to the end
+	 * of the resource
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setRangeStart(long)
+	 * @see FlatFileItemReader#setRangeEnd(long)
+	 * @since 5.1
+	 */
+	public FlatFileItemReaderBuilder<T> byteRange(long start, long end) {
+		this.rangeStart = start;
+		this.rangeEnd = end;
+		return this;
+	}
+
 	/**
 	 * Configure a custom {@link BufferedReaderFactory} for the reader.
 	 * @param factory custom factory
@@ -407,6 +446,22 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * If set to true, items of the {@link #targetType(Class) target type} are mapped with
+	 * a {@link MethodHandleFieldSetMapper} created for the configured field names,
+	 * instead of a {@link BeanWrapperFieldSetMapper} or a {@link RecordFieldSetMapper}.
+	 * Custom editors, the distance limit and the prototype bean name do not apply to this
+	 * mapper.
+	 * @param methodHandleMapping defaults to false
+	 * @return The current instance of the builder.
+	 * @see MethodHandleFieldSetMapper
+	 * @since 5.1
+	 */
+	public FlatFileItemReaderBuilder<T> methodHandleMapping(boolean methodHandleMapping) {
+		this.methodHandleMapping = methodHandleMapping;
+		return this;
+	}
+
 	/**
 	 * Builds the {@link FlatFileItemReader}.
 	 * @return a {@link FlatFileItemReader}
@@ -460,7 +515,14 @@ public class FlatFileItemReaderBuilder<T> {
 			}
 
 			if (this.targetType != null || StringUtils.hasText(this.prototypeBeanName)) {
-				if (this.targetType != null && this.targetType.isRecord()) {
+				if (this.methodHandleMapping) {
+					Assert.state(this.targetType != null, "A target type is required for method handle mapping");
+					MethodHandleFieldSetMapper<T> mapper = new MethodHandleFieldSetMapper<>(this.targetType,
+							getNames());
+					mapper.setStrict(this.beanMapperStrict);
+					lineMapper.setFieldSetMapper(mapper);
+				}
+				else if (this.targetType != null && this.targetType.isRecord()) {
 					RecordFieldSetMapper<T> mapper = new RecordFieldSetMapper<>(this.targetType);
 					lineMapper.setFieldSetMapper(mapper);
 				}
@@ -497,6 +559,9 @@ public class FlatFileItemReaderBuilder<T> {
 		reader.setSkippedLinesCallback(this.skippedLinesCallback);
 		reader.setRecordSeparatorPolicy(this.recordSeparatorPolicy);
 		reader.setBufferedReaderFactory(this.bufferedReaderFactory);
+		reader.setRestartFromBytePosition(this.restartFromBytePosition);
+		reader.setRangeStart(this.rangeStart);
+		reader.setRangeEnd(this.rangeEnd);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setSaveState(this.saveState);
@@ -505,6 +570,18 @@ public class FlatFileItemReaderBuilder<T> {
 		return reader;
 	}
 
+	@Nullable
+	private String[] getNames() {
+		List<String> names = null;
+		if (this.lineTokenizer == null && this.fixedLengthBuilder != null) {
+			names = this.fixedLengthBuilder.names;
+		}
+		else if (this.lineTokenizer == null && this.delimitedBuilder != null) {
+			names = this.delimitedBuilder.names;
+		}
+		return names != null ? names.toArray(new String[0]) : null;
+	}
+
 	private void updateTokenizerValidation(Object tokenizer, int index) {
 		if (tokenizer != null) {
 			this.tokenizerValidator = this.tokenizerValidator.flipBit(index);
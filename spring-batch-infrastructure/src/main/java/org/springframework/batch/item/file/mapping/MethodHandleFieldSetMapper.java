@@ -0,0 +1,411 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link FieldSetMapper} that maps the fields of a {@link FieldSet} to the properties of
+ * a bean, or to the components of a record, through method handles resolved once for the
+ * target type and the field names. Unlike {@link BeanWrapperFieldSetMapper} and
+ * {@link RecordFieldSetMapper}, no bean wrapper, data binder or reflective call is
+ * involved when mapping a line.
+ * <p>
+ * Fields are matched to properties by name, first exactly and then ignoring case and
+ * underscores (so that {@code ITEM_ID} matches {@code itemId}). Nested property paths are
+ * not supported. Fields are read by position, so all the mapped field sets must have the
+ * same names in the same order as the first one (or as the names given at construction
+ * time), which is the case of field sets created by a {@link FlatFileItemReader} with a
+ * named tokenizer.
+ * <p>
+ * Values are converted with the {@link FieldSet} read methods: primitive and wrapper
+ * types with {@link FieldSet#readInt(int)}, {@link FieldSet#readLong(int)} and so on,
+ * {@link BigDecimal} with {@link FieldSet#readBigDecimal(int)}, {@link Date} with
+ * {@link FieldSet#readDate(int)} and {@link String} with
+ * {@link FieldSet#readString(int)}. Empty fields are mapped to {@code null} for wrapper
+ * types. Values of other types are converted from the String with the
+ * {@link #setConversionService(ConversionService) conversion service}.
+ *
+ * @param <T> type of mapped items
+ * @since 5.1
+ * @see org.springframework.batch.item.file.FlatFileItemReader
+ */
+public class MethodHandleFieldSetMapper<T> implements FieldSetMapper<T> {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final int CONVERTED = 0;
+
+	private static final int BOOLEAN = 1;
+
+	private static final int CHAR = 2;
+
+	private static final int BYTE = 3;
+
+	private static final int SHORT = 4;
+
+	private static final int INT = 5;
+
+	private static final int LONG = 6;
+
+	private static final int FLOAT = 7;
+
+	private static final int DOUBLE = 8;
+
+	private static final int STRING = 9;
+
+	private static final int BIG_DECIMAL = 10;
+
+	private static final int DATE = 11;
+
+	private final Class<T> targetType;
+
+	@Nullable
+	private final String[] names;
+
+	private boolean strict = true;
+
+	private ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+	@Nullable
+	private volatile Mapping mapping;
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper} for the names of the first mapped
+	 * {@link FieldSet}.
+	 * @param targetType the type of mapped items, a record or a class with a default
+	 * constructor and setters
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType) {
+		this(targetType, (String[]) null);
+	}
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper} for the given names.
+	 * @param targetType the type of mapped items, a record or a class with a default
+	 * constructor and setters
+	 * @param names the names of the fields in the mapped field sets, or {@code null} to
+	 * use the names of the first mapped {@link FieldSet}
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType, @Nullable String... names) {
+		Assert.notNull(targetType, "The target type must not be null");
+		this.targetType = targetType;
+		this.names = names != null && names.length > 0 ? names.clone() : null;
+	}
+
+	/**
+	 * Set whether a field that does not match any property is an error. Default is
+	 * {@code true}. If {@code false}, such fields are ignored.
+	 * @param strict the strict flag to set
+	 */
+	public void setStrict(boolean strict) {
+		this.strict = strict;
+	}
+
+	/**
+	 * Set the {@link ConversionService} used to convert fields to properties of types
+	 * that the {@link FieldSet} cannot read directly. Defaults to the shared
+	 * {@link DefaultConversionService}.
+	 * @param conversionService the conversion service to use
+	 */
+	public void setConversionService(ConversionService conversionService) {
+		Assert.notNull(conversionService, "The conversion service must not be null");
+		this.conversionService = conversionService;
+	}
+
+	@Override
+	public T mapFieldSet(FieldSet fieldSet) {
+		Mapping mapping = this.mapping;
+		if (mapping == null) {
+			String[] names = this.names;
+			if (names == null) {
+				Assert.isTrue(fieldSet.hasNames(), "Field names must be specified");
+				names = fieldSet.getNames();
+			}
+			mapping = this.targetType.isRecord() ? createRecordMapping(names) : createBeanMapping(names);
+			this.mapping = mapping;
+		}
+		try {
+			return this.targetType.cast(mapping.map(fieldSet));
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException("Unable to map field set to " + this.targetType.getName(), e);
+		}
+	}
+
+	private Mapping createBeanMapping(String[] names) {
+		Constructor<T> constructor = BeanUtils.getResolvableConstructor(this.targetType);
+		Assert.state(constructor.getParameterCount() == 0,
+				() -> "No default constructor found in " + this.targetType.getName());
+		Map<String, PropertyDescriptor> properties = new HashMap<>();
+		for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(this.targetType)) {
+			if (property.getWriteMethod() != null) {
+				properties.put(property.getName(), property);
+			}
+		}
+		List<Integer> columns = new ArrayList<>();
+		List<Class<?>> types = new ArrayList<>();
+		List<MethodHandle> setters = new ArrayList<>();
+		for (int i = 0; i < names.length; i++) {
+			String property = findProperty(names[i], properties.keySet());
+			if (property == null) {
+				continue;
+			}
+			Method writeMethod = properties.get(property).getWriteMethod();
+			ReflectionUtils.makeAccessible(writeMethod);
+			Class<?> type = writeMethod.getParameterTypes()[0];
+			MethodHandle setter = unreflect(writeMethod);
+			setter = setter
+				.asType(MethodType.methodType(void.class, Object.class, type.isPrimitive() ? type : Object.class));
+			columns.add(i);
+			types.add(type);
+			setters.add(setter);
+		}
+		ReflectionUtils.makeAccessible(constructor);
+		MethodHandle instantiator = unreflect(constructor).asType(MethodType.methodType(Object.class));
+		return new BeanMapping(instantiator, toArray(columns), toKinds(types), types.toArray(new Class<?>[0]),
+				setters.toArray(new MethodHandle[0]));
+	}
+
+	private Mapping createRecordMapping(String[] names) {
+		RecordComponent[] components = this.targetType.getRecordComponents();
+		Map<String, Integer> componentIndexes = new HashMap<>();
+		Class<?>[] componentTypes = new Class<?>[components.length];
+		for (int i = 0; i < components.length; i++) {
+			componentIndexes.put(components[i].getName(), i);
+			componentTypes[i] = components[i].getType();
+		}
+		int[] columns = new int[components.length];
+		Arrays.fill(columns, -1);
+		for (int i = 0; i < names.length; i++) {
+			String component = findProperty(names[i], componentIndexes.keySet());
+			if (component != null) {
+				columns[componentIndexes.get(component)] = i;
+			}
+		}
+		Constructor<T> constructor = BeanUtils.getResolvableConstructor(this.targetType);
+		ReflectionUtils.makeAccessible(constructor);
+		MethodHandle instantiator = unreflect(constructor)
+			.asType(MethodType.methodType(Object.class, componentTypes).generic())
+			.asSpreader(Object[].class, components.length);
+		return new RecordMapping(instantiator, columns, toKinds(List.of(componentTypes)), componentTypes);
+	}
+
+	@Nullable
+	private String findProperty(String name, Collection<String> properties) {
+		if (properties.contains(name)) {
+			return name;
+		}
+		String match = null;
+		String normalizedName = normalize(name);
+		for (String property : properties) {
+			if (normalize(property).equals(normalizedName)) {
+				Assert.state(match == null,
+						() -> "Field [" + name + "] matches more than one property of " + this.targetType.getName());
+				match = property;
+			}
+		}
+		Assert.state(match != null || !this.strict,
+				() -> "Field [" + name + "] does not match any property of " + this.targetType.getName());
+		return match;
+	}
+
+	private static String normalize(String name) {
+		return StringUtils.delete(name, "_").toLowerCase(Locale.ROOT);
+	}
+
+	private static MethodHandle unreflect(Method method) {
+		try {
+			return LOOKUP.unreflect(method);
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot access " + method, e);
+		}
+	}
+
+	private static MethodHandle unreflect(Constructor<?> constructor) {
+		try {
+			return LOOKUP.unreflectConstructor(constructor);
+		}
+		catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot access " + constructor, e);
+		}
+	}
+
+	private static int[] toArray(List<Integer> values) {
+		return values.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static int[] toKinds(List<Class<?>> types) {
+		int[] kinds = new int[types.size()];
+		for (int i = 0; i < kinds.length; i++) {
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(types.get(i));
+			kinds[i] = type == Boolean.class ? BOOLEAN : type == Character.class ? CHAR : type == Byte.class ? BYTE
+					: type == Short.class ? SHORT : type == Integer.class ? INT : type == Long.class ? LONG
+							: type == Float.class ? FLOAT : type == Double.class ? DOUBLE : type == String.class
+									? STRING
+									: type == BigDecimal.class ? BIG_DECIMAL : type == Date.class ? DATE : CONVERTED;
+		}
+		return kinds;
+	}
+
+	/**
+	 * Read a field as an object of the given kind, or {@code null} if the field is empty
+	 * and the type is not primitive.
+	 */
+	@Nullable
+	private Object read(FieldSet fieldSet, int column, int kind, Class<?> type) {
+		if (kind == STRING) {
+			return fieldSet.readString(column);
+		}
+		if (!type.isPrimitive() && !StringUtils.hasLength(fieldSet.readString(column))) {
+			return null;
+		}
+		return switch (kind) {
+			case BOOLEAN -> fieldSet.readBoolean(column);
+			case CHAR -> fieldSet.readChar(column);
+			case BYTE -> fieldSet.readByte(column);
+			case SHORT -> fieldSet.readShort(column);
+			case INT -> fieldSet.readInt(column);
+			case LONG -> fieldSet.readLong(column);
+			case FLOAT -> fieldSet.readFloat(column);
+			case DOUBLE -> fieldSet.readDouble(column);
+			case BIG_DECIMAL -> fieldSet.readBigDecimal(column);
+			case DATE -> fieldSet.readDate(column);
+			default -> this.conversionService.convert(fieldSet.readString(column), type);
+		};
+	}
+
+	private interface Mapping {
+
+		Object map(FieldSet fieldSet) throws Throwable;
+
+	}
+
+	private final class BeanMapping implements Mapping {
+
+		private final MethodHandle instantiator;
+
+		private final int[] columns;
+
+		private final int[] kinds;
+
+		private final Class<?>[] types;
+
+		private final MethodHandle[] setters;
+
+		private BeanMapping(MethodHandle instantiator, int[] columns, int[] kinds, Class<?>[] types,
+				MethodHandle[] setters) {
+			this.instantiator = instantiator;
+			this.columns = columns;
+			this.kinds = kinds;
+			this.types = types;
+			this.setters = setters;
+		}
+
+		@Override
+		public Object map(FieldSet fieldSet) throws Throwable {
+			Object bean = (Object) this.instantiator.invokeExact();
+			for (int i = 0; i < this.columns.length; i++) {
+				int column = this.columns[i];
+				MethodHandle setter = this.setters[i];
+				if (!this.types[i].isPrimitive()) {
+					setter.invokeExact(bean, read(fieldSet, column, this.kinds[i], this.types[i]));
+					continue;
+				}
+				switch (this.kinds[i]) {
+					case BOOLEAN -> setter.invokeExact(bean, fieldSet.readBoolean(column));
+					case CHAR -> setter.invokeExact(bean, fieldSet.readChar(column));
+					case BYTE -> setter.invokeExact(bean, fieldSet.readByte(column));
+					case SHORT -> setter.invokeExact(bean, fieldSet.readShort(column));
+					case INT -> setter.invokeExact(bean, fieldSet.readInt(column));
+					case LONG -> setter.invokeExact(bean, fieldSet.readLong(column));
+					case FLOAT -> setter.invokeExact(bean, fieldSet.readFloat(column));
+					default -> setter.invokeExact(bean, fieldSet.readDouble(column));
+				}
+			}
+			return bean;
+		}
+
+	}
+
+	private final class RecordMapping implements Mapping {
+
+		private final MethodHandle instantiator;
+
+		private final int[] columns;
+
+		private final int[] kinds;
+
+		private final Class<?>[] types;
+
+		private final Object[] defaultValues;
+
+		private RecordMapping(MethodHandle instantiator, int[] columns, int[] kinds, Class<?>[] types) {
+			this.instantiator = instantiator;
+			this.columns = columns;
+			this.kinds = kinds;
+			this.types = types;
+			this.defaultValues = new Object[types.length];
+			for (int i = 0; i < types.length; i++) {
+				if (types[i].isPrimitive()) {
+					this.defaultValues[i] = Array.get(Array.newInstance(types[i], 1), 0);
+				}
+			}
+		}
+
+		@Override
+		public Object map(FieldSet fieldSet) throws Throwable {
+			Object[] args = new Object[this.columns.length];
+			for (int i = 0; i < args.length; i++) {
+				int column = this.columns[i];
+				args[i] = column < 0 ? this.defaultValues[i] : read(fieldSet, column, this.kinds[i], this.types[i]);
+			}
+			return (Object) this.instantiator.invokeExact(args);
+		}
+
+	}
+
+}
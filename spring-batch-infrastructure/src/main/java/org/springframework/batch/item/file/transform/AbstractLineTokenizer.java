@@ -71,6 +71,13 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 		this.fieldSetFactory = fieldSetFactory;
 	}
 
+	/**
+	 * @return the {@link FieldSetFactory} used to create the field sets
+	 */
+	FieldSetFactory getFieldSetFactory() {
+		return this.fieldSetFactory;
+	}
+
 	/**
 	 * Setter for column names. Optional, but if set, then all lines must have as many or
 	 * fewer tokens.
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+/**
+ * {@link LineAggregator} that can append the line of an item to a {@link StringBuilder},
+ * so that the lines of a chunk can be aggregated into a single buffer without creating a
+ * String per item.
+ *
+ * @param <T> type of aggregated items
+ * @since 5.1
+ * @see org.springframework.batch.item.file.FlatFileItemWriter
+ */
+public interface AppendingLineAggregator<T> extends LineAggregator<T> {
+
+	/**
+	 * Append the line of the given item to the given builder, with the same content as
+	 * {@link #aggregate(Object)}.
+	 * @param item the item to aggregate
+	 * @param builder the builder to append the line to
+	 */
+	void aggregate(T item, StringBuilder builder);
+
+}
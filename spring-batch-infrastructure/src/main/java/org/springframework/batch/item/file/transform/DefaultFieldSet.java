@@ -45,13 +45,21 @@ public class DefaultFieldSet implements FieldSet {
 
 	private final static String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
 
-	private DateFormat dateFormat = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
+	/**
+	 * The {@link DateFormat} to use, created on first use if not set.
+	 */
+	@Nullable
+	private DateFormat dateFormat;
 
-	{
-		dateFormat.setLenient(false);
-	}
+	private boolean defaultDateFormat = true;
+
+	/**
+	 * The {@link NumberFormat} to use, created on first use if not set.
+	 */
+	@Nullable
+	private NumberFormat numberFormat;
 
-	private NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+	private boolean defaultNumberFormat = true;
 
 	private String grouping = ",";
 
@@ -71,6 +79,7 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	public final void setNumberFormat(NumberFormat numberFormat) {
 		this.numberFormat = numberFormat;
+		this.defaultNumberFormat = false;
 		if (numberFormat instanceof DecimalFormat) {
 			grouping = String.valueOf(((DecimalFormat) numberFormat).getDecimalFormatSymbols().getGroupingSeparator());
 			decimal = String.valueOf(((DecimalFormat) numberFormat).getDecimalFormatSymbols().getDecimalSeparator());
@@ -84,6 +93,7 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	public void setDateFormat(DateFormat dateFormat) {
 		this.dateFormat = dateFormat;
+		this.defaultDateFormat = false;
 	}
 
 	/**
@@ -94,7 +104,6 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	public DefaultFieldSet(String[] tokens) {
 		this.tokens = tokens == null ? null : tokens.clone();
-		setNumberFormat(NumberFormat.getInstance(Locale.US));
 	}
 
 	/**
@@ -113,7 +122,17 @@ public class DefaultFieldSet implements FieldSet {
 		}
 		this.tokens = tokens.clone();
 		this.names = Arrays.asList(names);
-		setNumberFormat(NumberFormat.getInstance(Locale.US));
+	}
+
+	/**
+	 * Create a FieldSet that uses the given tokens array without copying it, for
+	 * subclasses that resolve the tokens lazily.
+	 * @param tokens the token values, to be resolved by the subclass
+	 * @param names the names of the tokens, or {@code null} if they are anonymous
+	 */
+	DefaultFieldSet(String[] tokens, @Nullable List<String> names) {
+		this.tokens = tokens;
+		this.names = names;
 	}
 
 	/*
@@ -146,7 +165,7 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	@Override
 	public String[] getValues() {
-		return tokens.clone();
+		return tokens().clone();
 	}
 
 	/*
@@ -509,7 +528,7 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	@Override
 	public Date readDate(int index) {
-		return parseDate(readAndTrim(index), dateFormat);
+		return parseDate(readAndTrim(index), getDateFormat());
 	}
 
 	/*
@@ -521,7 +540,7 @@ public class DefaultFieldSet implements FieldSet {
 	@Override
 	public Date readDate(int index, Date defaultValue) {
 		String candidate = readAndTrim(index);
-		return StringUtils.hasText(candidate) ? parseDate(candidate, dateFormat) : defaultValue;
+		return StringUtils.hasText(candidate) ? parseDate(candidate, getDateFormat()) : defaultValue;
 	}
 
 	/*
@@ -630,7 +649,7 @@ public class DefaultFieldSet implements FieldSet {
 	 */
 	@Nullable
 	protected String readAndTrim(int index) {
-		String value = tokens[index];
+		String value = readRawString(index);
 
 		if (value != null) {
 			return value.trim();
@@ -664,7 +683,7 @@ public class DefaultFieldSet implements FieldSet {
 			return getProperties().toString();
 		}
 
-		return tokens == null ? "" : Arrays.asList(tokens).toString();
+		return tokens == null ? "" : Arrays.asList(tokens()).toString();
 	}
 
 	/**
@@ -678,7 +697,7 @@ public class DefaultFieldSet implements FieldSet {
 				return fs.tokens == null;
 			}
 			else {
-				return Arrays.equals(this.tokens, fs.tokens);
+				return Arrays.equals(tokens(), fs.tokens());
 			}
 		}
 
@@ -694,13 +713,21 @@ public class DefaultFieldSet implements FieldSet {
 
 		int result = 1;
 
-		for (String token : tokens) {
+		for (String token : tokens()) {
 			result = 31 * result + (token == null ? 0 : token.hashCode());
 		}
 
 		return result;
 	}
 
+	/**
+	 * Return the token values, resolving them first if a subclass resolves them lazily.
+	 * @return the token values, not copied
+	 */
+	String[] tokens() {
+		return this.tokens;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -721,9 +748,41 @@ public class DefaultFieldSet implements FieldSet {
 		return props;
 	}
 
+	/**
+	 * @return true if no {@link DateFormat} was set, so that dates are parsed with the
+	 * default pattern
+	 */
+	boolean hasDefaultDateFormat() {
+		return this.defaultDateFormat;
+	}
+
+	/**
+	 * @return true if no {@link NumberFormat} was set, so that numbers are parsed with
+	 * the US locale
+	 */
+	boolean hasDefaultNumberFormat() {
+		return this.defaultNumberFormat;
+	}
+
+	private DateFormat getDateFormat() {
+		if (this.dateFormat == null) {
+			SimpleDateFormat dateFormat = new SimpleDateFormat(DEFAULT_DATE_PATTERN);
+			dateFormat.setLenient(false);
+			this.dateFormat = dateFormat;
+		}
+		return this.dateFormat;
+	}
+
+	private NumberFormat getNumberFormat() {
+		if (this.numberFormat == null) {
+			this.numberFormat = NumberFormat.getInstance(Locale.US);
+		}
+		return this.numberFormat;
+	}
+
 	private Number parseNumber(String candidate) {
 		try {
-			return numberFormat.parse(candidate);
+			return getNumberFormat().parse(candidate);
 		}
 		catch (ParseException e) {
 			throw new NumberFormatException("Unparseable number: " + candidate);
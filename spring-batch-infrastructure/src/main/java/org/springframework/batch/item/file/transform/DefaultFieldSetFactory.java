@@ -67,7 +67,7 @@ public class DefaultFieldSetFactory implements FieldSetFactory {
 		return enhance(fieldSet);
 	}
 
-	private FieldSet enhance(DefaultFieldSet fieldSet) {
+	FieldSet enhance(DefaultFieldSet fieldSet) {
 		if (dateFormat != null) {
 			fieldSet.setDateFormat(dateFormat);
 		}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link DefaultFieldSet} created by the {@link DelimitedLineTokenizer} that keeps the
+ * line it was tokenized from and the bounds of its fields in that line. A field is only
+ * extracted from the line when it is first read as a String, so fields that are never
+ * read cost no String.
+ * <p>
+ * Unless a number or date format is set, {@link #readInt(int)}, {@link #readLong(int)},
+ * {@link #readBigDecimal(int)} and {@link #readDate(int)} parse plain unquoted values
+ * (like {@code -42}, {@code 3.14} or {@code 2023-10-17}) directly from the line, with the
+ * same result as {@link DefaultFieldSet}. Other values are parsed by
+ * {@link DefaultFieldSet}.
+ *
+ * @since 5.1
+ */
+class DelimitedFieldSet extends DefaultFieldSet {
+
+	/**
+	 * Offset of a field that is empty and not part of the line, like the field after a
+	 * trailing delimiter.
+	 */
+	static final int EMPTY_FIELD = -1;
+
+	private static final long NOT_PARSED = Long.MIN_VALUE;
+
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private static final int MAX_INT_DIGITS = 9;
+
+	private final DelimitedLineTokenizer tokenizer;
+
+	private final String line;
+
+	private final int[] bounds;
+
+	private final String[] values;
+
+	@Nullable
+	private final Map<String, Integer> nameIndexes;
+
+	@Nullable
+	private Calendar calendar;
+
+	/**
+	 * Create a field set for the given line.
+	 * @param tokenizer the tokenizer that extracts the fields from the line
+	 * @param line the tokenized line
+	 * @param bounds the offset and length of each field in the line, in pairs
+	 * @param fieldCount the number of fields, which can be less than the number of pairs
+	 * @param names the names of the fields, or {@code null} if they are anonymous
+	 * @param nameIndexes the index of each name, or {@code null} if the fields are
+	 * anonymous
+	 */
+	DelimitedFieldSet(DelimitedLineTokenizer tokenizer, String line, int[] bounds, int fieldCount,
+			@Nullable String[] names, @Nullable Map<String, Integer> nameIndexes) {
+		this(tokenizer, line, bounds, new String[fieldCount], names, nameIndexes);
+	}
+
+	private DelimitedFieldSet(DelimitedLineTokenizer tokenizer, String line, int[] bounds, String[] values,
+			@Nullable String[] names, @Nullable Map<String, Integer> nameIndexes) {
+		super(values, names == null ? null : Arrays.asList(names));
+		this.tokenizer = tokenizer;
+		this.line = line;
+		this.bounds = bounds;
+		this.values = values;
+		this.nameIndexes = nameIndexes;
+	}
+
+	@Override
+	public String readRawString(int index) {
+		String value = this.values[index];
+		if (value == null) {
+			value = this.tokenizer.extractField(this.line, this.bounds[2 * index], this.bounds[2 * index + 1]);
+			this.values[index] = value;
+		}
+		return value;
+	}
+
+	@Override
+	public int readInt(int index) {
+		long value = hasDefaultNumberFormat() ? parseLong(index, MAX_LONG_DIGITS) : NOT_PARSED;
+		return value != NOT_PARSED ? (int) value : super.readInt(index);
+	}
+
+	@Override
+	public int readInt(int index, int defaultValue) {
+		long value = parseLong(index, MAX_INT_DIGITS);
+		return value != NOT_PARSED ? (int) value : super.readInt(index, defaultValue);
+	}
+
+	@Override
+	public long readLong(int index) {
+		long value = hasDefaultNumberFormat() ? parseLong(index, MAX_LONG_DIGITS) : NOT_PARSED;
+		return value != NOT_PARSED ? value : super.readLong(index);
+	}
+
+	@Override
+	public long readLong(int index, long defaultValue) {
+		long value = parseLong(index, MAX_LONG_DIGITS);
+		return value != NOT_PARSED ? value : super.readLong(index, defaultValue);
+	}
+
+	@Override
+	public BigDecimal readBigDecimal(int index, BigDecimal defaultValue) {
+		BigDecimal value = hasDefaultNumberFormat() ? parseBigDecimal(index) : null;
+		return value != null ? value : super.readBigDecimal(index, defaultValue);
+	}
+
+	@Override
+	public Date readDate(int index) {
+		Date value = hasDefaultDateFormat() ? parseDate(index) : null;
+		return value != null ? value : super.readDate(index);
+	}
+
+	@Override
+	public Date readDate(int index, Date defaultValue) {
+		Date value = hasDefaultDateFormat() ? parseDate(index) : null;
+		return value != null ? value : super.readDate(index, defaultValue);
+	}
+
+	@Override
+	protected int indexOf(String name) {
+		Integer index = this.nameIndexes != null ? this.nameIndexes.get(name) : null;
+		return index != null ? index : super.indexOf(name);
+	}
+
+	@Override
+	String[] tokens() {
+		for (int i = 0; i < this.values.length; i++) {
+			readRawString(i);
+		}
+		return this.values;
+	}
+
+	/**
+	 * Parse an optionally negative integer of at most the given number of digits.
+	 * @return the value, or {@link #NOT_PARSED} if the field is not such an integer
+	 */
+	private long parseLong(int index, int maxDigits) {
+		long range = trimmedRange(index);
+		if (range < 0) {
+			return NOT_PARSED;
+		}
+		int start = (int) (range >>> 32);
+		int end = (int) range;
+		boolean negative = this.line.charAt(start) == '-';
+		if (negative) {
+			start++;
+		}
+		int digits = end - start;
+		if (digits == 0 || digits > maxDigits) {
+			return NOT_PARSED;
+		}
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = this.line.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return NOT_PARSED;
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parse an optionally negative decimal number of at most 18 digits, with '.' as
+	 * decimal separator and no grouping separator.
+	 * @return the value, or {@code null} if the field is not such a number
+	 */
+	@Nullable
+	private BigDecimal parseBigDecimal(int index) {
+		long range = trimmedRange(index);
+		if (range < 0) {
+			return null;
+		}
+		int start = (int) (range >>> 32);
+		int end = (int) range;
+		boolean negative = this.line.charAt(start) == '-';
+		if (negative) {
+			start++;
+		}
+		long unscaledValue = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean fraction = false;
+		for (int i = start; i < end; i++) {
+			char c = this.line.charAt(i);
+			if (c == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+			int digit = c - '0';
+			if (digit < 0 || digit > 9 || ++digits > MAX_LONG_DIGITS) {
+				return null;
+			}
+			unscaledValue = unscaledValue * 10 + digit;
+			if (fraction) {
+				scale++;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+		return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, scale);
+	}
+
+	/**
+	 * Parse a date with the default {@code yyyy-MM-dd} pattern, using the same kind of
+	 * calendar as the default date format.
+	 * @return the value, or {@code null} if the field is not a valid date in this pattern
+	 */
+	@Nullable
+	private Date parseDate(int index) {
+		long range = trimmedRange(index);
+		if (range < 0) {
+			return null;
+		}
+		int start = (int) (range >>> 32);
+		int end = (int) range;
+		if (end - start != 10 || this.line.charAt(start + 4) != '-' || this.line.charAt(start + 7) != '-') {
+			return null;
+		}
+		int year = parseDigits(start, start + 4);
+		int month = parseDigits(start + 5, start + 7);
+		int day = parseDigits(start + 8, end);
+		if (year < 0 || month < 0 || day < 0) {
+			return null;
+		}
+		if (this.calendar == null) {
+			this.calendar = Calendar.getInstance();
+			this.calendar.setLenient(false);
+		}
+		this.calendar.clear();
+		this.calendar.set(Calendar.YEAR, year);
+		this.calendar.set(Calendar.MONTH, month - 1);
+		this.calendar.set(Calendar.DAY_OF_MONTH, day);
+		try {
+			return this.calendar.getTime();
+		}
+		catch (IllegalArgumentException e) {
+			// not a valid date, let the date format report it
+			return null;
+		}
+	}
+
+	private int parseDigits(int start, int end) {
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			int digit = this.line.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Find the bounds of a field in the line once trimmed, for parsing.
+	 * @return the start and end of the field in the line, packed in a long, or -1 if the
+	 * field is out of range, empty or quoted
+	 */
+	private long trimmedRange(int index) {
+		if (index < 0 || index >= this.values.length || this.bounds[2 * index] == EMPTY_FIELD) {
+			return -1;
+		}
+		int start = this.bounds[2 * index];
+		int end = start + this.bounds[2 * index + 1];
+		while (start < end && this.line.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && this.line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start == end || this.tokenizer.isQuoteCharacter(this.line.charAt(start))) {
+			return -1;
+		}
+		return ((long) start << 32) | end;
+	}
+
+}
@@ -18,16 +18,22 @@ package org.springframework.batch.item.file.transform;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
+import org.springframework.util.Assert;
+
 /**
  * A {@link LineAggregator} implementation that converts an object into a delimited list
  * of strings. The default delimiter is a comma. An optional quote value can be set to add
  * surrounding quotes for each element of the list. Default is empty string, which means
  * not quotes.
+ * <p>
+ * When used by a {@link org.springframework.batch.item.file.FlatFileItemWriter}, lines
+ * are appended to the buffer of the chunk, with integer fields appended without being
+ * converted to Strings first.
  *
  * @author Dave Syer
  * @author Glenn Renfro
  */
-public class DelimitedLineAggregator<T> extends ExtractorLineAggregator<T> {
+public class DelimitedLineAggregator<T> extends ExtractorLineAggregator<T> implements AppendingLineAggregator<T> {
 
 	private String delimiter = ",";
 
@@ -57,4 +63,37 @@ public class DelimitedLineAggregator<T> extends ExtractorLineAggregator<T> {
 			.collect(Collectors.joining(this.delimiter));
 	}
 
+	/**
+	 * Append the delimited fields of the item to the builder. Subclasses append the
+	 * result of {@link #aggregate(Object)}, since they may override
+	 * {@link #doAggregate(Object[])}.
+	 * @since 5.1
+	 */
+	@Override
+	public void aggregate(T item, StringBuilder builder) {
+		if (getClass() != DelimitedLineAggregator.class) {
+			builder.append(aggregate(item));
+			return;
+		}
+		Assert.notNull(item, "Item is required");
+		Object[] fields = getFieldExtractor().extract(item);
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				builder.append(this.delimiter);
+			}
+			builder.append(this.quoteCharacter);
+			Object field = fields[i];
+			if (field instanceof Integer value) {
+				builder.append(value.intValue());
+			}
+			else if (field instanceof Long value) {
+				builder.append(value.longValue());
+			}
+			else if (field != null) {
+				builder.append(field);
+			}
+			builder.append(this.quoteCharacter);
+		}
+	}
+
 }
@@ -17,11 +17,14 @@
 package org.springframework.batch.item.file.transform;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -29,6 +32,10 @@ import org.springframework.util.StringUtils;
  * A {@link LineTokenizer} implementation that splits the input String on a configurable
  * delimiter. This implementation also supports the use of an escape character to escape
  * delimiters and line endings.
+ * <p>
+ * When the delimiter is a single character and the default {@link FieldSetFactory} is
+ * used, the line is scanned once and the resulting {@link FieldSet} only records where
+ * each field is in the line. Fields are then extracted from the line when they are read.
  *
  * @author Rob Harrop
  * @author Dave Syer
@@ -63,7 +70,10 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 	private String escapedQuoteString;
 
-	private Collection<Integer> includedFields = null;
+	private BitSet includedFields = null;
+
+	@Nullable
+	private volatile NameIndexes nameIndexes;
 
 	/**
 	 * Create a new instance of the {@link DelimitedLineTokenizer} class for the common
@@ -105,9 +115,12 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 * @param includedFields the included fields to set
 	 */
 	public void setIncludedFields(int... includedFields) {
-		this.includedFields = new HashSet<>();
+		this.includedFields = new BitSet();
 		for (int i : includedFields) {
-			this.includedFields.add(i);
+			// negative positions never match a field
+			if (i >= 0) {
+				this.includedFields.set(i);
+			}
 		}
 	}
 
@@ -126,6 +139,118 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		this.escapedQuoteString = String.valueOf(quoteCharacter) + quoteCharacter;
 	}
 
+	/**
+	 * Tokenize the line in a single scan if the delimiter is a single character and the
+	 * field set factory is a {@link DefaultFieldSetFactory}, otherwise delegate to
+	 * {@link #doTokenize(String)}. Subclasses always use {@link #doTokenize(String)}.
+	 * @param line the line to be tokenized (can be {@code null})
+	 * @return the resulting tokens
+	 */
+	@Override
+	public FieldSet tokenize(@Nullable String line) {
+		if (this.delimiter.length() != 1 || getClass() != DelimitedLineTokenizer.class
+				|| getFieldSetFactory().getClass() != DefaultFieldSetFactory.class) {
+			return super.tokenize(line);
+		}
+		if (line == null) {
+			line = "";
+		}
+
+		char delimiterCharacter = this.delimiter.charAt(0);
+		BitSet includedFields = this.includedFields;
+		int[] bounds = new int[2 * Math.max(this.names.length, 16)];
+		int tokenCount = 0;
+		boolean inQuoted = false;
+		int lastCut = 0;
+		int length = line.length();
+		int fieldCount = 0;
+
+		for (int i = 0; i < length; i++) {
+			char currentChar = line.charAt(i);
+			boolean isEnd = (i == (length - 1));
+			boolean isDelimiter = currentChar == delimiterCharacter;
+
+			if ((isDelimiter && !inQuoted) || isEnd) {
+				int endPosition = (isEnd && !isDelimiter) ? length : i;
+				if (includedFields == null || includedFields.get(fieldCount)) {
+					bounds = addBounds(bounds, tokenCount++, lastCut, endPosition - lastCut);
+				}
+				fieldCount++;
+
+				if (isEnd && isDelimiter) {
+					if (includedFields == null || includedFields.get(fieldCount)) {
+						bounds = addBounds(bounds, tokenCount++, DelimitedFieldSet.EMPTY_FIELD, 0);
+					}
+					fieldCount++;
+				}
+
+				lastCut = i + 1;
+			}
+			else if (isQuoteCharacter(currentChar)) {
+				inQuoted = !inQuoted;
+			}
+		}
+
+		if (this.names.length == 0) {
+			return createFieldSet(line, bounds, tokenCount, null);
+		}
+		if (!isStrict()) {
+			while (tokenCount < this.names.length) {
+				bounds = addBounds(bounds, tokenCount++, DelimitedFieldSet.EMPTY_FIELD, 0);
+			}
+			tokenCount = this.names.length;
+		}
+		if (tokenCount != this.names.length) {
+			throw new IncorrectTokenCountException(this.names.length, tokenCount, line);
+		}
+		return createFieldSet(line, bounds, tokenCount, this.names);
+	}
+
+	private FieldSet createFieldSet(String line, int[] bounds, int fieldCount, @Nullable String[] names) {
+		Map<String, Integer> indexes = names != null ? getNameIndexes(names) : null;
+		DefaultFieldSetFactory fieldSetFactory = (DefaultFieldSetFactory) getFieldSetFactory();
+		return fieldSetFactory.enhance(new DelimitedFieldSet(this, line, bounds, fieldCount, names, indexes));
+	}
+
+	/**
+	 * Return the index of each name, computed once for the current names rather than for
+	 * each line.
+	 */
+	private Map<String, Integer> getNameIndexes(String[] names) {
+		NameIndexes nameIndexes = this.nameIndexes;
+		if (nameIndexes == null || nameIndexes.names() != names) {
+			Map<String, Integer> indexes = new HashMap<>();
+			for (int i = 0; i < names.length; i++) {
+				indexes.putIfAbsent(names[i], i);
+			}
+			nameIndexes = new NameIndexes(names, indexes);
+			this.nameIndexes = nameIndexes;
+		}
+		return nameIndexes.indexes();
+	}
+
+	private static int[] addBounds(int[] bounds, int index, int offset, int count) {
+		if (2 * index + 1 >= bounds.length) {
+			bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+		}
+		bounds[2 * index] = offset;
+		bounds[2 * index + 1] = count;
+		return bounds;
+	}
+
+	/**
+	 * Extract a field recorded by {@link #tokenize(String)} from the line.
+	 * @param line the tokenized line
+	 * @param offset the offset of the field in the line, or
+	 * {@link DelimitedFieldSet#EMPTY_FIELD}
+	 * @param count the length of the field in the line
+	 * @return the value of the field
+	 */
+	String extractField(String line, int offset, int count) {
+		return offset == DelimitedFieldSet.EMPTY_FIELD ? ""
+				: substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, offset, count);
+	}
+
 	/**
 	 * Yields the tokens resulting from the splitting of the supplied <code>line</code>.
 	 * @param line the line to be tokenized
@@ -161,7 +286,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 					endPosition = (endPosition - delimiter.length()) + 1;
 				}
 
-				if (includedFields == null || includedFields.contains(fieldCount)) {
+				if (includedFields == null || includedFields.get(fieldCount)) {
 					String value = substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition);
 					tokens.add(value);
 				}
@@ -169,7 +294,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 				fieldCount++;
 
 				if (isEnd && (isDelimiter)) {
-					if (includedFields == null || includedFields.contains(fieldCount)) {
+					if (includedFields == null || includedFields.get(fieldCount)) {
 						tokens.add("");
 					}
 					fieldCount++;
@@ -278,4 +403,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		Assert.state(StringUtils.hasLength(this.delimiter), "A delimiter is required");
 	}
 
+	private record NameIndexes(String[] names, Map<String, Integer> indexes) {
+	}
+
 }
@@ -38,6 +38,14 @@ public abstract class ExtractorLineAggregator<T> implements LineAggregator<T> {
 		this.fieldExtractor = fieldExtractor;
 	}
 
+	/**
+	 * @return the field extractor responsible for splitting an input object up into an
+	 * array of objects
+	 */
+	FieldExtractor<T> getFieldExtractor() {
+		return this.fieldExtractor;
+	}
+
 	/**
 	 * Extract fields from the given item using the {@link FieldExtractor} and then
 	 * aggregate them. Any null field returned by the extractor will be replaced by an
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.math.BigDecimal;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link LineAggregator} that writes the fields of an item in fixed-width columns, the
+ * counterpart of the {@link FixedLengthTokenizer}. Numbers are right-aligned and padded
+ * with the {@link #setNumberPadding(char) number padding}, other values are left-aligned
+ * and padded with the {@link #setPadding(char) padding}, as are the gaps between columns.
+ * Null fields are written as padding. A value longer than its column is an error.
+ * <p>
+ * Unlike a {@link FormatterLineAggregator}, no format string is parsed for each item:
+ * integer fields are written without being converted to Strings first and, when used by a
+ * {@link org.springframework.batch.item.file.FlatFileItemWriter}, lines are appended to
+ * the buffer of the chunk.
+ *
+ * @param <T> type of aggregated items
+ * @since 5.1
+ */
+public class FixedLengthLineAggregator<T> extends ExtractorLineAggregator<T> implements AppendingLineAggregator<T> {
+
+	private Range[] columns = new Range[0];
+
+	private int lineLength;
+
+	private char padding = ' ';
+
+	private char numberPadding = ' ';
+
+	/**
+	 * Set the column of each field, in the order of the fields. Columns are numbered from
+	 * 1, must be bounded and must not overlap.
+	 * @param columns the column ranges
+	 */
+	public void setColumns(Range... columns) {
+		Assert.notNull(columns, "Columns must not be null");
+		int lineLength = 0;
+		for (Range column : columns) {
+			Assert.isTrue(column.hasMaxValue(), () -> "Column " + column + " must have a maximum value");
+			Assert.isTrue(column.getMin() > lineLength, () -> "Column " + column + " overlaps the previous column");
+			lineLength = column.getMax();
+		}
+		this.columns = columns.clone();
+		this.lineLength = lineLength;
+	}
+
+	/**
+	 * Set the character used to pad values that are not numbers, and gaps between
+	 * columns. Defaults to a space.
+	 * @param padding the padding character
+	 */
+	public void setPadding(char padding) {
+		this.padding = padding;
+	}
+
+	/**
+	 * Set the character used to pad numbers. Defaults to a space. If set to {@code '0'},
+	 * the sign of negative numbers is written before the padding.
+	 * @param numberPadding the number padding character
+	 */
+	public void setNumberPadding(char numberPadding) {
+		this.numberPadding = numberPadding;
+	}
+
+	@Override
+	protected String doAggregate(Object[] fields) {
+		StringBuilder builder = new StringBuilder(this.lineLength);
+		append(fields, builder);
+		return builder.toString();
+	}
+
+	@Override
+	public void aggregate(T item, StringBuilder builder) {
+		Assert.notNull(item, "Item is required");
+		append(getFieldExtractor().extract(item), builder);
+	}
+
+	private void append(Object[] fields, StringBuilder builder) {
+		Assert.state(fields.length == this.columns.length,
+				() -> "Expected " + this.columns.length + " fields but got " + fields.length);
+		int position = 1;
+		for (int i = 0; i < fields.length; i++) {
+			Range column = this.columns[i];
+			pad(builder, this.padding, column.getMin() - position);
+			int width = column.getMax() - column.getMin() + 1;
+			Object field = fields[i];
+			if (field instanceof Integer || field instanceof Long || field instanceof Short || field instanceof Byte) {
+				appendLong(builder, ((Number) field).longValue(), width, i);
+			}
+			else if (field instanceof BigDecimal decimal) {
+				appendNumber(builder, decimal.toPlainString(), width, i);
+			}
+			else if (field instanceof Number) {
+				appendNumber(builder, field.toString(), width, i);
+			}
+			else {
+				String value = field == null ? "" : field.toString();
+				checkWidth(value.length(), width, i, value);
+				builder.append(value);
+				pad(builder, this.padding, width - value.length());
+			}
+			position = column.getMax() + 1;
+		}
+	}
+
+	private void appendLong(StringBuilder builder, long value, int width, int index) {
+		if (value == Long.MIN_VALUE) {
+			appendNumber(builder, Long.toString(value), width, index);
+			return;
+		}
+		long absoluteValue = Math.abs(value);
+		int length = value < 0 ? 2 : 1;
+		for (long remaining = absoluteValue; remaining >= 10; remaining /= 10) {
+			length++;
+		}
+		if (length > width) {
+			checkWidth(length, width, index, Long.toString(value));
+		}
+		if (value < 0 && this.numberPadding == '0') {
+			builder.append('-');
+			pad(builder, this.numberPadding, width - length);
+			builder.append(absoluteValue);
+		}
+		else {
+			pad(builder, this.numberPadding, width - length);
+			builder.append(value);
+		}
+	}
+
+	private void appendNumber(StringBuilder builder, String value, int width, int index) {
+		checkWidth(value.length(), width, index, value);
+		if (value.startsWith("-") && this.numberPadding == '0') {
+			builder.append('-');
+			pad(builder, this.numberPadding, width - value.length());
+			builder.append(value, 1, value.length());
+		}
+		else {
+			pad(builder, this.numberPadding, width - value.length());
+			builder.append(value);
+		}
+	}
+
+	private static void checkWidth(int length, int width, int index, String value) {
+		if (length > width) {
+			throw new IllegalStateException(
+					"Value [" + value + "] of field " + index + " is longer than its column width " + width);
+		}
+	}
+
+	private static void pad(StringBuilder builder, char padding, int count) {
+		for (int i = 0; i < count; i++) {
+			builder.append(padding);
+		}
+	}
+
+}
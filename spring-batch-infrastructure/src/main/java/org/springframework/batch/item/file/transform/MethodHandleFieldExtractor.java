@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link FieldExtractor} that reads the given properties of an item, or components of a
+ * record, through method handles resolved once for the class of the items, instead of
+ * wrapping each item in a bean wrapper like {@link BeanWrapperFieldExtractor}. Nested
+ * property paths are not supported.
+ *
+ * @param <T> type of items
+ * @since 5.1
+ */
+public class MethodHandleFieldExtractor<T> implements FieldExtractor<T>, InitializingBean {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private String[] names;
+
+	@Nullable
+	private volatile Getters getters;
+
+	/**
+	 * @param names names of the properties to be extracted by the
+	 * {@link #extract(Object)} method.
+	 */
+	public void setNames(String... names) {
+		Assert.notNull(names, "Names must be non-null");
+		this.names = names.clone();
+		this.getters = null;
+	}
+
+	@Override
+	public Object[] extract(T item) {
+		Getters getters = this.getters;
+		if (getters == null || getters.type() != item.getClass()) {
+			getters = new Getters(item.getClass(), resolveGetters(item.getClass()));
+			this.getters = getters;
+		}
+		MethodHandle[] handles = getters.handles();
+		Object[] values = new Object[handles.length];
+		try {
+			for (int i = 0; i < handles.length; i++) {
+				values[i] = (Object) handles[i].invokeExact((Object) item);
+			}
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException("Unable to extract fields from " + item, e);
+		}
+		return values;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.state(this.names != null, "The 'names' property must be set.");
+	}
+
+	private MethodHandle[] resolveGetters(Class<?> type) {
+		MethodHandle[] handles = new MethodHandle[this.names.length];
+		for (int i = 0; i < handles.length; i++) {
+			Method readMethod = findReadMethod(type, this.names[i]);
+			ReflectionUtils.makeAccessible(readMethod);
+			try {
+				handles[i] = LOOKUP.unreflect(readMethod).asType(GETTER_TYPE);
+			}
+			catch (IllegalAccessException e) {
+				throw new IllegalStateException("Cannot access " + readMethod, e);
+			}
+		}
+		return handles;
+	}
+
+	private static Method findReadMethod(Class<?> type, String name) {
+		if (type.isRecord()) {
+			RecordComponent component = Arrays.stream(type.getRecordComponents())
+				.filter(recordComponent -> recordComponent.getName().equals(name))
+				.findFirst()
+				.orElse(null);
+			if (component != null) {
+				return component.getAccessor();
+			}
+		}
+		PropertyDescriptor property = BeanUtils.getPropertyDescriptor(type, name);
+		Assert.isTrue(property != null && property.getReadMethod() != null,
+				() -> "No readable property [" + name + "] in " + type.getName());
+		return property.getReadMethod();
+	}
+
+	private record Getters(Class<?> type, MethodHandle[] handles) {
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.support.TaskExecutorUtils;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Queue of pages read ahead in the background for the paging item readers. Pages are read
+ * one after the other, each one once the previous one was read, by a {@link TaskExecutor}
+ * and up to a given {@link #setDepth(int) depth} ahead of the page being consumed. Once a
+ * page is found to be the last one, the pages read after it are empty pages that are not
+ * read from the input.
+ * <p>
+ * When a page read fails, the failure is thrown once by {@link #take()} and the pages
+ * queued after it are dropped, so that the next call reads the failed page again.
+ * <p>
+ * This class is <b>not</b> thread-safe: {@link #take()} and {@link #close()} are meant to
+ * be called under the lock of the reader.
+ *
+ * @since 5.1
+ * @param <P> the type of the pages
+ */
+public class PagePrefetcher<P> {
+
+	private static final Log logger = LogFactory.getLog(PagePrefetcher.class);
+
+	private final Supplier<P> pageReader;
+
+	private final Predicate<P> lastPage;
+
+	private final Supplier<P> emptyPage;
+
+	private final Deque<CompletableFuture<P>> pages = new ArrayDeque<>();
+
+	private volatile boolean lastPageRead = false;
+
+	private int depth = 0;
+
+	private TaskExecutor taskExecutor;
+
+	/**
+	 * Create a new {@link PagePrefetcher}.
+	 * @param pageReader reads the next page from the input
+	 * @param lastPage tells whether a page read is the last one
+	 * @param emptyPage creates the empty pages returned after the last one
+	 */
+	public PagePrefetcher(Supplier<P> pageReader, Predicate<P> lastPage, Supplier<P> emptyPage) {
+		this.pageReader = pageReader;
+		this.lastPage = lastPage;
+		this.emptyPage = emptyPage;
+	}
+
+	/**
+	 * The number of pages to read ahead of the one being consumed. Defaults to 0, meaning
+	 * that pages are not read ahead.
+	 * @param depth the maximum number of pages read ahead
+	 */
+	public void setDepth(int depth) {
+		Assert.isTrue(depth >= 0, "prefetchDepth must not be negative");
+		this.depth = depth;
+	}
+
+	/**
+	 * @return the maximum number of pages read ahead
+	 */
+	public int getDepth() {
+		return this.depth;
+	}
+
+	/**
+	 * The {@link TaskExecutor} reading the pages. Defaults to an executor using virtual
+	 * threads when they are available (see
+	 * {@link TaskExecutorUtils#createAsyncTaskExecutor(String)}).
+	 * @param taskExecutor the task executor reading the pages
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "prefetchTaskExecutor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Return the next page, waiting for it to be read if needed, and start reading the
+	 * pages after it up to the depth.
+	 * @return the next page
+	 * @throws Exception if the page could not be read
+	 */
+	public P take() throws Exception {
+		while (this.pages.size() <= this.depth) {
+			CompletableFuture<P> last = this.pages.peekLast();
+			this.pages.add(last == null ? CompletableFuture.supplyAsync(this::readPage, getTaskExecutor())
+					: last.thenApplyAsync(previous -> readPage(), getTaskExecutor()));
+		}
+		try {
+			return this.pages.poll().join();
+		}
+		catch (CompletionException e) {
+			// the pages chained after the failed one fail with the same cause, drop
+			// them so that the failure surfaces once and the page is read again
+			this.pages.clear();
+			if (e.getCause() instanceof Exception exception) {
+				throw exception;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Wait for the pages being read, if any, and drop them.
+	 */
+	public void close() {
+		this.lastPageRead = true;
+		for (CompletableFuture<P> page : this.pages) {
+			try {
+				page.join();
+			}
+			catch (CompletionException e) {
+				logger.debug("Discarding failed page read ahead", e.getCause());
+			}
+		}
+		this.pages.clear();
+		this.lastPageRead = false;
+	}
+
+	private P readPage() {
+		if (this.lastPageRead) {
+			return this.emptyPage.get();
+		}
+		P page = this.pageReader.get();
+		if (this.lastPage.test(page)) {
+			this.lastPageRead = true;
+		}
+		return page;
+	}
+
+	private TaskExecutor getTaskExecutor() {
+		if (this.taskExecutor == null) {
+			this.taskExecutor = TaskExecutorUtils.createAsyncTaskExecutor("page-prefetch-");
+		}
+		return this.taskExecutor;
+	}
+
+}
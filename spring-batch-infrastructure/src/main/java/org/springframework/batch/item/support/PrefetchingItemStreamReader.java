@@ -0,0 +1,284 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Thread-safe {@link ItemStreamReader} decorator that reads items from the delegate in
+ * batches, so that threads of a multi-threaded step contend once per batch instead of
+ * once per item.
+ * <p>
+ * The first thread finding the current batch exhausted reads the next batch from the
+ * delegate while holding a lock, and other threads arriving at the end of the batch wait
+ * for it. Items of a published batch are handed to reading threads with a single atomic
+ * increment, without locking. An exception thrown by the delegate is rethrown to one
+ * reading thread once the items read before it have been handed out, and reading resumes
+ * after it on the next call, as with the delegate itself.
+ * <p>
+ * The state of the delegate is not saved: {@link #update(ExecutionContext)} does not call
+ * the delegate, since its state counts the items of the current batch that no thread
+ * received yet, and a restart from it would skip them. A restarted step reads the input
+ * again from the start.
+ * <p>
+ * The handoff of batches is monitored with meters registered in the
+ * {@link #setMeterRegistry(MeterRegistry) meter registry} when the reader is opened:
+ * {@value #METRICS_PREFIX}{@code .read}, a timer of the batches read from the delegate,
+ * {@value #METRICS_PREFIX}{@code .items}, a counter of the items read from the delegate,
+ * and {@value #METRICS_PREFIX}{@code .wait}, a counter of the times a thread waited for
+ * another thread to read a batch. They are tagged with the {@link #setName(String) name}
+ * of the reader.
+ *
+ * @since 5.1
+ * @param <T> type of object being read
+ */
+public class PrefetchingItemStreamReader<T> implements ItemStreamReader<T>, InitializingBean {
+
+	/**
+	 * The default number of items read from the delegate at a time.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	/**
+	 * The prefix of the names of the meters registered by this reader.
+	 */
+	public static final String METRICS_PREFIX = "spring.batch.item.prefetch";
+
+	private ItemStreamReader<T> delegate;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private String name;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile Batch batch = new Batch(new Object[0], 0, false, null);
+
+	private final LongAdder batchCount = new LongAdder();
+
+	private final LongAdder itemCount = new LongAdder();
+
+	private final LongAdder readNanos = new LongAdder();
+
+	private final LongAdder waitCount = new LongAdder();
+
+	public void setDelegate(ItemStreamReader<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the number of items read from the delegate at a time. A larger batch means less
+	 * contention between reading threads, but more items read ahead of processing.
+	 * Defaults to {@link #DEFAULT_BATCH_SIZE}.
+	 * @param batchSize the number of items to read at a time
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the name of the reader, used to tag its meters. Defaults to the short class
+	 * name of the delegate.
+	 * @param name the name of the reader
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Set the meter registry to use for metrics. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Return the next item, reading the next batch from the delegate if the current one
+	 * is exhausted.
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public T read() throws Exception {
+		while (true) {
+			Batch current = this.batch;
+			int index = current.next.getAndIncrement();
+			if (index < current.size) {
+				return (T) current.items[index];
+			}
+			if (current.last) {
+				return null;
+			}
+			if (!this.lock.tryLock()) {
+				this.waitCount.increment();
+				this.lock.lock();
+			}
+			try {
+				if (this.batch == current) {
+					if (current.failure != null) {
+						this.batch = new Batch(new Object[0], 0, false, null);
+						throw current.failure;
+					}
+					this.batch = readBatch();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private Batch readBatch() {
+		long start = System.nanoTime();
+		Object[] items = new Object[this.batchSize];
+		int size = 0;
+		boolean last = false;
+		Exception failure = null;
+		try {
+			while (size < items.length) {
+				T item = this.delegate.read();
+				if (item == null) {
+					last = true;
+					break;
+				}
+				items[size++] = item;
+			}
+		}
+		catch (Exception e) {
+			failure = e;
+		}
+		this.batchCount.increment();
+		this.itemCount.add(size);
+		this.readNanos.add(System.nanoTime() - start);
+		return new Batch(items, size, last, failure);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		this.batch = new Batch(new Object[0], 0, false, null);
+		registerMeters();
+		this.delegate.open(executionContext);
+	}
+
+	/**
+	 * Does not save the state of the delegate, which includes the items read ahead that
+	 * were not handed out yet.
+	 */
+	@Override
+	public void update(ExecutionContext executionContext) {
+	}
+
+	@Override
+	public void close() {
+		this.batch = new Batch(new Object[0], 0, false, null);
+		this.delegate.close();
+	}
+
+	/**
+	 * @return the number of batches read from the delegate
+	 */
+	public long getBatchCount() {
+		return this.batchCount.sum();
+	}
+
+	/**
+	 * @return the number of items read from the delegate
+	 */
+	public long getItemCount() {
+		return this.itemCount.sum();
+	}
+
+	/**
+	 * @return the time spent reading batches from the delegate, in nanoseconds
+	 */
+	public long getReadNanos() {
+		return this.readNanos.sum();
+	}
+
+	/**
+	 * @return the number of times a thread waited for another thread to read a batch
+	 */
+	public long getWaitCount() {
+		return this.waitCount.sum();
+	}
+
+	private void registerMeters() {
+		String readerName = this.name != null ? this.name : ClassUtils.getShortName(this.delegate.getClass());
+		FunctionTimer
+			.builder(METRICS_PREFIX + ".read", this, PrefetchingItemStreamReader::getBatchCount,
+					PrefetchingItemStreamReader::getReadNanos, TimeUnit.NANOSECONDS)
+			.description("Batches read from the delegate")
+			.tag("name", readerName)
+			.register(this.meterRegistry);
+		FunctionCounter.builder(METRICS_PREFIX + ".items", this, PrefetchingItemStreamReader::getItemCount)
+			.description("Items read from the delegate")
+			.tag("name", readerName)
+			.register(this.meterRegistry);
+		FunctionCounter.builder(METRICS_PREFIX + ".wait", this, PrefetchingItemStreamReader::getWaitCount)
+			.description("Waits for a batch read by another thread")
+			.tag("name", readerName)
+			.register(this.meterRegistry);
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		Assert.state(this.delegate != null, "A delegate item reader is required");
+		Assert.state(this.batchSize > 0, "The batch size must be greater than zero");
+	}
+
+	private static final class Batch {
+
+		private final Object[] items;
+
+		private final int size;
+
+		private final boolean last;
+
+		@Nullable
+		private final Exception failure;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private Batch(Object[] items, int size, boolean last, @Nullable Exception failure) {
+			this.items = items;
+			this.size = size;
+			this.last = last;
+			this.failure = failure;
+		}
+
+	}
+
+}
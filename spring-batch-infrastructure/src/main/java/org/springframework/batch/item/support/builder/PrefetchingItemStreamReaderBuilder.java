@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support.builder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.PrefetchingItemStreamReader;
+import org.springframework.util.Assert;
+
+/**
+ * Creates a fully qualified {@link PrefetchingItemStreamReader}.
+ *
+ * @since 5.1
+ */
+public class PrefetchingItemStreamReaderBuilder<T> {
+
+	private ItemStreamReader<T> delegate;
+
+	private int batchSize = PrefetchingItemStreamReader.DEFAULT_BATCH_SIZE;
+
+	private String name;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+	/**
+	 * The item stream reader to use as a delegate. Items are read from the delegate in
+	 * batches and passed to the caller in
+	 * {@link org.springframework.batch.item.support.PrefetchingItemStreamReader#read()}.
+	 * @param delegate the delegate to set
+	 * @return this instance for method chaining
+	 * @see PrefetchingItemStreamReader#setDelegate(ItemStreamReader)
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> delegate(ItemStreamReader<T> delegate) {
+		this.delegate = delegate;
+
+		return this;
+	}
+
+	/**
+	 * The number of items read from the delegate at a time.
+	 * @param batchSize the batch size to set
+	 * @return this instance for method chaining
+	 * @see PrefetchingItemStreamReader#setBatchSize(int)
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> batchSize(int batchSize) {
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * The name of the reader, used to tag its meters.
+	 * @param name the name to set
+	 * @return this instance for method chaining
+	 * @see PrefetchingItemStreamReader#setName(String)
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> name(String name) {
+		this.name = name;
+
+		return this;
+	}
+
+	/**
+	 * The meter registry to register the meters of the reader in.
+	 * @param meterRegistry the meter registry to set
+	 * @return this instance for method chaining
+	 * @see PrefetchingItemStreamReader#setMeterRegistry(MeterRegistry)
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> meterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		return this;
+	}
+
+	/**
+	 * Returns a fully constructed {@link PrefetchingItemStreamReader}.
+	 * @return a new {@link PrefetchingItemStreamReader}
+	 */
+	public PrefetchingItemStreamReader<T> build() {
+		Assert.notNull(this.delegate, "A delegate is required");
+		Assert.isTrue(this.batchSize > 0, "The batch size must be greater than zero");
+
+		PrefetchingItemStreamReader<T> reader = new PrefetchingItemStreamReader<>();
+		reader.setDelegate(this.delegate);
+		reader.setBatchSize(this.batchSize);
+		reader.setName(this.name);
+		reader.setMeterRegistry(this.meterRegistry);
+		return reader;
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.support;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Utility methods for the task executors created by default by Spring Batch components.
+ *
+ * @since 5.1
+ */
+public class TaskExecutorUtils {
+
+	private TaskExecutorUtils() {
+	}
+
+	/**
+	 * Create a {@link SimpleAsyncTaskExecutor} starting a new virtual thread for each
+	 * task, or a new platform thread if virtual threads are not available (they need Java
+	 * 21).
+	 * @param threadNamePrefix the prefix of the names of the created threads
+	 * @return a new task executor
+	 */
+	public static SimpleAsyncTaskExecutor createAsyncTaskExecutor(String threadNamePrefix) {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		try {
+			taskExecutor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException e) {
+			// virtual threads need Java 21, use platform threads
+		}
+		return taskExecutor;
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkItemProcessorTests {
+
+	private final ChunkItemProcessor<String, String> processor = chunk -> {
+		Chunk<String> outputs = new Chunk<>();
+		for (Chunk<String>.ChunkIterator iterator = chunk.iterator(); iterator.hasNext();) {
+			String item = iterator.next();
+			if (item.equals("filter")) {
+				iterator.remove();
+			}
+			else if (item.equals("fail")) {
+				iterator.remove(new IllegalArgumentException(item));
+			}
+			else {
+				outputs.add(item.toUpperCase());
+			}
+		}
+		return outputs;
+	};
+
+	@Test
+	void testProcessItem() throws Exception {
+		assertEquals("FOO", processor.process("foo"));
+	}
+
+	@Test
+	void testProcessFilteredItem() throws Exception {
+		assertNull(processor.process("filter"));
+	}
+
+	@Test
+	void testProcessFailedItem() {
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> processor.process("fail"));
+		assertEquals("fail", exception.getMessage());
+	}
+
+	@Test
+	void testProcessItemWithChunkFailure() {
+		IllegalStateException failure = new IllegalStateException();
+		ChunkItemProcessor<String, String> processor = chunk -> {
+			throw failure;
+		};
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> processor.process("foo")));
+	}
+
+	@Test
+	void testProcessItemWithMissingOutput() {
+		ChunkItemProcessor<String, String> processor = chunk -> new Chunk<>();
+		assertThrows(IllegalStateException.class, () -> processor.process("foo"));
+	}
+
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.util.SerializationUtils;
@@ -97,6 +98,39 @@ class ExecutionContextTests {
 		assertFalse(context.isDirty());
 	}
 
+	@Test
+	void testChangedKeys() {
+		context.putString("1", "test");
+		context.putString("2", "test");
+		assertEquals(Set.of("1", "2"), context.getChangedKeys());
+		context.clearChangedKeys();
+		assertFalse(context.hasChangedKeys());
+		context.putString("1", "test"); // same value
+		context.putString("3", null); // remove a non-existent item
+		assertFalse(context.hasChangedKeys());
+		context.putString("1", "other");
+		context.remove("2");
+		assertEquals(Set.of("1", "2"), context.getChangedKeys());
+	}
+
+	@Test
+	void testChangedKeysAreCopied() {
+		context.putString("1", "test");
+		ExecutionContext copy = new ExecutionContext(context);
+		assertEquals(Set.of("1"), copy.getChangedKeys());
+		copy.clearChangedKeys();
+		assertTrue(context.hasChangedKeys());
+	}
+
+	@Test
+	void testChangedKeysAfterSerialization() {
+		context.putString("1", "test");
+		ExecutionContext clone = SerializationUtils.clone(context);
+		assertFalse(clone.hasChangedKeys());
+		clone.putString("1", "other");
+		assertEquals(Set.of("1"), clone.getChangedKeys());
+	}
+
 	@Test
 	void testContains() {
 		context.putString("1", "testString");
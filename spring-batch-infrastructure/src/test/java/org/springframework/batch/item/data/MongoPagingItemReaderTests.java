@@ -18,28 +18,36 @@ package org.springframework.batch.item.data;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -337,6 +345,111 @@ class MongoPagingItemReaderTests {
 		}), eq(String.class), eq("collection"));
 	}
 
+	@Test
+	void testKeysetPagination() throws Exception {
+		reader.setKeysetPagination(true);
+		reader.setPageSize(2);
+		when(template.scroll(any(), eq(String.class))).thenReturn(window("a", "b"), window("c"), window());
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+
+		reader.open(new ExecutionContext());
+
+		assertEquals("a", reader.read());
+		assertEquals("b", reader.read());
+		assertEquals("c", reader.read());
+		assertNull(reader.read());
+		verify(template, times(3)).scroll(queries.capture(), eq(String.class));
+		assertTrue(queries.getAllValues().get(0).getKeyset().isInitial());
+		assertEquals(Map.of("name", "b"), queries.getAllValues().get(1).getKeyset().getKeys());
+		assertEquals(Map.of("name", "c"), queries.getAllValues().get(2).getKeyset().getKeys());
+		assertEquals(2, queries.getAllValues().get(1).getLimit());
+		assertEquals(0, queries.getAllValues().get(1).getSkip());
+		assertEquals("{\"name\": -1}", queries.getAllValues().get(1).getSortObject().toJson());
+	}
+
+	@Test
+	void testKeysetPaginationRestart() throws Exception {
+		reader.setName("reader");
+		reader.setKeysetPagination(true);
+		reader.setPageSize(2);
+		when(template.scroll(any(), eq(String.class))).thenReturn(window("a", "b"), window("c", "d"), window("d"),
+				window());
+		ExecutionContext executionContext = new ExecutionContext();
+
+		reader.open(executionContext);
+		reader.read();
+		reader.read();
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(Map.of("name", "c"), executionContext.get("reader.start.after"));
+
+		reader.open(executionContext);
+		assertEquals("d", reader.read());
+		assertNull(reader.read());
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(template, times(4)).scroll(queries.capture(), eq(String.class));
+		assertEquals(Map.of("name", "c"), queries.getAllValues().get(2).getKeyset().getKeys());
+	}
+
+	@Test
+	void testKeysetPaginationRestartWithPrefetch() throws Exception {
+		reader.setName("reader");
+		reader.setKeysetPagination(true);
+		reader.setPageSize(2);
+		reader.setPrefetchDepth(1);
+		reader.setPrefetchTaskExecutor(new SyncTaskExecutor());
+		when(template.scroll(any(), eq(String.class))).thenReturn(window("a", "b"), window("c", "d"), window("e"),
+				window("d", "e"), window());
+		ExecutionContext executionContext = new ExecutionContext();
+
+		reader.open(executionContext);
+		assertEquals("a", reader.read());
+		assertEquals("b", reader.read());
+		assertEquals("c", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		verify(template, times(3)).scroll(any(), eq(String.class));
+		assertEquals(Map.of("name", "c"), executionContext.get("reader.start.after"));
+
+		reader.open(executionContext);
+		assertEquals("d", reader.read());
+		assertEquals("e", reader.read());
+		assertNull(reader.read());
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(template, times(5)).scroll(queries.capture(), eq(String.class));
+		assertEquals(Map.of("name", "c"), queries.getAllValues().get(3).getKeyset().getKeys());
+	}
+
+	@Test
+	void testFailedPageReadAheadIsReadAgain() throws Exception {
+		reader.setPageSize(2);
+		reader.setPrefetchDepth(2);
+		reader.setPrefetchTaskExecutor(new SyncTaskExecutor());
+		when(template.find(any(), eq(String.class))).thenReturn(List.of("a", "b"))
+			.thenThrow(new IllegalStateException("page read failed"))
+			.thenReturn(List.of("c", "d"), List.of("e"), List.of());
+
+		reader.open(new ExecutionContext());
+		assertEquals("a", reader.read());
+		assertEquals("b", reader.read());
+		assertThrows(IllegalStateException.class, reader::read);
+		assertEquals("c", reader.read());
+		assertEquals("d", reader.read());
+		assertEquals("e", reader.read());
+		assertNull(reader.read());
+		reader.close();
+
+		verify(template, times(5)).find(any(), eq(String.class));
+	}
+
+	private static Window<String> window(String... items) {
+		List<String> content = List.of(items);
+		return Window.from(content, index -> ScrollPosition.forward(Map.of("name", content.get(index))));
+	}
+
 	@Test
 	void testSortThrowsExceptionWhenInvokedWithNull() {
 		// given
@@ -29,13 +29,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.adapter.DynamicMethodInvocationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import static java.util.Collections.singletonList;
@@ -46,8 +49,10 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -319,10 +324,71 @@ class RepositoryItemReaderTests {
 		assertEquals("3", reader.read());
 	}
 
+	@Test
+	void testKeysetPagination() throws Exception {
+		TestRepository keysetRepository = mock();
+		reader.setRepository(keysetRepository);
+		reader.setMethodName("findByStatus");
+		reader.setArguments(singletonList("ACTIVE"));
+		reader.setPageSize(2);
+		reader.setKeysetPagination(true);
+		ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+		when(keysetRepository.findByStatus(any(), positions.capture(), any(), any())).thenReturn(window("1", "2"),
+				window("3"), window());
+
+		reader.open(new ExecutionContext());
+
+		assertEquals("1", reader.read());
+		assertEquals("2", reader.read());
+		assertEquals("3", reader.read());
+		assertNull(reader.read());
+		verify(keysetRepository, times(3)).findByStatus(eq("ACTIVE"), any(), eq(Sort.by(Direction.ASC, "id")),
+				eq(Limit.of(2)));
+		assertEquals(ScrollPosition.keyset(), positions.getAllValues().get(0));
+		assertEquals(ScrollPosition.forward(Map.of("id", "2")), positions.getAllValues().get(1));
+		assertEquals(ScrollPosition.forward(Map.of("id", "3")), positions.getAllValues().get(2));
+	}
+
+	@Test
+	void testKeysetPaginationRestart() throws Exception {
+		TestRepository keysetRepository = mock();
+		reader.setRepository(keysetRepository);
+		reader.setMethodName("findByStatus");
+		reader.setArguments(singletonList("ACTIVE"));
+		reader.setPageSize(2);
+		reader.setKeysetPagination(true);
+		reader.setName("reader");
+		ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+		when(keysetRepository.findByStatus(any(), positions.capture(), any(), any())).thenReturn(window("1", "2"),
+				window("3", "4"), window("4"), window());
+		ExecutionContext executionContext = new ExecutionContext();
+
+		reader.open(executionContext);
+		reader.read();
+		reader.read();
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(Map.of("id", "3"), executionContext.get("reader.start.after"));
+
+		reader.open(executionContext);
+		assertEquals("4", reader.read());
+		assertNull(reader.read());
+		assertEquals(ScrollPosition.forward(Map.of("id", "3")), positions.getAllValues().get(2));
+	}
+
+	private static Window<String> window(String... items) {
+		List<String> content = List.of(items);
+		return Window.from(content, index -> ScrollPosition.forward(Map.of("id", content.get(index))));
+	}
+
 	public interface TestRepository extends PagingAndSortingRepository<Map, Long> {
 
 		Slice<String> findFirstNames(Pageable pageable);
 
+		Window<String> findByStatus(String status, ScrollPosition position, Sort sort, Limit limit);
+
 	}
 
 	// Simple object for readability
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AbstractPagingItemReaderTests {
+
+	@Test
+	void testFailedPageReadAheadIsReadAgain() throws Exception {
+		FailingPageItemReader reader = new FailingPageItemReader(List.of("a", "b", "c", "d", "e"), 1);
+		reader.setPageSize(2);
+		reader.setPrefetchDepth(2);
+		reader.setPrefetchTaskExecutor(new SyncTaskExecutor());
+
+		reader.open(new ExecutionContext());
+		assertEquals("a", reader.read());
+		assertEquals("b", reader.read());
+		assertThrows(IllegalStateException.class, reader::read);
+		assertEquals("c", reader.read());
+		assertEquals("d", reader.read());
+		assertEquals("e", reader.read());
+		assertNull(reader.read());
+		reader.close();
+
+		assertEquals(List.of(0, 1, 1, 2), reader.pagesRead);
+	}
+
+	private static class FailingPageItemReader extends AbstractPagingItemReader<String> {
+
+		private final List<String> items;
+
+		private final List<Integer> pagesRead = new ArrayList<>();
+
+		private int failingPage;
+
+		FailingPageItemReader(List<String> items, int failingPage) {
+			this.items = items;
+			this.failingPage = failingPage;
+		}
+
+		@Override
+		protected void doReadPage() {
+			pagesRead.add(getPage());
+			if (getPage() == failingPage) {
+				failingPage = -1;
+				throw new IllegalStateException("page read failed");
+			}
+			int start = Math.min(getPage() * getPageSize(), items.size());
+			results = items.subList(start, Math.min(start + getPageSize(), items.size()));
+		}
+
+	}
+
+}
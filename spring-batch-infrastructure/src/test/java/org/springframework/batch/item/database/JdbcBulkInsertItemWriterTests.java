@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JdbcBulkInsertItemWriterTests {
+
+	private final JdbcBulkInsertItemWriter<Person> writer = new JdbcBulkInsertItemWriter<>();
+
+	@Test
+	void testMultiRowInsert() throws Exception {
+		EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+		try {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			jdbcTemplate.execute("CREATE TABLE PERSON (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+			configure(dataSource);
+			writer.setMaxRowsPerStatement(2);
+			writer.afterPropertiesSet();
+
+			writer.write(Chunk.of(new Person(1, "foo"), new Person(2, null), new Person(3, "b\"a'r")));
+
+			assertEquals(List.of("foo", "b\"a'r"), jdbcTemplate
+				.queryForList("SELECT NAME FROM PERSON WHERE NAME IS NOT NULL ORDER BY ID", String.class));
+			assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PERSON", Integer.class));
+		}
+		finally {
+			dataSource.shutdown();
+		}
+	}
+
+	@Test
+	void testRowAndByteLimits() throws Exception {
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeUpdate()).thenReturn(2, 1, 1);
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.HSQL);
+		writer.setMaxRowsPerStatement(2);
+		writer.setMaxBytesPerStatement(20);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "a"), new Person(2, "b"), new Person(3, "0123456789"), new Person(4, "c")));
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(connection, times(3)).prepareStatement(sql.capture());
+		assertEquals(
+				List.of("INSERT INTO PERSON (ID, NAME) VALUES (?, ?), (?, ?)",
+						"INSERT INTO PERSON (ID, NAME) VALUES (?, ?)", "INSERT INTO PERSON (ID, NAME) VALUES (?, ?)"),
+				sql.getAllValues());
+	}
+
+	@Test
+	void testOracleBatch() throws Exception {
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement("INSERT INTO PERSON (ID, NAME) VALUES (?, ?)")).thenReturn(statement);
+		when(statement.executeBatch()).thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.ORACLE);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "foo"), new Person(2, "bar")));
+
+		verify(statement, times(2)).addBatch();
+	}
+
+	@Test
+	void testSybaseBatch() throws Exception {
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement("INSERT INTO PERSON (ID, NAME) VALUES (?, ?)")).thenReturn(statement);
+		when(statement.executeBatch()).thenReturn(new int[] { 1, 1 });
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.SYBASE);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "foo"), new Person(2, "bar")));
+
+		verify(statement, times(2)).addBatch();
+	}
+
+	@Test
+	void testPostgresCopy() throws Exception {
+		Connection connection = mock();
+		PGConnection pgConnection = mock();
+		CopyManager copyManager = mock();
+		when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+		List<String> copied = new ArrayList<>();
+		when(copyManager.copyIn(anyString(), any(InputStream.class))).thenAnswer(invocation -> {
+			copied.add(invocation.getArgument(0));
+			copied.add(new String(invocation.<InputStream>getArgument(1).readAllBytes(), StandardCharsets.UTF_8));
+			return 3L;
+		});
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.POSTGRES);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "foo"), new Person(2, null), new Person(3, "b\"a,r")));
+
+		assertEquals(List.of("COPY PERSON (ID, NAME) FROM STDIN WITH (FORMAT csv)",
+				"\"1\",\"foo\"\n\"2\",\n\"3\",\"b\"\"a,r\"\n"), copied);
+	}
+
+	@Test
+	void testMySqlLoadData() throws Exception {
+		Connection connection = mock();
+		Statement statement = mock();
+		JdbcStatement mysqlStatement = mock();
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.unwrap(JdbcStatement.class)).thenReturn(mysqlStatement);
+		when(statement.executeUpdate(anyString())).thenReturn(2);
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.MYSQL);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "a\\b\"c"), new Person(2, null)));
+
+		ArgumentCaptor<InputStream> stream = ArgumentCaptor.forClass(InputStream.class);
+		verify(mysqlStatement).setLocalInfileInputStream(stream.capture());
+		assertEquals("\"1\",\"a\\\\b\\\"c\"\n\"2\",\\N\n",
+				new String(stream.getValue().readAllBytes(), StandardCharsets.UTF_8));
+		verify(statement).executeUpdate("LOAD DATA LOCAL INFILE 'stream' INTO TABLE PERSON CHARACTER SET binary"
+				+ " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\'"
+				+ " LINES TERMINATED BY '\\n' (ID, NAME)");
+	}
+
+	@Test
+	void testVendorBulkLoadDisabled() throws Exception {
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement("INSERT INTO PERSON (ID, NAME) VALUES (?, ?), (?, ?)")).thenReturn(statement);
+		when(statement.executeUpdate()).thenReturn(2);
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.POSTGRES);
+		writer.setVendorBulkLoad(false);
+		writer.afterPropertiesSet();
+
+		writer.write(Chunk.of(new Person(1, "foo"), new Person(2, "bar")));
+
+		verify(statement).setString(4, "bar");
+	}
+
+	@Test
+	void testAssertUpdates() throws Exception {
+		Connection connection = mock();
+		PreparedStatement statement = mock();
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeUpdate()).thenReturn(1);
+		configure(dataSource(connection));
+		writer.setDatabaseType(DatabaseType.H2);
+		writer.afterPropertiesSet();
+
+		assertThrows(JdbcUpdateAffectedIncorrectNumberOfRowsException.class,
+				() -> writer.write(Chunk.of(new Person(1, "foo"), new Person(2, "bar"))));
+	}
+
+	private void configure(DataSource dataSource) {
+		writer.setDataSource(dataSource);
+		writer.setTable("PERSON");
+		writer.setColumns("ID", "NAME");
+		writer.setFieldExtractor(person -> new Object[] { person.id(), person.name() });
+	}
+
+	private static DataSource dataSource(Connection connection) throws Exception {
+		DataSource dataSource = mock();
+		when(dataSource.getConnection()).thenReturn(connection);
+		return dataSource;
+	}
+
+	private record Person(int id, String name) {
+	}
+
+}
@@ -16,10 +16,13 @@
 package org.springframework.batch.item.database;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.junit.jupiter.api.Test;
+
 import org.springframework.batch.item.AbstractItemStreamItemReaderTests;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
@@ -28,6 +31,10 @@ import org.springframework.batch.item.sample.Foo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 /**
  * @author Dave Syer
  * @author Thomas Risberg
@@ -66,6 +73,19 @@ public class JdbcPagingItemReaderCommonTests extends AbstractItemStreamItemReade
 		return reader;
 	}
 
+	@Test
+	void testPageBufferIsReused() throws Exception {
+		JdbcPagingItemReader<Foo> reader = (JdbcPagingItemReader<Foo>) tested;
+		assertEquals(1, reader.read().getValue());
+		List<Foo> page = reader.results;
+
+		for (int i = 2; i <= 5; i++) {
+			assertEquals(i, reader.read().getValue());
+		}
+		assertNull(reader.read());
+		assertSame(page, reader.results);
+	}
+
 	@Override
 	protected void pointToEmptyInput(ItemReader<Foo> tested) throws Exception {
 		JdbcPagingItemReader<Foo> reader = (JdbcPagingItemReader<Foo>) tested;
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.sample.Foo;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringJUnitConfig(locations = "JdbcPagingItemReaderCommonTests-context.xml")
+class JdbcPagingItemReaderPrefetchTests extends JdbcPagingItemReaderCommonTests {
+
+	@Override
+	protected ItemReader<Foo> getItemReader() throws Exception {
+		JdbcPagingItemReader<Foo> reader = (JdbcPagingItemReader<Foo>) super.getItemReader();
+		reader.setPageSize(2);
+		reader.setPrefetchDepth(2);
+		reader.afterPropertiesSet();
+		return reader;
+	}
+
+	@Test
+	void testRestartInPageWithPagesReadAhead() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			assertEquals(i, tested.read().getValue());
+		}
+		testedAsStream().update(executionContext);
+		testedAsStream().close();
+
+		tested = getItemReader();
+		testedAsStream().open(executionContext);
+
+		assertEquals(4, tested.read().getValue());
+		assertEquals(5, tested.read().getValue());
+		assertNull(tested.read());
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.JDBC;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class JdbcUpsertItemWriterTests {
+
+	@Test
+	void testPostgresSql() throws Exception {
+		assertEquals(
+				"INSERT INTO PERSON (ID, NAME, AGE) VALUES (?, ?, ?) ON CONFLICT (ID)"
+						+ " DO UPDATE SET NAME = EXCLUDED.NAME, AGE = EXCLUDED.AGE",
+				sql(DatabaseType.POSTGRES, "NAME", "AGE"));
+		assertEquals("INSERT INTO PERSON (ID) VALUES (?) ON CONFLICT (ID) DO NOTHING", sql(DatabaseType.SQLITE));
+	}
+
+	@Test
+	void testMySqlSql() throws Exception {
+		assertEquals("INSERT INTO PERSON (ID, NAME, AGE) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE"
+				+ " NAME = VALUES(NAME), AGE = VALUES(AGE)", sql(DatabaseType.MYSQL, "NAME", "AGE"));
+		assertEquals("INSERT INTO PERSON (ID) VALUES (?) ON DUPLICATE KEY UPDATE ID = ID", sql(DatabaseType.MARIADB));
+	}
+
+	@Test
+	void testOracleSql() throws Exception {
+		assertEquals(
+				"MERGE INTO PERSON T USING (SELECT ? AS ID, ? AS NAME FROM DUAL) S ON (T.ID = S.ID)"
+						+ " WHEN MATCHED THEN UPDATE SET T.NAME = S.NAME"
+						+ " WHEN NOT MATCHED THEN INSERT (ID, NAME) VALUES (S.ID, S.NAME)",
+				sql(DatabaseType.ORACLE, "NAME"));
+	}
+
+	@Test
+	void testSqlServerSql() throws Exception {
+		assertEquals(
+				"MERGE INTO PERSON T USING (VALUES (?, ?)) AS S (ID, NAME) ON (T.ID = S.ID)"
+						+ " WHEN MATCHED THEN UPDATE SET T.NAME = S.NAME"
+						+ " WHEN NOT MATCHED THEN INSERT (ID, NAME) VALUES (S.ID, S.NAME);",
+				sql(DatabaseType.SQLSERVER, "NAME"));
+		assertEquals("MERGE INTO PERSON T USING (VALUES (?)) AS S (ID) ON (T.ID = S.ID)"
+				+ " WHEN NOT MATCHED THEN INSERT (ID) VALUES (S.ID)", sql(DatabaseType.DB2));
+	}
+
+	@Test
+	void testUnsupportedDatabase() {
+		assertThrows(IllegalStateException.class, () -> sql(DatabaseType.DERBY));
+	}
+
+	@Test
+	void testUpsertWithHsql() throws Exception {
+		testUpsertWithEmbeddedDatabase(EmbeddedDatabaseType.HSQL);
+	}
+
+	@Test
+	void testUpsertWithH2() throws Exception {
+		testUpsertWithEmbeddedDatabase(EmbeddedDatabaseType.H2);
+	}
+
+	@Test
+	void testUpsertWithSqlite(@TempDir Path directory) throws Exception {
+		testUpsert(new SimpleDriverDataSource(new JDBC(), "jdbc:sqlite:" + directory.resolve("upsert.db")));
+	}
+
+	private void testUpsertWithEmbeddedDatabase(EmbeddedDatabaseType type) throws Exception {
+		EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder().setType(type).generateUniqueName(true).build();
+		try {
+			testUpsert(dataSource);
+		}
+		finally {
+			dataSource.shutdown();
+		}
+	}
+
+	private void testUpsert(DataSource dataSource) throws Exception {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE PERSON (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO PERSON (ID, NAME) VALUES (1, 'foo')");
+		JdbcUpsertItemWriter<Map<String, Object>> writer = new JdbcUpsertItemWriter<>();
+		writer.setDataSource(dataSource);
+		writer.setTable("PERSON");
+		writer.setKeyColumns("ID");
+		writer.setValueColumns("NAME");
+		writer.setFieldExtractor(item -> new Object[] { item.get("ID"), item.get("NAME") });
+		writer.afterPropertiesSet();
+
+		Chunk<Map<String, Object>> chunk = Chunk.of(Map.of("ID", 1, "NAME", "bar"), Map.of("ID", 2, "NAME", "baz"));
+		writer.write(chunk);
+		writer.write(chunk);
+
+		assertEquals(List.of("bar", "baz"),
+				jdbcTemplate.queryForList("SELECT NAME FROM PERSON ORDER BY ID", String.class));
+	}
+
+	private static String sql(DatabaseType databaseType, String... valueColumns) throws Exception {
+		JdbcUpsertItemWriter<Object> writer = new JdbcUpsertItemWriter<>();
+		DataSource dataSource = mock();
+		writer.setDataSource(dataSource);
+		writer.setDatabaseType(databaseType);
+		writer.setTable("PERSON");
+		writer.setKeyColumns("ID");
+		writer.setValueColumns(valueColumns);
+		writer.setFieldExtractor(item -> new Object[] { item });
+		writer.afterPropertiesSet();
+		return (String) ReflectionTestUtils.getField(writer, "sql");
+	}
+
+}
@@ -17,17 +17,22 @@ package org.springframework.batch.item.database;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.data.RepositoryItemReader;
+import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
 import org.springframework.batch.item.sample.books.Author;
 import org.springframework.batch.item.sample.books.Book;
+import org.springframework.batch.item.sample.books.data.AuthorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +45,9 @@ class RepositoryItemReaderIntegrationTests {
 	@Autowired
 	private RepositoryItemReader<Author> reader;
 
+	@Autowired
+	private AuthorRepository authorRepository;
+
 	@AfterEach
 	void reinitializeReader() {
 		reader.close();
@@ -118,4 +126,26 @@ class RepositoryItemReaderIntegrationTests {
 		assertEquals("author 3 - book 2", books.get(1).getName(), "Second book must be author 3 - book 2");
 	}
 
+	@Test
+	void testKeysetPaginationRestart() throws Exception {
+		RepositoryItemReader<Author> keysetReader = new RepositoryItemReaderBuilder<Author>().name("keysetReader")
+			.repository(authorRepository)
+			.methodName("findAllBy")
+			.sorts(Map.of("id", Sort.Direction.ASC))
+			.pageSize(2)
+			.keysetPagination(true)
+			.build();
+		ExecutionContext executionContext = new ExecutionContext();
+		keysetReader.open(executionContext);
+		assertEquals("author 1", keysetReader.read().getName());
+		assertEquals("author 2", keysetReader.read().getName());
+		keysetReader.update(executionContext);
+		keysetReader.close();
+
+		keysetReader.open(executionContext);
+		assertEquals("author 3", keysetReader.read().getName());
+		assertNull(keysetReader.read());
+		keysetReader.close();
+	}
+
 }
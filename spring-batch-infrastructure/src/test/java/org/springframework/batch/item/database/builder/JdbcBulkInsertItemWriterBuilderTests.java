@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.database.builder;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.database.JdbcBulkInsertItemWriter;
+import org.springframework.batch.support.DatabaseType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class JdbcBulkInsertItemWriterBuilderTests {
+
+	@Test
+	void testBuild() throws Exception {
+		EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder().generateUniqueName(true).build();
+		try {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			jdbcTemplate.execute("CREATE TABLE FOO (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+			JdbcBulkInsertItemWriter<String> writer = new JdbcBulkInsertItemWriterBuilder<String>()
+				.dataSource(dataSource)
+				.table("FOO")
+				.columns("ID", "NAME")
+				.fieldExtractor(item -> new Object[] { item.length(), item })
+				.maxRowsPerStatement(2)
+				.build();
+
+			writer.write(Chunk.of("a", "bb", "ccc"));
+
+			assertEquals(DatabaseType.HSQL, ReflectionTestUtils.getField(writer, "databaseType"));
+			assertEquals(2, ReflectionTestUtils.getField(writer, "maxRowsPerStatement"));
+			assertEquals(List.of("a", "bb", "ccc"),
+					jdbcTemplate.queryForList("SELECT NAME FROM FOO ORDER BY ID", String.class));
+		}
+		finally {
+			dataSource.shutdown();
+		}
+	}
+
+	@Test
+	void testMissingColumns() {
+		DataSource dataSource = mock();
+		var builder = new JdbcBulkInsertItemWriterBuilder<String>().dataSource(dataSource)
+			.table("FOO")
+			.fieldExtractor(item -> new Object[] { item });
+		Exception exception = assertThrows(IllegalArgumentException.class, builder::build);
+		assertEquals("Columns are required", exception.getMessage());
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileChannelBufferedReaderFactoryTests {
+
+	private final FileChannelBufferedReaderFactory factory = new FileChannelBufferedReaderFactory();
+
+	@Test
+	void testCreateForFile(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "a\r\nbé\nc", StandardCharsets.UTF_8);
+		this.factory.setBufferSize(2);
+
+		try (BufferedReader reader = this.factory.create(new FileSystemResource(file), "UTF-8")) {
+			assertInstanceOf(PositionTrackingBufferedReader.class, reader);
+			assertEquals("a", reader.readLine());
+			assertEquals("bé", reader.readLine());
+			assertEquals("c", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testCreateForStream() throws Exception {
+		try (BufferedReader reader = this.factory.create(new ByteArrayResource("a\nb".getBytes()), "ISO-8859-1")) {
+			assertEquals("a", reader.readLine());
+			assertEquals("b", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testReadCharacters(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "a\r\nbé\nc", StandardCharsets.UTF_8);
+		this.factory.setBufferSize(2);
+
+		try (BufferedReader reader = this.factory.create(new FileSystemResource(file), "UTF-8")) {
+			StringWriter writer = new StringWriter();
+			reader.transferTo(writer);
+			assertEquals("a\r\nbé\nc", writer.toString());
+		}
+	}
+
+	@Test
+	void testCreateWithUnsupportedEncoding() throws Exception {
+		byte[] bytes = "a\nb".getBytes(StandardCharsets.UTF_16);
+		try (BufferedReader reader = this.factory.create(new ByteArrayResource(bytes), "UTF-16")) {
+			assertFalse(reader instanceof PositionTrackingBufferedReader);
+			assertEquals("a", reader.readLine());
+			assertEquals("b", reader.readLine());
+		}
+	}
+
+	@Test
+	void testInvalidBufferSize() {
+		assertThrows(IllegalArgumentException.class, () -> this.factory.setBufferSize(0));
+	}
+
+}
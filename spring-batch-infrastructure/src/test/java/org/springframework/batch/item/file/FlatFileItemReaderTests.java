@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,14 +27,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemCountAware;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
 import org.springframework.batch.item.file.separator.RecordSeparatorPolicy;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.ByteArrayResource;
@@ -263,6 +269,191 @@ class FlatFileItemReaderTests {
 		assertEquals(4, executionContext.getInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.count"));
 	}
 
+	@Test
+	void testRestartFromBytePosition() throws Exception {
+		reader.setRestartFromBytePosition(true);
+		reader.setRecordSeparatorPolicy(new DefaultRecordSeparatorPolicy());
+		reader
+			.setResource(new ByteArrayResource("# comment\r\nlïne1\r\n\"multi\nline2\"\n# comment\nlïne3\rline4\nline5"
+				.getBytes(StandardCharsets.UTF_8)));
+		reader.open(executionContext);
+
+		assertEquals("lïne1", reader.read());
+		assertEquals("\"multi\nline2\"", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		// the comment before the saved position is now a record, replaying the
+		// lines would return it instead of the next record
+		reader
+			.setResource(new ByteArrayResource("record-00\r\nlïne1\r\n\"multi\nline2\"\n# comment\nlïne3\rline4\nline5"
+				.getBytes(StandardCharsets.UTF_8)));
+		reader.open(executionContext);
+
+		assertEquals("lïne3", reader.read());
+		assertEquals("line4", reader.read());
+		assertEquals("line5", reader.read());
+		reader.update(executionContext);
+		assertEquals(5, executionContext.getInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.count"));
+		assertEquals(8, executionContext.getInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".line.count"));
+		reader.close();
+	}
+
+	@Test
+	void testRestartFromBytePositionInFile(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\ntestLine1\ntestLine2\ntestLine3\ntestLine4\n");
+		reader.setRestartFromBytePosition(true);
+		reader.setLinesToSkip(1);
+		reader.setResource(new FileSystemResource(file));
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		assertEquals("testLine2", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(27,
+				executionContext.getLong(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+
+		reader.open(executionContext);
+		assertEquals("testLine3", reader.read());
+		assertEquals("testLine4", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartFromBytePositionWithFileChannelBufferedReaderFactory(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "testLine1\ntestLine2\ntestLine3\n");
+		reader.setRestartFromBytePosition(true);
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(new FileSystemResource(file));
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(10,
+				executionContext.getLong(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+
+		reader.open(executionContext);
+		assertEquals("testLine2", reader.read());
+		assertEquals("testLine3", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartFromLineCountWithFileChannelBufferedReaderFactory(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "testLine1\ntestLine2\ntestLine3\n");
+		reader.setBufferedReaderFactory(new FileChannelBufferedReaderFactory());
+		reader.setResource(new FileSystemResource(file));
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertFalse(executionContext.containsKey(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+
+		Files.writeString(file, "newLine1\ntestLine2\ntestLine3\n");
+		executionContext.putLong(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position", 10);
+		executionContext.putInt(ClassUtils.getShortName(FlatFileItemReader.class) + ".line.count", 1);
+		reader.open(executionContext);
+		assertEquals("testLine2", reader.read());
+		assertEquals("testLine3", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartFromBytePositionWithUnsupportedEncoding() throws Exception {
+		reader.setRestartFromBytePosition(true);
+		reader.setEncoding("UTF-16");
+		reader.setResource(new ByteArrayResource("testLine1\ntestLine2\ntestLine3".getBytes(StandardCharsets.UTF_16)));
+		reader.open(executionContext);
+
+		assertEquals("testLine1", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertFalse(executionContext.containsKey(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+
+		reader.open(executionContext);
+		assertEquals("testLine2", reader.read());
+		assertEquals("testLine3", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testReadByteRange(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\ntestLine1\r\ntestLine2\n# comment\ntestLine3\ntestLine4\n");
+		reader.setLinesToSkip(1);
+		reader.setResource(new FileSystemResource(file));
+
+		reader.setRangeEnd(18);
+		reader.open(executionContext);
+		assertEquals("testLine1", reader.read());
+		assertNull(reader.read());
+		reader.close();
+
+		// the comment is in this range but the line after it is not
+		reader.setRangeStart(18);
+		reader.setRangeEnd(38);
+		reader.open(new ExecutionContext());
+		assertEquals("testLine2", reader.read());
+		assertNull(reader.read());
+		reader.close();
+
+		reader.setRangeStart(38);
+		reader.setRangeEnd(58);
+		reader.open(new ExecutionContext());
+		assertEquals("testLine3", reader.read());
+		assertEquals("testLine4", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testRestartByteRange() throws Exception {
+		reader.setResource(getInputResource("testLine1\ntestLine2\ntestLine3\ntestLine4\ntestLine5\n"));
+		reader.setRangeStart(10);
+		reader.setRangeEnd(40);
+		reader.open(executionContext);
+		assertEquals("testLine2", reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertEquals(20,
+				executionContext.getLong(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+
+		reader.open(executionContext);
+		assertEquals("testLine3", reader.read());
+		assertEquals("testLine4", reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testByteRangeWithUnsupportedEncoding() {
+		reader.setEncoding("UTF-16");
+		reader.setRangeEnd(10);
+		assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+	}
+
+	@Test
+	void testInvalidByteRange() {
+		reader.setRangeStart(10);
+		reader.setRangeEnd(5);
+		assertThrows(IllegalStateException.class, reader::afterPropertiesSet);
+	}
+
 	@Test
 	void testCurrentItemCount() throws Exception {
 
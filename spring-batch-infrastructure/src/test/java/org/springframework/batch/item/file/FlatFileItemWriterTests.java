@@ -31,7 +31,9 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.UnexpectedInputException;
+import org.springframework.batch.item.file.transform.FixedLengthLineAggregator;
 import org.springframework.batch.item.file.transform.PassThroughLineAggregator;
+import org.springframework.batch.item.file.transform.Range;
 import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.WritableResource;
@@ -213,6 +215,21 @@ class FlatFileItemWriterTests {
 	/**
 	 * Regular usage of <code>write(String)</code> method
 	 */
+	@Test
+	void testWriteWithAppendingLineAggregator() throws Exception {
+		FixedLengthLineAggregator<String> lineAggregator = new FixedLengthLineAggregator<>();
+		lineAggregator.setFieldExtractor(item -> item.split(","));
+		lineAggregator.setColumns(new Range(1, 3), new Range(4, 6));
+		writer.setLineAggregator(lineAggregator);
+		writer.open(executionContext);
+		writer.write(Chunk.of("a,b", "c,d"));
+		writer.close();
+
+		assertEquals("a  b  ", readLine());
+		assertEquals("c  d  ", readLine());
+		assertNull(readLine());
+	}
+
 	@Test
 	void testWriteString() throws Exception {
 		writer.open(executionContext);
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PositionTrackingBufferedReader}.
+ */
+class PositionTrackingBufferedReaderTests {
+
+	@Test
+	void testLinesMatchBufferedReader() throws Exception {
+		String longLine = "x".repeat(20_000);
+		String[] inputs = { "", "a", "a\n", "a\nb", "a\r\nb\r\n", "a\rb\r", "\n\n", "\r\n\r\n", "é\nü\r\n€",
+				longLine + "\r\n" + longLine, "a".repeat(8191) + "\r\nb", "a".repeat(8191) + "\rb" };
+		for (String input : inputs) {
+			assertEquals(readWithBufferedReader(input), readWithPositionTrackingReader(input), input);
+		}
+	}
+
+	@Test
+	void testPosition() throws Exception {
+		byte[] bytes = "é\r\nline\rnext\n".getBytes(StandardCharsets.UTF_8);
+		try (PositionTrackingBufferedReader reader = PositionTrackingBufferedReader.create(new ByteArrayResource(bytes),
+				StandardCharsets.UTF_8)) {
+			assertEquals(0, reader.getPosition());
+			reader.readLine();
+			assertEquals(4, reader.getPosition());
+			reader.readLine();
+			assertEquals(9, reader.getPosition());
+			reader.readLine();
+			assertEquals(bytes.length, reader.getPosition());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	void testSkipBytes(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("input.txt");
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			content.append("line").append(i).append('\n');
+		}
+		Files.writeString(file, content);
+		long position = content.substring(0, content.indexOf("line5000\n")).length();
+
+		for (var resource : List.of(new FileSystemResource(file),
+				new ByteArrayResource(content.toString().getBytes(StandardCharsets.UTF_8)))) {
+			try (PositionTrackingBufferedReader reader = PositionTrackingBufferedReader.create(resource,
+					StandardCharsets.UTF_8)) {
+				assertEquals("line0", reader.readLine());
+				reader.skipBytes(position - reader.getPosition());
+				assertEquals(position, reader.getPosition());
+				assertEquals("line5000", reader.readLine());
+				assertThrows(EOFException.class, () -> reader.skipBytes(content.length()));
+			}
+		}
+	}
+
+	@Test
+	void testCharactersMatchInput() throws Exception {
+		String longLine = "x".repeat(20_000);
+		String[] inputs = { "", "a", "a\n", "a\r\nb\r\n", "a\rb\r", "\n\n", "é\nü\r\n€", longLine + "\r\n" + longLine };
+		for (String input : inputs) {
+			try (BufferedReader reader = PositionTrackingBufferedReader
+				.create(new ByteArrayResource(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+				StringWriter writer = new StringWriter();
+				reader.transferTo(writer);
+				assertEquals(input, writer.toString(), input);
+				assertEquals(-1, reader.read());
+			}
+		}
+	}
+
+	@Test
+	void testCharactersAndLines() throws Exception {
+		byte[] bytes = "ab\r\ncd\nef".getBytes(StandardCharsets.UTF_8);
+		try (PositionTrackingBufferedReader reader = PositionTrackingBufferedReader.create(new ByteArrayResource(bytes),
+				StandardCharsets.UTF_8)) {
+			assertTrue(reader.ready());
+			assertEquals('a', reader.read());
+			assertEquals(4, reader.getPosition());
+			assertEquals("b", reader.readLine());
+			assertEquals(1, reader.skip(1));
+			char[] chars = new char[4];
+			assertEquals(2, reader.read(chars, 1, 3));
+			assertEquals("d\n", new String(chars, 1, 2));
+			assertEquals("ef", reader.readLine());
+			assertNull(reader.readLine());
+			assertEquals(-1, reader.read(chars, 0, 4));
+			assertFalse(reader.ready());
+			assertFalse(reader.markSupported());
+			assertThrows(IOException.class, () -> reader.mark(1));
+		}
+	}
+
+	@Test
+	void testSupportedCharsets() {
+		assertTrue(PositionTrackingBufferedReader.supports(StandardCharsets.UTF_8));
+		assertTrue(PositionTrackingBufferedReader.supports(StandardCharsets.US_ASCII));
+		assertTrue(PositionTrackingBufferedReader.supports(StandardCharsets.ISO_8859_1));
+		assertTrue(PositionTrackingBufferedReader.supports(Charset.forName("windows-1252")));
+		assertFalse(PositionTrackingBufferedReader.supports(StandardCharsets.UTF_16));
+		assertFalse(PositionTrackingBufferedReader.supports(Charset.forName("IBM037")));
+	}
+
+	private List<String> readWithBufferedReader(String input) throws Exception {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new StringReader(input))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	private List<String> readWithPositionTrackingReader(String input) throws Exception {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = PositionTrackingBufferedReader
+			.create(new ByteArrayResource(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+}
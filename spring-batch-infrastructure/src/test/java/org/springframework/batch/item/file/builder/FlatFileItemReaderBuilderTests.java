@@ -93,6 +93,24 @@ class FlatFileItemReaderBuilderTests {
 		assertNull(reader.read());
 	}
 
+	@Test
+	void testSimpleDelimitedWithMethodHandleMapping() throws Exception {
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(getResource("1,2,3"))
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.methodHandleMapping(true)
+			.build();
+
+		reader.open(new ExecutionContext());
+		Foo item = reader.read();
+		assertEquals(1, item.getFirst());
+		assertEquals(2, item.getSecond());
+		assertEquals("3", item.getThird());
+		assertNull(reader.read());
+	}
+
 	@Test
 	void testSimpleDelimitedWithWhitespaceCharacter() throws Exception {
 		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
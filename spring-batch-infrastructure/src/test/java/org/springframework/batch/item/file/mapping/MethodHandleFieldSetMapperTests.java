@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.mapping;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MethodHandleFieldSetMapperTests {
+
+	@Test
+	void testMapBean() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class);
+		FieldSet fieldSet = new DefaultFieldSet(
+				new String[] { "42", "1,000", "true", "x", "12.50", "2023-10-17", " foo ", "SHIPPED", "7" },
+				new String[] { "id", "QUANTITY", "paid", "code", "amount", "ORDER_DATE", "customer", "status",
+						"count" });
+
+		Order order = mapper.mapFieldSet(fieldSet);
+
+		assertEquals(42, order.getId());
+		assertEquals(1000L, order.getQuantity());
+		assertTrue(order.isPaid());
+		assertEquals('x', order.getCode());
+		assertEquals(new BigDecimal("12.50"), order.getAmount());
+		assertEquals(fieldSet.readDate(5), order.getOrderDate());
+		assertEquals("foo", order.getCustomer());
+		assertEquals(Status.SHIPPED, order.getStatus());
+		assertEquals(7, order.getCount());
+	}
+
+	@Test
+	void testMapBeanWithEmptyWrapperFields() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1", "", "", "" },
+				new String[] { "id", "amount", "status", "count" });
+
+		Order order = mapper.mapFieldSet(fieldSet);
+
+		assertEquals(1, order.getId());
+		assertNull(order.getAmount());
+		assertNull(order.getStatus());
+		assertNull(order.getCount());
+	}
+
+	@Test
+	void testMapBeanWithNamesGivenAtConstruction() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "id", "customer");
+		DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+
+		Order order = mapper.mapFieldSet(tokenizer.tokenize("3,bar"));
+
+		assertEquals(3, order.getId());
+		assertEquals("bar", order.getCustomer());
+	}
+
+	@Test
+	void testMapBeanWithUnknownField() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1", "foo" }, new String[] { "id", "unknown" });
+
+		Exception exception = assertThrows(IllegalStateException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals("Field [unknown] does not match any property of " + Order.class.getName(), exception.getMessage());
+
+		MethodHandleFieldSetMapper<Order> lenientMapper = new MethodHandleFieldSetMapper<>(Order.class);
+		lenientMapper.setStrict(false);
+		assertEquals(1, lenientMapper.mapFieldSet(fieldSet).getId());
+	}
+
+	@Test
+	void testMapRecord() {
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "1" }, new String[] { "name", "id" });
+
+		Person person = mapper.mapFieldSet(fieldSet);
+
+		assertEquals(new Person(1, "foo", 0L, null), person);
+	}
+
+	@Test
+	void testMapFieldSetWhenFieldNamesAreNotSpecified() {
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1", "foo" });
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals("Field names must be specified", exception.getMessage());
+	}
+
+	public record Person(int id, String name, long version, Date updated) {
+	}
+
+	public enum Status {
+
+		NEW, SHIPPED
+
+	}
+
+	public static class Order {
+
+		private int id;
+
+		private long quantity;
+
+		private boolean paid;
+
+		private char code;
+
+		private BigDecimal amount;
+
+		private Date orderDate;
+
+		private String customer;
+
+		private Status status;
+
+		private Integer count;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public long getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(long quantity) {
+			this.quantity = quantity;
+		}
+
+		public boolean isPaid() {
+			return paid;
+		}
+
+		public void setPaid(boolean paid) {
+			this.paid = paid;
+		}
+
+		public char getCode() {
+			return code;
+		}
+
+		public void setCode(char code) {
+			this.code = code;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public void setAmount(BigDecimal amount) {
+			this.amount = amount;
+		}
+
+		public Date getOrderDate() {
+			return orderDate;
+		}
+
+		public void setOrderDate(Date orderDate) {
+			this.orderDate = orderDate;
+		}
+
+		public String getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(String customer) {
+			this.customer = customer;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+
+	}
+
+}
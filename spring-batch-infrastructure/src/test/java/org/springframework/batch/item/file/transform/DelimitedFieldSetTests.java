@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DelimitedFieldSetTests {
+
+	private static final String[] VALUES = { "0", "42", " -42 ", "007", "-0", "2147483648", "123456789012345678",
+			"1234567890123456789", "+1", "-", "3.14", "-0.50", ".5", "5.", ".", "1,000", "1.2.3", "\"12\"", "12\"",
+			"abc", "", " ", "2023-10-17", " 2023-02-28 ", "2023-02-30", "0000-01-01", "1582-10-10", "2023-1-17",
+			"2023-10-17x" };
+
+	private final DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+
+	@Test
+	void testReadIntMatchesDefaultFieldSet() {
+		assertSameResults(fieldSet -> fieldSet.readInt(0));
+		assertSameResults(fieldSet -> fieldSet.readInt(0, -1));
+	}
+
+	@Test
+	void testReadLongMatchesDefaultFieldSet() {
+		assertSameResults(fieldSet -> fieldSet.readLong(0));
+		assertSameResults(fieldSet -> fieldSet.readLong(0, -1));
+	}
+
+	@Test
+	void testReadBigDecimalMatchesDefaultFieldSet() {
+		assertSameResults(fieldSet -> fieldSet.readBigDecimal(0));
+		assertSameResults(fieldSet -> fieldSet.readBigDecimal(0, BigDecimal.TEN));
+	}
+
+	@Test
+	void testReadDateMatchesDefaultFieldSet() {
+		Date defaultValue = new Date(0);
+		assertSameResults(fieldSet -> fieldSet.readDate(0));
+		assertSameResults(fieldSet -> fieldSet.readDate(0, defaultValue));
+	}
+
+	@Test
+	void testReadByName() {
+		this.tokenizer.setNames("id", "amount", "date", "id");
+		FieldSet fieldSet = this.tokenizer.tokenize("1,2.50,2023-10-17,4");
+		assertEquals(1, fieldSet.readInt("id"));
+		assertEquals(new BigDecimal("2.50"), fieldSet.readBigDecimal("amount"));
+		assertEquals(new DefaultFieldSet(new String[] { "2023-10-17" }).readDate(0), fieldSet.readDate("date"));
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> fieldSet.readInt("foo"));
+		assertEquals("Cannot access column [foo] from [id, amount, date, id]", exception.getMessage());
+
+		this.tokenizer.setNames("a", "b", "c", "d");
+		assertEquals(4, this.tokenizer.tokenize("1,2,3,4").readInt("d"));
+	}
+
+	@Test
+	void testReadWithCustomFormats() {
+		DefaultFieldSetFactory fieldSetFactory = new DefaultFieldSetFactory();
+		fieldSetFactory
+			.setNumberFormat(new DecimalFormat("#,##0.###", DecimalFormatSymbols.getInstance(Locale.GERMANY)));
+		fieldSetFactory.setDateFormat(new SimpleDateFormat("dd.MM.yyyy"));
+		this.tokenizer.setDelimiter(";");
+		this.tokenizer.setFieldSetFactory(fieldSetFactory);
+		FieldSet fieldSet = this.tokenizer.tokenize("1.000;2,5;17.10.2023");
+		assertInstanceOf(DelimitedFieldSet.class, fieldSet);
+		assertEquals(1000, fieldSet.readInt(0));
+		assertEquals(new BigDecimal("2.5"), fieldSet.readBigDecimal(1));
+		assertEquals(new DefaultFieldSet(new String[] { "2023-10-17" }).readDate(0), fieldSet.readDate(2));
+	}
+
+	private void assertSameResults(Function<FieldSet, Object> read) {
+		DelimitedLineTokenizer generalTokenizer = new DelimitedLineTokenizer(";") {
+		};
+		this.tokenizer.setDelimiter(";");
+		for (String value : VALUES) {
+			String line = value + ";next";
+			FieldSet expected = generalTokenizer.tokenize(line);
+			assertInstanceOf(DefaultFieldSet.class, expected);
+			FieldSet fieldSet = this.tokenizer.tokenize(line);
+			assertInstanceOf(DelimitedFieldSet.class, fieldSet);
+			assertEquals(read(read, expected), read(read, fieldSet), value);
+		}
+	}
+
+	private static Object read(Function<FieldSet, Object> read, FieldSet fieldSet) {
+		try {
+			return read.apply(fieldSet);
+		}
+		catch (RuntimeException e) {
+			return e.getClass().getName() + ": " + e.getMessage();
+		}
+	}
+
+}
@@ -58,4 +58,34 @@ class DelimitedLineAggregatorTests {
 		assertEquals("foo,,bar", aggregator.aggregate(new String[] { "foo", null, "bar" }));
 	}
 
+	@Test
+	void testAggregateToBuilder() {
+		DelimitedLineAggregator<Object[]> aggregator = new DelimitedLineAggregator<>();
+		aggregator.setFieldExtractor(item -> item);
+		aggregator.setQuoteCharacter("'");
+		Object[] item = { "foo", null, 42, -7L, 1.5 };
+		StringBuilder builder = new StringBuilder("line:");
+
+		aggregator.aggregate(item, builder);
+
+		assertEquals("line:" + aggregator.aggregate(item), builder.toString());
+		assertEquals("line:'foo','','42','-7','1.5'", builder.toString());
+	}
+
+	@Test
+	void testAggregateToBuilderWithSubclass() {
+		DelimitedLineAggregator<String[]> aggregator = new DelimitedLineAggregator<>() {
+			@Override
+			public String doAggregate(Object[] fields) {
+				return "custom";
+			}
+		};
+		aggregator.setFieldExtractor(item -> item);
+		StringBuilder builder = new StringBuilder();
+
+		aggregator.aggregate(new String[] { "foo" }, builder);
+
+		assertEquals("custom", builder.toString());
+	}
+
 }
@@ -16,9 +16,15 @@
 
 package org.springframework.batch.item.file.transform;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DelimitedLineTokenizerTests {
@@ -380,4 +386,53 @@ class DelimitedLineTokenizerTests {
 		assertEquals("value2\nvalue2cont", line.readString(1));
 	}
 
+	@Test
+	void testSingleCharacterDelimiterMatchesGeneralTokenization() {
+		List<String> lines = Arrays.asList("", " ", ",", ",,", "a", "a,", ",a", "a,b,c", " a , b ,c ", "\"a\",\"b\"",
+				"\"a,b\",c", " \"a\" ,\"b\"\"c\"", "\"a\"b\",c", "a,\"b", "a,\"b,\"", "\"\",\"\"", "a;b,c");
+		DelimitedLineTokenizer generalTokenizer = new DelimitedLineTokenizer() {
+		};
+		for (String line : lines) {
+			assertEquals(Arrays.asList(generalTokenizer.tokenize(line).getValues()),
+					Arrays.asList(tokenizer.tokenize(line).getValues()), line);
+		}
+
+		tokenizer.setIncludedFields(0, 2, 3);
+		generalTokenizer.setIncludedFields(0, 2, 3);
+		for (String line : lines) {
+			assertEquals(Arrays.asList(generalTokenizer.tokenize(line).getValues()),
+					Arrays.asList(tokenizer.tokenize(line).getValues()), line);
+		}
+	}
+
+	@Test
+	void testSingleCharacterDelimiterWithNamesNotStrict() {
+		tokenizer.setNames("A", "B", "C");
+		tokenizer.setStrict(false);
+		FieldSet line = tokenizer.tokenize("a");
+		assertArrayEquals(new String[] { "a", "", "" }, line.getValues());
+		line = tokenizer.tokenize("a,b,c,d");
+		assertArrayEquals(new String[] { "a", "b", "c" }, line.getValues());
+		assertEquals("c", line.readString("C"));
+	}
+
+	@Test
+	void testSingleCharacterDelimiterExtractsFieldsWhenRead() {
+		tokenizer.setNames("A", "B");
+		FieldSet line = tokenizer.tokenize("a,\" b\"\"c \"");
+		assertInstanceOf(DelimitedFieldSet.class, line);
+		assertEquals(" b\"c ", line.readRawString("B"));
+		assertEquals("a", line.readString(0));
+		assertEquals(new DefaultFieldSet(new String[] { "a", " b\"c " }, new String[] { "A", "B" }), line);
+	}
+
+	@Test
+	void testCustomFieldSetFactoryUsesGeneralTokenization() {
+		tokenizer.setFieldSetFactory(new DefaultFieldSetFactory() {
+		});
+		FieldSet line = tokenizer.tokenize("a,b");
+		assertFalse(line instanceof DelimitedFieldSet);
+		assertArrayEquals(new String[] { "a", "b" }, line.getValues());
+	}
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedLengthLineAggregatorTests {
+
+	private final FixedLengthLineAggregator<Object[]> aggregator = new FixedLengthLineAggregator<>();
+
+	@BeforeEach
+	void setUp() {
+		this.aggregator.setFieldExtractor(item -> item);
+		this.aggregator.setColumns(new Range(1, 5), new Range(6, 9), new Range(12, 18));
+	}
+
+	@Test
+	void testAggregate() {
+		assertEquals("foo    42    -1.50",
+				this.aggregator.aggregate(new Object[] { "foo", 42, new BigDecimal("-1.50") }));
+		assertEquals("       -7         ", this.aggregator.aggregate(new Object[] { null, -7L, null }));
+	}
+
+	@Test
+	void testAggregateWithPadding() {
+		this.aggregator.setPadding('_');
+		this.aggregator.setNumberPadding('0');
+		assertEquals("foo__0042__-001.50",
+				this.aggregator.aggregate(new Object[] { "foo", 42, new BigDecimal("-1.50") }));
+		assertEquals("_____-007_________", this.aggregator.aggregate(new Object[] { null, (short) -7, null }));
+	}
+
+	@Test
+	void testAggregateBigDecimalWithoutExponent() {
+		this.aggregator.setColumns(new Range(1, 4), new Range(6, 14));
+		assertEquals("1000 0.0000001",
+				this.aggregator.aggregate(new Object[] { new BigDecimal("1E+3"), new BigDecimal("1E-7") }));
+	}
+
+	@Test
+	void testAggregateToBuilder() {
+		Object[] item = { "foo", 1234, 3.5 };
+		StringBuilder builder = new StringBuilder("line:");
+
+		this.aggregator.aggregate(item, builder);
+
+		assertEquals("line:" + this.aggregator.aggregate(item), builder.toString());
+	}
+
+	@Test
+	void testValueLongerThanColumn() {
+		Exception exception = assertThrows(IllegalStateException.class,
+				() -> this.aggregator.aggregate(new Object[] { "foo", 12345, null }));
+		assertEquals("Value [12345] of field 1 is longer than its column width 4", exception.getMessage());
+		assertThrows(IllegalStateException.class, () -> this.aggregator.aggregate(new Object[] { "foobar", 1, null }));
+	}
+
+	@Test
+	void testWrongFieldCount() {
+		assertThrows(IllegalStateException.class, () -> this.aggregator.aggregate(new Object[] { "foo" }));
+	}
+
+	@Test
+	void testInvalidColumns() {
+		assertThrows(IllegalArgumentException.class, () -> this.aggregator.setColumns(new Range(1)));
+		assertThrows(IllegalArgumentException.class,
+				() -> this.aggregator.setColumns(new Range(1, 5), new Range(5, 6)));
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.file.transform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodHandleFieldExtractorTests {
+
+	private final MethodHandleFieldExtractor<Object> extractor = new MethodHandleFieldExtractor<>();
+
+	@Test
+	void testExtract() {
+		this.extractor.setNames("first", "last", "born");
+		this.extractor.afterPropertiesSet();
+
+		Object[] values = this.extractor.extract(new Name("Alan", "Turing", 1912));
+
+		assertArrayEquals(new Object[] { "Alan", "Turing", 1912 }, values);
+	}
+
+	@Test
+	void testExtractRecord() {
+		this.extractor.setNames("born", "name");
+
+		Object[] values = this.extractor.extract(new Person("Ada", 1815));
+
+		assertArrayEquals(new Object[] { 1815, "Ada" }, values);
+	}
+
+	@Test
+	void testExtractItemsOfDifferentTypes() {
+		this.extractor.setNames("born");
+
+		assertArrayEquals(new Object[] { 1912 }, this.extractor.extract(new Name("Alan", "Turing", 1912)));
+		assertArrayEquals(new Object[] { 1815 }, this.extractor.extract(new Person("Ada", 1815)));
+	}
+
+	@Test
+	void testExtractInvalidProperty() {
+		this.extractor.setNames("first", "birthday");
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> this.extractor.extract(new Name("Alan", "Turing", 1912)));
+		assertEquals("No readable property [birthday] in " + Name.class.getName(), exception.getMessage());
+	}
+
+	@Test
+	void testNamesPropertyMustBeSet() {
+		assertThrows(IllegalStateException.class, this.extractor::afterPropertiesSet);
+		assertThrows(IllegalArgumentException.class, () -> this.extractor.setNames((String[]) null));
+	}
+
+	record Person(String name, int born) {
+	}
+
+}
@@ -16,10 +16,16 @@
 package org.springframework.batch.item.sample.books.data;
 
 import org.springframework.batch.item.sample.books.Author;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuthorRepository extends PagingAndSortingRepository<Author, Integer> {
 
+	Window<Author> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SyncTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PagePrefetcherTests {
+
+	private final List<Integer> pagesRead = new ArrayList<>();
+
+	@Test
+	void testTakePagesUntilLastPage() throws Exception {
+		PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(this::readPage, page -> page == 3, () -> 0);
+		prefetcher.setDepth(2);
+
+		assertEquals(1, prefetcher.take());
+		assertEquals(2, prefetcher.take());
+		assertEquals(3, prefetcher.take());
+		assertEquals(0, prefetcher.take());
+		prefetcher.close();
+
+		assertEquals(List.of(1, 2, 3), this.pagesRead);
+	}
+
+	@Test
+	void testFailedPageIsThrownOnceAndReadAgain() throws Exception {
+		PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(() -> {
+			if (this.pagesRead.size() == 1) {
+				this.pagesRead.add(-1);
+				throw new IllegalStateException("page read failed");
+			}
+			return readPage();
+		}, page -> page == 3, () -> 0);
+		prefetcher.setDepth(2);
+		prefetcher.setTaskExecutor(new SyncTaskExecutor());
+
+		assertEquals(1, prefetcher.take());
+		assertThrows(IllegalStateException.class, prefetcher::take);
+		assertEquals(2, prefetcher.take());
+		assertEquals(3, prefetcher.take());
+		assertEquals(0, prefetcher.take());
+		prefetcher.close();
+	}
+
+	@Test
+	void testNegativeDepth() {
+		PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(this::readPage, page -> true, () -> 0);
+		assertThrows(IllegalArgumentException.class, () -> prefetcher.setDepth(-1));
+	}
+
+	private Integer readPage() {
+		int page = (int) this.pagesRead.stream().filter(read -> read > 0).count() + 1;
+		this.pagesRead.add(page);
+		return page;
+	}
+
+}
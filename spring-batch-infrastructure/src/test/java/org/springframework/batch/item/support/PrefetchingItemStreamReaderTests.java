@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchingItemStreamReaderTests {
+
+	private final PrefetchingItemStreamReader<Integer> reader = new PrefetchingItemStreamReader<>();
+
+	@Test
+	void testReadInBatches() throws Exception {
+		ListItemReader<Integer> delegate = new ListItemReader<>(List.of(1, 2, 3, 4, 5));
+		reader.setDelegate(new ItemStreamReaderAdapter<>(delegate));
+		reader.setBatchSize(2);
+
+		for (int i = 1; i <= 5; i++) {
+			assertEquals(i, reader.read());
+		}
+		assertNull(reader.read());
+		assertNull(reader.read());
+
+		assertEquals(3, reader.getBatchCount());
+		assertEquals(5, reader.getItemCount());
+	}
+
+	@Test
+	void testExceptionAfterBufferedItems() throws Exception {
+		@SuppressWarnings("unchecked")
+		ItemStreamReader<Integer> delegate = mock();
+		ParseException exception = new ParseException("bad item");
+		when(delegate.read()).thenReturn(1).thenThrow(exception).thenReturn(3, (Integer) null);
+		reader.setDelegate(delegate);
+		reader.setBatchSize(10);
+
+		assertEquals(1, reader.read());
+		assertEquals(exception, assertThrows(ParseException.class, reader::read));
+		assertEquals(3, reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testConcurrentReads() throws Exception {
+		List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+		reader.setDelegate(new ItemStreamReaderAdapter<>(new ListItemReader<>(items)));
+		reader.setBatchSize(7);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<Integer>>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> {
+					List<Integer> read = new ArrayList<>();
+					Integer item;
+					while ((item = reader.read()) != null) {
+						read.add(item);
+					}
+					return read;
+				}));
+			}
+			List<Integer> read = new ArrayList<>();
+			for (Future<List<Integer>> future : futures) {
+				read.addAll(future.get());
+			}
+			Collections.sort(read);
+			assertEquals(items, read);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testDelegateStreamIsCalled() {
+		@SuppressWarnings("unchecked")
+		ItemStreamReader<Integer> delegate = mock();
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.setDelegate(delegate);
+
+		reader.open(executionContext);
+		reader.close();
+
+		verify(delegate).open(executionContext);
+		verify(delegate).close();
+	}
+
+	@Test
+	void testStateOfItemsReadAheadIsNotSaved() throws Exception {
+		ListItemReader<Integer> items = new ListItemReader<>(List.of(1, 2, 3, 4, 5));
+		AbstractItemCountingItemStreamItemReader<Integer> delegate = new AbstractItemCountingItemStreamItemReader<>() {
+			@Override
+			protected Integer doRead() {
+				return items.read();
+			}
+
+			@Override
+			protected void doOpen() {
+			}
+
+			@Override
+			protected void doClose() {
+			}
+		};
+		delegate.setName("delegate");
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.setDelegate(delegate);
+		reader.setBatchSize(3);
+
+		reader.open(executionContext);
+		assertEquals(1, reader.read());
+		reader.update(executionContext);
+		reader.close();
+
+		assertTrue(executionContext.isEmpty());
+	}
+
+	@Test
+	void testMeters() throws Exception {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		reader.setDelegate(new ItemStreamReaderAdapter<>(new ListItemReader<>(List.of(1, 2, 3, 4, 5))));
+		reader.setBatchSize(2);
+		reader.setName("reader");
+		reader.setMeterRegistry(meterRegistry);
+
+		reader.open(new ExecutionContext());
+		while (reader.read() != null) {
+		}
+
+		assertEquals(3,
+				meterRegistry.get("spring.batch.item.prefetch.read").tag("name", "reader").functionTimer().count());
+		assertEquals(5,
+				meterRegistry.get("spring.batch.item.prefetch.items").tag("name", "reader").functionCounter().count());
+		assertEquals(0,
+				meterRegistry.get("spring.batch.item.prefetch.wait").tag("name", "reader").functionCounter().count());
+	}
+
+	@Test
+	void testDelegateIsRequired() {
+		Exception expectedException = assertThrows(IllegalStateException.class, reader::afterPropertiesSet);
+		assertEquals("A delegate item reader is required", expectedException.getMessage());
+	}
+
+	private static class ItemStreamReaderAdapter<T> implements ItemStreamReader<T> {
+
+		private final ListItemReader<T> delegate;
+
+		ItemStreamReaderAdapter(ListItemReader<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public T read() {
+			return this.delegate.read();
+		}
+
+	}
+
+}
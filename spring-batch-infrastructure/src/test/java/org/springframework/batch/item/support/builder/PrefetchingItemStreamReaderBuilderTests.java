@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.item.support.builder;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.PrefetchingItemStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrefetchingItemStreamReaderBuilderTests {
+
+	@Test
+	void testBuild() throws Exception {
+		ItemStreamReader<String> delegate = new ItemStreamReader<>() {
+
+			private final List<String> items = List.of("foo", "bar");
+
+			private int index;
+
+			@Override
+			public String read() {
+				return this.index < this.items.size() ? this.items.get(this.index++) : null;
+			}
+		};
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReaderBuilder<String>().delegate(delegate)
+			.batchSize(1)
+			.name("reader")
+			.meterRegistry(meterRegistry)
+			.build();
+
+		reader.open(new ExecutionContext());
+		assertEquals("foo", reader.read());
+		assertEquals("bar", reader.read());
+		assertNull(reader.read());
+		assertEquals(3, reader.getBatchCount());
+		assertEquals(2,
+				meterRegistry.get("spring.batch.item.prefetch.items").tag("name", "reader").functionCounter().count());
+	}
+
+	@Test
+	void testBuilderDelegateIsNotNull() {
+		PrefetchingItemStreamReaderBuilder<Object> builder = new PrefetchingItemStreamReaderBuilder<>();
+
+		Exception expectedException = assertThrows(IllegalArgumentException.class, builder::build);
+
+		assertEquals("A delegate is required", expectedException.getMessage());
+	}
+
+}
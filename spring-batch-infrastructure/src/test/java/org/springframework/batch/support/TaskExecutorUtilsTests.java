@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.support;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskExecutorUtilsTests {
+
+	@Test
+	void testCreateAsyncTaskExecutor() throws Exception {
+		SimpleAsyncTaskExecutor taskExecutor = TaskExecutorUtils.createAsyncTaskExecutor("test-");
+
+		CompletableFuture<String> threadName = new CompletableFuture<>();
+		taskExecutor.execute(() -> threadName.complete(Thread.currentThread().getName()));
+
+		assertTrue(threadName.get().startsWith("test-"));
+	}
+
+}